@@ -40,6 +40,8 @@ public class KubeOperatorConfiguration {
     private final String namespace;
     private final String token;
     private final String cert;
+    private final int servicesPageSize;
+    private final int watchTimeoutSeconds;
 
     @Autowired
     public KubeOperatorConfiguration(
@@ -49,12 +51,17 @@ public class KubeOperatorConfiguration {
             @Value("${kubernetes.service-account.token}") String token,
             @Value("${kubernetes.service-account.cert}") String cert,
 
-            @Value("${kubernetes.cluster.token:#{null}}") Optional<String> devToken) {
+            @Value("${kubernetes.cluster.token:#{null}}") Optional<String> devToken,
+
+            @Value("${kubernetes.services.page-size:500}") int servicesPageSize,
+            @Value("${kubernetes.services.watch-timeout-seconds:5}") int watchTimeoutSeconds) {
 
         this.uri = uri;
         this.namespace = namespace;
         this.token = devToken.orElse(token);
         this.cert = cert;
+        this.servicesPageSize = servicesPageSize;
+        this.watchTimeoutSeconds = watchTimeoutSeconds;
     }
 
     /**
@@ -74,7 +81,7 @@ public class KubeOperatorConfiguration {
                     .setAuthentication(new TokenFileAuthentication(token))
                     .build();
 
-            return new KubeOperator(client, namespace);
+            return new KubeOperator(client, namespace, servicesPageSize, watchTimeoutSeconds);
         } catch (Exception e) {
             log.error("Invalid k8s cluster parameters, can't initialize k8s API. {}", e.getMessage());
             return new KubeOperator();
@@ -97,7 +104,7 @@ public class KubeOperatorConfiguration {
                     .setAuthentication(new AccessTokenAuthentication(token))
                     .build();
 
-            return new KubeOperator(client,namespace);
+            return new KubeOperator(client, namespace, servicesPageSize, watchTimeoutSeconds);
         } catch (Exception e) {
             log.error("Invalid k8s cluster parameters, can't initialize k8s API. {}", e.getMessage());
             return new KubeOperator();
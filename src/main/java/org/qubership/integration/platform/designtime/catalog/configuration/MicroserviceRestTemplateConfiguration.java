@@ -16,33 +16,117 @@
 
 package org.qubership.integration.platform.designtime.catalog.configuration;
 
-import org.jetbrains.annotations.NotNull;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
-import java.util.function.Supplier;
 
+/**
+ * Rest templates for calls to other microservices, backed by pooled Apache HTTP clients.
+ * <ul>
+ *     <li>{@code restTemplateMS} - calls to platform services (runtime catalog, etc.) with regular timeouts</li>
+ *     <li>{@code restTemplateDiscovery} - specification discovery probes with short timeouts,
+ *     so that services not responding do not hold connections</li>
+ * </ul>
+ * Connection pool metrics are published as {@code httpcomponents.httpclient.pool.*} tagged by the client name.
+ */
 @Configuration
 public class MicroserviceRestTemplateConfiguration {
+    private static final String DEFAULT_CLIENT_NAME = "microservices";
+    private static final String DISCOVERY_CLIENT_NAME = "discovery";
+
+    private record HttpClientProfile(
+            Duration connectTimeout,
+            Duration readTimeout,
+            Duration connectionRequestTimeout,
+            int maxTotal,
+            int maxPerRoute
+    ) {}
+
+    @Value("${qip.http-client.idle-timeout:30s}")
+    private Duration idleTimeout;
+
+    @Bean(name = "microservicesHttpClient", destroyMethod = "close")
+    public CloseableHttpClient microservicesHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${qip.http-client.default.connect-timeout:60s}") Duration connectTimeout,
+            @Value("${qip.http-client.default.read-timeout:60s}") Duration readTimeout,
+            @Value("${qip.http-client.default.connection-request-timeout:30s}") Duration connectionRequestTimeout,
+            @Value("${qip.http-client.default.max-total:50}") int maxTotal,
+            @Value("${qip.http-client.default.max-per-route:20}") int maxPerRoute
+    ) {
+        return buildHttpClient(DEFAULT_CLIENT_NAME, meterRegistry, new HttpClientProfile(
+                connectTimeout, readTimeout, connectionRequestTimeout, maxTotal, maxPerRoute));
+    }
+
+    @Bean(name = "discoveryHttpClient", destroyMethod = "close")
+    public CloseableHttpClient discoveryHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${qip.http-client.discovery.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${qip.http-client.discovery.read-timeout:10s}") Duration readTimeout,
+            @Value("${qip.http-client.discovery.connection-request-timeout:10s}") Duration connectionRequestTimeout,
+            @Value("${qip.http-client.discovery.max-total:200}") int maxTotal,
+            @Value("${qip.http-client.discovery.max-per-route:8}") int maxPerRoute
+    ) {
+        return buildHttpClient(DISCOVERY_CLIENT_NAME, meterRegistry, new HttpClientProfile(
+                connectTimeout, readTimeout, connectionRequestTimeout, maxTotal, maxPerRoute));
+    }
 
+    @Primary
     @Bean("restTemplateMS")
-    @ConditionalOnMissingBean
-    public RestTemplate restTemplateMS(RestTemplateBuilder builder) {
+    @ConditionalOnMissingBean(name = "restTemplateMS")
+    public RestTemplate restTemplateMS(RestTemplateBuilder builder,
+                                       @Qualifier("microservicesHttpClient") CloseableHttpClient httpClient) {
         return builder
-                .requestFactory(getClientHttpRequestFactorySupplier())
-                .setConnectTimeout(Duration.ofMillis(60_000))
-                .setReadTimeout(Duration.ofMillis(60_000))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
                 .build();
     }
 
-    private static @NotNull Supplier<ClientHttpRequestFactory> getClientHttpRequestFactorySupplier() {
-        return () -> new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory());
+    @Bean("restTemplateDiscovery")
+    @ConditionalOnMissingBean(name = "restTemplateDiscovery")
+    public RestTemplate restTemplateDiscovery(RestTemplateBuilder builder,
+                                              @Qualifier("discoveryHttpClient") CloseableHttpClient httpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    private CloseableHttpClient buildHttpClient(String name, MeterRegistry meterRegistry, HttpClientProfile profile) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(profile.maxTotal())
+                .setMaxConnPerRoute(profile.maxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(profile.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(profile.readTimeout()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(profile.connectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(profile.readTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
     }
 }
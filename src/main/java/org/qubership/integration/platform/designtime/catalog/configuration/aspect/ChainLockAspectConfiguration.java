@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.configuration.aspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.qubership.integration.platform.designtime.catalog.service.ChainLocks;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Serializes {@link ChainWriteOperation} invocations by chain id with {@link ChainLocks}
+ * and repeats commutative operations failed by a concurrent modification made on another instance.
+ */
+@Slf4j
+@Aspect
+@Configuration
+public class ChainLockAspectConfiguration {
+    private static final String CONFLICTS_METRIC = "qip.chains.conflicts";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final ChainLocks chainLocks;
+    private final int maxRetries;
+    private final Counter retriedCounter;
+    private final Counter rejectedCounter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public ChainLockAspectConfiguration(
+            ChainLocks chainLocks,
+            @Value("${qip.chains.locks.conflict-retries:3}") int maxRetries,
+            MeterRegistry meterRegistry
+    ) {
+        this.chainLocks = chainLocks;
+        this.maxRetries = maxRetries;
+        this.retriedCounter = Counter.builder(CONFLICTS_METRIC)
+                .description("Chain modifications failed by a concurrent modification")
+                .tag(OUTCOME_TAG, "retried")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(CONFLICTS_METRIC)
+                .description("Chain modifications failed by a concurrent modification")
+                .tag(OUTCOME_TAG, "rejected")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(operation)")
+    public Object lockChain(ProceedingJoinPoint joinPoint, ChainWriteOperation operation) throws Throwable {
+        String chainId = getChainId(joinPoint, operation.chainIdParameter());
+        if (chainId == null) {
+            return joinPoint.proceed();
+        }
+
+        Lock lock = chainLocks.acquire(chainId);
+        try {
+            return proceed(joinPoint, chainId, operation.retryOnConflict() ? maxRetries : 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint, String chainId, int retries) throws Throwable {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= retries || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    rejectedCounter.increment();
+                    throw e;
+                }
+                retriedCounter.increment();
+                log.debug("Chain {} was modified concurrently, retrying: {}", chainId, e.getMessage());
+                // Entities of the failed attempt may stay in the request-bound persistence context
+                entityManager.clear();
+            }
+        }
+    }
+
+    private String getChainId(ProceedingJoinPoint joinPoint, String parameterName) {
+        String[] parameterNames = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterName.equals(parameterNames[i])) {
+                return args[i] instanceof String chainId ? chainId : null;
+            }
+        }
+        throw new IllegalStateException("Method " + joinPoint.getSignature().toShortString()
+                + " has no parameter " + parameterName);
+    }
+}
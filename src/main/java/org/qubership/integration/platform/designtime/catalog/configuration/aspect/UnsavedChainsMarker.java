@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.configuration.aspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Collects chains modified within the current transaction and marks them as having unsaved changes
+ * with a single update right before commit, no matter how many nested modifications touched them.
+ */
+@Component
+public class UnsavedChainsMarker {
+    private static final String LAST_IMPORT_HASH_RESET_VALUE = "0";
+    private static final String MARK_UNSAVED_QUERY = """
+            update %s chain set chain.unsavedChanges = true, chain.lastImportHash = '%s'
+            where chain.id in :ids and chain.unsavedChanges = false
+            """.formatted(Chain.class.getName(), LAST_IMPORT_HASH_RESET_VALUE);
+
+    private final ChainRepository chainRepository;
+    private final Counter registeredCounter;
+    private final Counter flushCounter;
+    private final Counter markedCounter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public UnsavedChainsMarker(ChainRepository chainRepository, MeterRegistry meterRegistry) {
+        this.chainRepository = chainRepository;
+        this.registeredCounter = Counter.builder("qip.chains.unsaved-changes.registered")
+                .description("Chain modifications registered for unsaved changes marking")
+                .register(meterRegistry);
+        this.flushCounter = Counter.builder("qip.chains.unsaved-changes.flushes")
+                .description("Updates marking chains as having unsaved changes")
+                .register(meterRegistry);
+        this.markedCounter = Counter.builder("qip.chains.unsaved-changes.marked")
+                .description("Chains marked as having unsaved changes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the chain to be marked before the current transaction commits,
+     * or marks it at once if there is no transaction.
+     */
+    public void register(String chainId) {
+        registeredCounter.increment();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markNow(chainId);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> chainIds = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (chainIds == null) {
+            Set<String> registeredChainIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, registeredChainIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    flush(registeredChainIds);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(UnsavedChainsMarker.this);
+                }
+            });
+            chainIds = registeredChainIds;
+        }
+        chainIds.add(chainId);
+    }
+
+    private void flush(Set<String> chainIds) {
+        if (chainIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        int marked = entityManager.createQuery(MARK_UNSAVED_QUERY)
+                .setParameter("ids", chainIds)
+                .executeUpdate();
+        flushCounter.increment();
+        markedCounter.increment(marked);
+
+        // Chains loaded in the session must reflect the update, otherwise it may be overwritten on commit
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Chain.class);
+        for (String chainId : chainIds) {
+            Object entity = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(chainId, persister));
+            if (entity instanceof Chain chain && !chain.isUnsavedChanges()) {
+                chain.setLastImportHash(LAST_IMPORT_HASH_RESET_VALUE);
+                chain.setUnsavedChanges(true);
+            }
+        }
+        chainIds.clear();
+    }
+
+    private void markNow(String chainId) {
+        Chain chain = chainRepository.getReferenceById(chainId);
+        if (!chain.isUnsavedChanges()) {
+            chain.setLastImportHash(LAST_IMPORT_HASH_RESET_VALUE);
+            chain.setUnsavedChanges(true);
+            chainRepository.save(chain);
+            flushCounter.increment();
+            markedCounter.increment();
+        }
+    }
+}
@@ -21,9 +21,10 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.MaskedField;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
-import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
 import org.qubership.integration.platform.designtime.catalog.service.migration.MigratedChain;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
@@ -37,11 +38,15 @@ import java.util.Optional;
 @Configuration
 public class UnsavedChangesAspectConfiguration {
 
-    private final ChainRepository chainRepository;
+    private final UnsavedChainsMarker unsavedChainsMarker;
+    private final Counter adviceCounter;
 
     @Autowired
-    public UnsavedChangesAspectConfiguration(ChainRepository chainRepository) {
-        this.chainRepository = chainRepository;
+    public UnsavedChangesAspectConfiguration(UnsavedChainsMarker unsavedChainsMarker, MeterRegistry meterRegistry) {
+        this.unsavedChainsMarker = unsavedChainsMarker;
+        this.adviceCounter = Counter.builder("qip.chains.unsaved-changes.advice")
+                .description("Invocations of chain modification methods")
+                .register(meterRegistry);
     }
 
     @Pointcut("@annotation(org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification)")
@@ -50,6 +55,7 @@ public class UnsavedChangesAspectConfiguration {
 
     @AfterReturning(value = "detectChainUnsavedChanges()", returning = "returningValue")
     public void markChainAsUnsaved(Object returningValue) {
+        adviceCounter.increment();
         String chainId = null;
         boolean markUnsavedChanges = true;
 
@@ -106,12 +112,7 @@ public class UnsavedChangesAspectConfiguration {
         }
 
         if (chainId != null && markUnsavedChanges) {
-            Chain chain = chainRepository.getReferenceById(chainId);
-            if (!chain.isUnsavedChanges()) {
-                chain.setLastImportHash("0");
-                chain.setUnsavedChanges(true);
-                chainRepository.save(chain);
-            }
+            unsavedChainsMarker.register(chainId);
         }
     }
 
@@ -32,6 +32,7 @@ import org.qubership.integration.platform.designtime.catalog.service.ddsgenerato
 import org.qubership.integration.platform.designtime.catalog.service.ddsgenerator.exception.TemplateDataEscapingException;
 import org.qubership.integration.platform.designtime.catalog.service.ddsgenerator.exception.TemplateProcessingException;
 import org.qubership.integration.platform.designtime.catalog.service.exportimport.instructions.ImportInstructionsService;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -119,6 +120,11 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(getExceptionDTO(exception));
     }
 
+    @ExceptionHandler(value = {ChainConcurrentModificationException.class, ConcurrencyFailureException.class})
+    public ResponseEntity<ExceptionDTO> handleConcurrentModificationException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(getExceptionDTOWithoutStacktrace(exception));
+    }
+
     @ExceptionHandler(ChainModificationException.class)
     public ResponseEntity<ExceptionDTO> handleChainModificationException(ChainModificationException exception) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(getExceptionDTO(exception));
@@ -16,37 +16,49 @@
 
 package org.qubership.integration.platform.designtime.catalog.kubernetes;
 
+import com.google.gson.reflect.TypeToken;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.KubeApiException;
 import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
-import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 @Slf4j
-public class KubeOperator {
+public class KubeOperator implements KubeServiceClient {
     private static final String DEFAULT_ERR_MESSAGE = "Invalid k8s cluster parameters or API error. ";
-    private static final String REGEX_FOR_SEARCH_BLUEGREEN_SERVICE_NAME = ".*-v\\d+$";
+    private static final String WATCH_ERROR_EVENT = "ERROR";
+    private static final int DEFAULT_SERVICES_PAGE_SIZE = 500;
+    private static final int DEFAULT_WATCH_TIMEOUT_SECONDS = 5;
 
     private final CoreV1Api coreApi;
     private final AppsV1Api appsApi;
 
     private final String namespace;
+    private final KubeServiceCache serviceCache;
 
     public KubeOperator() {
         coreApi = new CoreV1Api();
         appsApi = new AppsV1Api();
         namespace = null;
+        serviceCache = new KubeServiceCache(this, null, DEFAULT_SERVICES_PAGE_SIZE, DEFAULT_WATCH_TIMEOUT_SECONDS);
     }
 
     public KubeOperator(ApiClient client, String namespace) {
+        this(client, namespace, DEFAULT_SERVICES_PAGE_SIZE, DEFAULT_WATCH_TIMEOUT_SECONDS);
+    }
+
+    public KubeOperator(ApiClient client, String namespace, int servicesPageSize, int watchTimeoutSeconds) {
         coreApi = new CoreV1Api();
         coreApi.setApiClient(client);
 
@@ -54,36 +66,80 @@ public class KubeOperator {
         appsApi.setApiClient(client);
 
         this.namespace = namespace;
+        this.serviceCache = new KubeServiceCache(this, namespace, servicesPageSize, watchTimeoutSeconds);
+    }
+
+    /**
+     * Returns all services of the namespace and marks their changes as read by the consumer
+     */
+    public List<KubeService> getServices(String consumer) {
+        return callApi(() -> serviceCache.getServices(consumer));
+    }
+
+    /**
+     * Returns services of the namespace added or modified since the previous call
+     * of this method or {@link #getServices(String)} by the same consumer
+     */
+    public List<KubeService> getChangedServices(String consumer) {
+        return callApi(() -> serviceCache.getChangedServices(consumer));
+    }
+
+    @Override
+    public V1ServiceList listServices(String continueToken, int limit) throws ApiException {
+        return coreApi.listNamespacedService(
+                namespace,
+                null,
+                null,
+                continueToken,
+                null,
+                null,
+                limit,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    @Override
+    public void watchServices(String resourceVersion, int timeoutSeconds, Consumer<ServiceEvent> consumer)
+            throws ApiException {
+        try (Watch<V1Service> watch = Watch.createWatch(
+                coreApi.getApiClient(),
+                coreApi.listNamespacedServiceCall(
+                        namespace,
+                        null,
+                        true,
+                        null,
+                        null,
+                        null,
+                        null,
+                        resourceVersion,
+                        null,
+                        null,
+                        timeoutSeconds,
+                        true,
+                        null
+                ),
+                new TypeToken<Watch.Response<V1Service>>() {}.getType())) {
+            for (Watch.Response<V1Service> event : watch) {
+                if (WATCH_ERROR_EVENT.equals(event.type)) {
+                    V1Status status = event.status;
+                    throw new ApiException(
+                            status == null || status.getCode() == null ? 0 : status.getCode(),
+                            status == null ? "Unknown watch error" : status.getMessage());
+                }
+                consumer.accept(new ServiceEvent(event.type, event.object));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close services watch: {}", e.getMessage());
+        }
     }
 
-    public List<KubeService> getServices() {
+    private <T> T callApi(Callable<T> call) {
         try {
-            V1ServiceList list = coreApi.listNamespacedService(
-                    namespace,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null
-            );
-
-            return list.getItems().stream()
-                    .filter(item -> !(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getName()).matches(REGEX_FOR_SEARCH_BLUEGREEN_SERVICE_NAME)))
-                    .map(item -> KubeService.builder()
-                            .id(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getUid()))
-                            .name(Objects.requireNonNull(item.getMetadata().getName()))
-                            .namespace(namespace)
-                            .ports(
-                                    Objects.requireNonNull(Objects.requireNonNull(item.getSpec()).getPorts()).stream()
-                                            .map(V1ServicePort::getPort).collect(Collectors.toList()
-                                            )).build())
-                    .collect(Collectors.toList());
+            return call.call();
         } catch (ApiException e) {
             log.error(DEFAULT_ERR_MESSAGE + e.getResponseBody());
             throw new KubeApiException(DEFAULT_ERR_MESSAGE + e.getResponseBody(), e);
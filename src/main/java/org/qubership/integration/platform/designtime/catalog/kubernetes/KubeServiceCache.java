@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.kubernetes;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
+
+import java.net.HttpURLConnection;
+import java.util.*;
+
+/**
+ * Informer-style cache of namespaced services.
+ * The first synchronization lists services page by page, subsequent ones apply watch events
+ * since the last known resource version. When the resource version is expired, services are relisted
+ * and compared with the cached ones by their own resource versions.
+ * <p>
+ * Every change of a service gets the next number of a change sequence. Each consumer keeps its own
+ * position in the sequence, so it gets services changed since its own previous call, whatever
+ * other consumers have read.
+ */
+@Slf4j
+public class KubeServiceCache {
+    private static final String REGEX_FOR_SEARCH_BLUEGREEN_SERVICE_NAME = ".*-v\\d+$";
+
+    private final KubeServiceClient client;
+    private final String namespace;
+    private final int pageSize;
+    private final int watchTimeoutSeconds;
+
+    private final Map<String, V1Service> services = new LinkedHashMap<>();
+    // service name -> sequence number of its last change
+    private final Map<String, Long> changeSequences = new HashMap<>();
+    // consumer -> sequence number of the last change it has read
+    private final Map<String, Long> consumedSequences = new HashMap<>();
+    private long sequence;
+    private String resourceVersion;
+
+    public KubeServiceCache(KubeServiceClient client, String namespace, int pageSize, int watchTimeoutSeconds) {
+        this.client = client;
+        this.namespace = namespace;
+        this.pageSize = pageSize;
+        this.watchTimeoutSeconds = watchTimeoutSeconds;
+    }
+
+    /**
+     * Returns all services and marks their changes as read by the consumer.
+     */
+    public synchronized List<KubeService> getServices(String consumer) throws ApiException {
+        sync();
+        consumedSequences.put(consumer, sequence);
+        return toKubeServices(services.values());
+    }
+
+    /**
+     * Returns services added or modified since the previous call of this method or {@link #getServices(String)}
+     * by the same consumer. All services are changed for a consumer which has not read them yet.
+     */
+    public synchronized List<KubeService> getChangedServices(String consumer) throws ApiException {
+        sync();
+        long consumedSequence = consumedSequences.getOrDefault(consumer, 0L);
+        List<V1Service> changed = services.entrySet().stream()
+                .filter(entry -> changeSequences.getOrDefault(entry.getKey(), 0L) > consumedSequence)
+                .map(Map.Entry::getValue)
+                .toList();
+        consumedSequences.put(consumer, sequence);
+        return toKubeServices(changed);
+    }
+
+    private void sync() throws ApiException {
+        if (resourceVersion == null) {
+            relist();
+            return;
+        }
+
+        try {
+            client.watchServices(resourceVersion, watchTimeoutSeconds, this::apply);
+        } catch (ApiException e) {
+            if (e.getCode() != HttpURLConnection.HTTP_GONE) {
+                throw e;
+            }
+            log.debug("Services resource version {} is expired, relisting", resourceVersion);
+            relist();
+        }
+    }
+
+    private void relist() throws ApiException {
+        Map<String, V1Service> listed = new LinkedHashMap<>();
+        String continueToken = null;
+        String listResourceVersion;
+        do {
+            V1ServiceList page = client.listServices(continueToken, pageSize);
+            page.getItems().forEach(item -> listed.put(getName(item), item));
+            V1ObjectMeta listMeta = Objects.requireNonNull(page.getMetadata());
+            listResourceVersion = listMeta.getResourceVersion();
+            continueToken = listMeta.getContinue();
+        } while (StringUtils.isNotEmpty(continueToken));
+
+        for (Map.Entry<String, V1Service> entry : listed.entrySet()) {
+            V1Service cached = services.get(entry.getKey());
+            if (cached == null || !Objects.equals(getResourceVersion(cached), getResourceVersion(entry.getValue()))) {
+                changeSequences.put(entry.getKey(), ++sequence);
+            }
+        }
+        changeSequences.keySet().retainAll(listed.keySet());
+
+        services.clear();
+        services.putAll(listed);
+        resourceVersion = listResourceVersion;
+        log.debug("Listed {} services, resource version {}", services.size(), resourceVersion);
+    }
+
+    private void apply(KubeServiceClient.ServiceEvent event) {
+        V1Service service = event.service();
+        if (service == null) {
+            return;
+        }
+        switch (event.type()) {
+            case KubeServiceClient.EVENT_ADDED, KubeServiceClient.EVENT_MODIFIED -> {
+                services.put(getName(service), service);
+                changeSequences.put(getName(service), ++sequence);
+            }
+            case KubeServiceClient.EVENT_DELETED -> {
+                services.remove(getName(service));
+                changeSequences.remove(getName(service));
+            }
+            default -> {
+                // bookmarks only move the resource version forward
+            }
+        }
+        String eventResourceVersion = getResourceVersion(service);
+        if (eventResourceVersion != null) {
+            resourceVersion = eventResourceVersion;
+        }
+    }
+
+    private List<KubeService> toKubeServices(Collection<V1Service> items) {
+        return items.stream()
+                .filter(item -> !getName(item).matches(REGEX_FOR_SEARCH_BLUEGREEN_SERVICE_NAME))
+                .map(item -> KubeService.builder()
+                        .id(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getUid()))
+                        .name(getName(item))
+                        .namespace(namespace)
+                        .resourceVersion(getResourceVersion(item))
+                        .ports(item.getSpec() == null || item.getSpec().getPorts() == null
+                                ? Collections.emptyList()
+                                : item.getSpec().getPorts().stream().map(V1ServicePort::getPort).toList())
+                        .build())
+                .toList();
+    }
+
+    private static String getName(V1Service service) {
+        return Objects.requireNonNull(Objects.requireNonNull(service.getMetadata()).getName());
+    }
+
+    private static String getResourceVersion(V1Service service) {
+        return service.getMetadata() == null ? null : service.getMetadata().getResourceVersion();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.kubernetes;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+
+import java.util.function.Consumer;
+
+/**
+ * List and watch operations on namespaced services used by {@link KubeServiceCache}.
+ * Separated from {@link KubeOperator} so the cache can be verified against a recorded stub.
+ */
+public interface KubeServiceClient {
+    String EVENT_ADDED = "ADDED";
+    String EVENT_MODIFIED = "MODIFIED";
+    String EVENT_DELETED = "DELETED";
+    String EVENT_BOOKMARK = "BOOKMARK";
+
+    record ServiceEvent(String type, V1Service service) {}
+
+    /**
+     * Lists a single page of services.
+     *
+     * @param continueToken token of the page returned by the previous call, {@code null} for the first page
+     */
+    V1ServiceList listServices(String continueToken, int limit) throws ApiException;
+
+    /**
+     * Streams service events that happened after the resource version until the server closes the watch.
+     * Must throw {@link ApiException} with code 410 if the resource version is too old.
+     */
+    void watchServices(String resourceVersion, int timeoutSeconds, Consumer<ServiceEvent> consumer) throws ApiException;
+}
@@ -18,55 +18,73 @@ package org.qubership.integration.platform.designtime.catalog.model;
 
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
-import org.qubership.integration.platform.catalog.util.DistinctByKey;
 import lombok.Getter;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.*;
+import java.util.function.Function;
 
-@Getter
+/**
+ * Accumulates changes of a chain made by an operation.
+ * <p>
+ * Entities are kept in insertion order, an entity with an already added id keeps the position
+ * of the first one. Created and removed entities keep the first added instance, updated elements
+ * keep the last one, so the response carries the latest state of an element. Entities without
+ * an id are only deduplicated by identity.
+ */
 public class ChainDiff {
 
-    private List<ChainElement> createdElements;
-    private List<ChainElement> updatedElements;
-    private List<ChainElement> removedElements;
+    private final Entries<ChainElement> createdElements = new Entries<>(ChainElement::getId, false);
+    private final Entries<ChainElement> updatedElements = new Entries<>(ChainElement::getId, true);
+    private final Entries<ChainElement> removedElements = new Entries<>(ChainElement::getId, false);
+    @Getter
     private String createdDefaultSwimlaneId;
+    @Getter
     private String createdReuseSwimlaneId;
-    private List<Dependency> createdDependencies;
-    private List<Dependency> removedDependencies;
+    private final Entries<Dependency> createdDependencies = new Entries<>(Dependency::getId, false);
+    private final Entries<Dependency> removedDependencies = new Entries<>(Dependency::getId, false);
+
+    public List<ChainElement> getCreatedElements() {
+        return createdElements.view;
+    }
+
+    public List<ChainElement> getUpdatedElements() {
+        return updatedElements.view;
+    }
+
+    public List<ChainElement> getRemovedElements() {
+        return removedElements.view;
+    }
+
+    public List<Dependency> getCreatedDependencies() {
+        return createdDependencies.view;
+    }
 
-    public ChainDiff() {
-        this.createdElements = new ArrayList<>();
-        this.updatedElements = new ArrayList<>();
-        this.removedElements = new ArrayList<>();
-        this.createdDependencies = new ArrayList<>();
-        this.removedDependencies = new ArrayList<>();
+    public List<Dependency> getRemovedDependencies() {
+        return removedDependencies.view;
     }
 
     public void addCreatedElement(ChainElement chainElement) {
-        addIfNotPresent(createdElements, chainElement);
+        createdElements.add(chainElement);
     }
 
     public void addCreatedElements(List<ChainElement> chainElements) {
-        chainElements.forEach(element -> addIfNotPresent(createdElements, element));
+        chainElements.forEach(createdElements::add);
     }
 
     public void addUpdatedElement(ChainElement chainElement) {
-        addIfNotPresent(updatedElements, chainElement);
+        updatedElements.add(chainElement);
     }
 
     public void addUpdatedElements(List<ChainElement> chainElements) {
-        chainElements.forEach(element -> addIfNotPresent(updatedElements, element));
+        chainElements.forEach(updatedElements::add);
     }
 
     public void addRemovedElement(ChainElement chainElement) {
-        addIfNotPresent(removedElements, chainElement);
+        removedElements.add(chainElement);
     }
 
     public void addRemovedElements(List<ChainElement> chainElements) {
-        chainElements.forEach(element -> addIfNotPresent(removedElements, element));
+        chainElements.forEach(removedElements::add);
     }
 
     public void setCreatedDefaultSwimlaneId(String createdDefaultSwimlaneId) {
@@ -78,52 +96,56 @@ public class ChainDiff {
     }
 
     public void addCreatedDependency(Dependency dependency) {
-        addIfNotPresent(createdDependencies, dependency);
+        createdDependencies.add(dependency);
     }
 
     public void addCreatedDependencies(List<Dependency> dependencies) {
-        dependencies.forEach(dependency -> addIfNotPresent(createdDependencies, dependency));
+        dependencies.forEach(createdDependencies::add);
     }
 
     public void addRemovedDependency(Dependency dependency) {
-        addIfNotPresent(removedDependencies, dependency);
+        removedDependencies.add(dependency);
     }
 
     public void addRemovedDependencies(List<Dependency> dependencies) {
-        dependencies.forEach(dependency -> addIfNotPresent(removedDependencies, dependency));
+        dependencies.forEach(removedDependencies::add);
     }
 
     public void merge(ChainDiff chainDelta) {
-        this.createdElements = mergeElements(this.createdElements, chainDelta.createdElements);
-        this.updatedElements = mergeElements(this.updatedElements, chainDelta.updatedElements);
-        this.removedElements = mergeElements(this.removedElements, chainDelta.removedElements);
-        this.createdDependencies = mergeDependencies(this.createdDependencies, chainDelta.createdDependencies);
-        this.removedDependencies = mergeDependencies(this.removedDependencies, chainDelta.removedDependencies);
-    }
-
-    private void addIfNotPresent(List<ChainElement> elements, ChainElement newElement) {
-        if (!elements.contains(newElement)
-                || elements.stream().noneMatch(it -> it.getId().equals(newElement.getId()))) {
-            elements.add(newElement);
+        chainDelta.createdElements.values.forEach(this.createdElements::add);
+        chainDelta.updatedElements.values.forEach(this.updatedElements::add);
+        chainDelta.removedElements.values.forEach(this.removedElements::add);
+        chainDelta.createdDependencies.values.forEach(this.createdDependencies::add);
+        chainDelta.removedDependencies.values.forEach(this.removedDependencies::add);
+    }
+
+    private static final class Entries<T> {
+        private final List<T> values = new ArrayList<>();
+        private final List<T> view = Collections.unmodifiableList(values);
+        private final Map<String, Integer> positions = new HashMap<>();
+        private final Set<T> withoutId = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Function<T, String> idExtractor;
+        private final boolean replace;
+
+        private Entries(Function<T, String> idExtractor, boolean replace) {
+            this.idExtractor = idExtractor;
+            this.replace = replace;
         }
-    }
 
-    private void addIfNotPresent(List<Dependency> dependencies, Dependency newDependency) {
-        if (!dependencies.contains(newDependency)
-                || dependencies.stream().noneMatch(it -> it.getId().equals(newDependency.getId()))) {
-            dependencies.add(newDependency);
+        private void add(T entity) {
+            String id = idExtractor.apply(entity);
+            if (id == null) {
+                if (withoutId.add(entity)) {
+                    values.add(entity);
+                }
+                return;
+            }
+            Integer position = positions.putIfAbsent(id, values.size());
+            if (position == null) {
+                values.add(entity);
+            } else if (replace) {
+                values.set(position, entity);
+            }
         }
     }
-
-    private List<ChainElement> mergeElements(List<ChainElement> right, List<ChainElement> left) {
-        return Stream.concat(right.stream(), left.stream())
-                .filter(DistinctByKey.newInstance(ChainElement::getId))
-                .collect(Collectors.toList());
-    }
-
-    private List<Dependency> mergeDependencies(List<Dependency> right, List<Dependency> left) {
-        return Stream.concat(right.stream(), left.stream())
-                .filter(DistinctByKey.newInstance(Dependency::getId))
-                .collect(Collectors.toList());
-    }
 }
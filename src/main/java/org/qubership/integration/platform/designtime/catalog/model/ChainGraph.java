@@ -0,0 +1,358 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.model;
+
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Snapshot of chain elements with their parent/child links and dependencies as int-indexed adjacency arrays.
+ * Elements are addressed by their position in the list the graph was built from.
+ * Analyzers walk the snapshot instead of lazily loaded entity associations,
+ * so the graph is traversed without database round trips and every traversal can track visited elements.
+ */
+public class ChainGraph {
+    public static final int NONE = -1;
+
+    private static final int[] NO_ELEMENTS = new int[0];
+
+    private final List<ChainElement> elements;
+    private final Map<String, Integer> indexesById = new HashMap<>();
+    private final Map<ChainElement, Integer> indexesByInstance = new IdentityHashMap<>();
+    private final int[] parents;
+    private final int[][] children;
+    private final int[][] inputs;
+    private final int[][] outputs;
+    private final int[] typeOrdinals;
+    private final List<String> types = new ArrayList<>();
+    private volatile int[] topologicalOrder;
+    private volatile BitSet cyclicElements;
+
+    private ChainGraph(List<ChainElement> elements, Collection<Dependency> dependencies) {
+        this.elements = elements;
+        int size = elements.size();
+        Map<String, Integer> typeIndexes = new HashMap<>();
+        typeOrdinals = new int[size];
+        for (int i = 0; i < size; i++) {
+            ChainElement element = elements.get(i);
+            indexesByInstance.put(element, i);
+            if (element.getId() != null) {
+                indexesById.put(element.getId(), i);
+            }
+            typeOrdinals[i] = typeIndexes.computeIfAbsent(element.getType(), type -> {
+                types.add(type);
+                return types.size() - 1;
+            });
+        }
+
+        parents = new int[size];
+        int[] childCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            parents[i] = indexOf(elements.get(i).getParent());
+            if (parents[i] != NONE) {
+                childCounts[parents[i]]++;
+            }
+        }
+        children = allocate(childCounts);
+        int[] childPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (parents[i] != NONE) {
+                children[parents[i]][childPositions[parents[i]]++] = i;
+            }
+        }
+
+        List<int[]> edges = new ArrayList<>(dependencies.size());
+        int[] inputCounts = new int[size];
+        int[] outputCounts = new int[size];
+        for (Dependency dependency : dependencies) {
+            int from = indexOf(dependency.getElementFrom());
+            int to = indexOf(dependency.getElementTo());
+            if (from != NONE && to != NONE) {
+                edges.add(new int[] {from, to});
+                outputCounts[from]++;
+                inputCounts[to]++;
+            }
+        }
+        inputs = allocate(inputCounts);
+        outputs = allocate(outputCounts);
+        int[] inputPositions = new int[size];
+        int[] outputPositions = new int[size];
+        for (int[] edge : edges) {
+            outputs[edge[0]][outputPositions[edge[0]]++] = edge[1];
+            inputs[edge[1]][inputPositions[edge[1]]++] = edge[0];
+        }
+    }
+
+    /**
+     * Builds the graph of already loaded elements.
+     * Dependencies with an end outside of the elements are ignored.
+     */
+    public static ChainGraph of(Collection<ChainElement> elements, Collection<Dependency> dependencies) {
+        return new ChainGraph(List.copyOf(elements), dependencies);
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    public ChainElement getElement(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * @return index of the element or {@link #NONE} if the element is not in the graph
+     */
+    public int indexOf(ChainElement element) {
+        if (element == null) {
+            return NONE;
+        }
+        Integer index = indexesByInstance.get(element);
+        if (index == null && element.getId() != null) {
+            index = indexesById.get(element.getId());
+        }
+        return index == null ? NONE : index;
+    }
+
+    public int indexOf(String elementId) {
+        return indexesById.getOrDefault(elementId, NONE);
+    }
+
+    /**
+     * @return index of the parent element or {@link #NONE} for root elements
+     */
+    public int getParent(int index) {
+        return parents[index];
+    }
+
+    public int[] getChildren(int index) {
+        return children[index];
+    }
+
+    /**
+     * @return indexes of elements the element has input dependencies from
+     */
+    public int[] getInputs(int index) {
+        return inputs[index];
+    }
+
+    /**
+     * @return indexes of elements the element has output dependencies to
+     */
+    public int[] getOutputs(int index) {
+        return outputs[index];
+    }
+
+    public boolean hasInputs(int index) {
+        return inputs[index].length > 0;
+    }
+
+    public String getType(int index) {
+        return types.get(typeOrdinals[index]);
+    }
+
+    /**
+     * @return ordinal of the element type, ordinals are dense and assigned in order of first appearance
+     */
+    public int getTypeOrdinal(int index) {
+        return typeOrdinals[index];
+    }
+
+    /**
+     * Evaluates the predicate once per distinct element type.
+     *
+     * @return ordinals of matching types
+     */
+    public BitSet matchTypes(Predicate<String> typePredicate) {
+        BitSet matching = new BitSet(types.size());
+        for (int ordinal = 0; ordinal < types.size(); ordinal++) {
+            if (typePredicate.test(types.get(ordinal))) {
+                matching.set(ordinal);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * @return indexes of elements ordered by dependencies.
+     * Elements on dependency cycles and elements depending on them are not included
+     */
+    public int[] getTopologicalOrder() {
+        return topologicalOrder().clone();
+    }
+
+    public boolean isAcyclic() {
+        return cyclicElements().isEmpty();
+    }
+
+    /**
+     * @return whether the element is reachable from itself by dependencies
+     */
+    public boolean isOnCycle(int index) {
+        return cyclicElements().get(index);
+    }
+
+    /**
+     * Walks input dependencies breadth-first starting from the element itself, each element is visited once.
+     *
+     * @return whether the element or any element it depends on directly or transitively matches the predicate
+     */
+    public boolean anyUpstream(int start, IntPredicate predicate) {
+        BitSet visited = new BitSet(size());
+        int[] queue = new int[size()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited.set(start);
+        while (head < tail) {
+            int current = queue[head++];
+            if (predicate.test(current)) {
+                return true;
+            }
+            for (int input : inputs[current]) {
+                if (!visited.get(input)) {
+                    visited.set(input);
+                    queue[tail++] = input;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Dependency order and cycles are computed on first use, most graphs are only walked by links.
+     * Concurrent first calls may compute them twice, the results are the same.
+     */
+    private int[] topologicalOrder() {
+        int[] order = topologicalOrder;
+        if (order == null) {
+            order = sortTopologically(inputs, outputs);
+            topologicalOrder = order;
+        }
+        return order;
+    }
+
+    private BitSet cyclicElements() {
+        BitSet cyclic = cyclicElements;
+        if (cyclic == null) {
+            cyclic = findCyclicElements(outputs);
+            cyclicElements = cyclic;
+        }
+        return cyclic;
+    }
+
+    private static int[][] allocate(int[] counts) {
+        int[][] arrays = new int[counts.length][];
+        for (int i = 0; i < counts.length; i++) {
+            arrays[i] = counts[i] == 0 ? NO_ELEMENTS : new int[counts[i]];
+        }
+        return arrays;
+    }
+
+    private static int[] sortTopologically(int[][] inputs, int[][] outputs) {
+        int size = inputs.length;
+        int[] remainingInputs = new int[size];
+        int[] order = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < size; i++) {
+            remainingInputs[i] = inputs[i].length;
+            if (remainingInputs[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            for (int output : outputs[order[head++]]) {
+                if (--remainingInputs[output] == 0) {
+                    order[tail++] = output;
+                }
+            }
+        }
+        return tail == size ? order : Arrays.copyOf(order, tail);
+    }
+
+    /**
+     * Iterative Tarjan's algorithm, elements of strongly connected components
+     * with more than one element or with a dependency on itself are cyclic.
+     */
+    private static BitSet findCyclicElements(int[][] outputs) {
+        int size = outputs.length;
+        BitSet cyclic = new BitSet(size);
+        int[] discovery = new int[size];
+        Arrays.fill(discovery, NONE);
+        int[] lowLinks = new int[size];
+        boolean[] onStack = new boolean[size];
+        int[] stack = new int[size];
+        int[] path = new int[size];
+        int[] edgePositions = new int[size];
+        int stackSize = 0;
+        int counter = 0;
+
+        for (int root = 0; root < size; root++) {
+            if (discovery[root] != NONE) {
+                continue;
+            }
+            int depth = 0;
+            path[0] = root;
+            edgePositions[0] = 0;
+            discovery[root] = lowLinks[root] = counter++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+
+            while (depth >= 0) {
+                int current = path[depth];
+                if (edgePositions[depth] < outputs[current].length) {
+                    int next = outputs[current][edgePositions[depth]++];
+                    if (next == current) {
+                        cyclic.set(current);
+                    } else if (discovery[next] == NONE) {
+                        discovery[next] = lowLinks[next] = counter++;
+                        stack[stackSize++] = next;
+                        onStack[next] = true;
+                        path[++depth] = next;
+                        edgePositions[depth] = 0;
+                    } else if (onStack[next]) {
+                        lowLinks[current] = Math.min(lowLinks[current], discovery[next]);
+                    }
+                    continue;
+                }
+
+                if (lowLinks[current] == discovery[current]) {
+                    int componentEnd = stackSize;
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                    } while (member != current);
+                    if (componentEnd - stackSize > 1) {
+                        for (int i = stackSize; i < componentEnd; i++) {
+                            cyclic.set(stack[i]);
+                        }
+                    }
+                }
+                if (--depth >= 0) {
+                    int parent = path[depth];
+                    lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[current]);
+                }
+            }
+        }
+        return cyclic;
+    }
+}
@@ -30,4 +30,5 @@ public class KubeService {
     private String name;
     private List<Integer> ports;
     private String namespace;
+    private String resourceVersion;
 }
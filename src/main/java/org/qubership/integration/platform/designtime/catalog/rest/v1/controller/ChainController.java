@@ -187,9 +187,10 @@ public class ChainController {
     }
 
     @GetMapping("/used-systems")
-    @Operation(description = "Get services and specifications used by specified chains")
-    public ResponseEntity<List<UsedSystem>> getUsedSystemIdsByChainIds(@RequestParam(required = false) @Parameter(description = "Chain ids separated by comma") List<String> chainIds) {
-        return ResponseEntity.ok(chainService.getUsedSystemIdsByChainIds(chainIds));
+    @Operation(description = "Get services and specifications used by specified chains, ordered by service and specification id")
+    public ResponseEntity<List<UsedSystem>> getUsedSystemIdsByChainIds(@RequestParam(required = false) @Parameter(description = "Chain ids separated by comma") List<String> chainIds,
+                                                                       @RequestParam(required = false) @Parameter(description = "Service ids separated by comma") List<String> systemIds) {
+        return ResponseEntity.ok(chainService.getUsedSystemIdsByChainIds(chainIds, systemIds));
     }
 
     @GetMapping("/names")
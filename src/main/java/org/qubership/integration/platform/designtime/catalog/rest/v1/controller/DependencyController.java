@@ -17,13 +17,14 @@
 package org.qubership.integration.platform.designtime.catalog.rest.v1.controller;
 
 import org.qubership.integration.platform.catalog.model.dto.dependency.DependencyResponse;
+import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainWriteOperation;
+import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainDiffResponse;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.dependency.DependencyRequest;
-import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
-import org.qubership.integration.platform.designtime.catalog.service.DependencyService;
-import org.qubership.integration.platform.designtime.catalog.service.ElementService;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ChainDiffMapper;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.DependencyMapper;
+import org.qubership.integration.platform.designtime.catalog.service.DependencyService;
+import org.qubership.integration.platform.designtime.catalog.service.ElementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -81,6 +82,7 @@ public class DependencyController {
         return ResponseEntity.ok(response);
     }
 
+    @ChainWriteOperation
     @PostMapping
     @Operation(description = "Create new dependency for the chain")
     public ResponseEntity<ChainDiffResponse> create(@PathVariable @Parameter(description = "Chain id") String chainId,
@@ -95,6 +97,7 @@ public class DependencyController {
     }
 
     @Deprecated
+    @ChainWriteOperation
     @DeleteMapping("/{dependencyId}")
     @Operation(description = "Delete specific dependency in the chain")
     public ResponseEntity<ChainDiffResponse> deleteById(@PathVariable @Parameter(description = "Chain id") String chainId,
@@ -105,6 +108,7 @@ public class DependencyController {
         return ResponseEntity.ok(response);
     }
 
+    @ChainWriteOperation
     @DeleteMapping("")
     @Operation(description = "Delete specified dependencies in the chain")
     public ResponseEntity<ChainDiffResponse> deleteByIds(@PathVariable @Parameter(description = "Chain id") String chainId,
@@ -18,13 +18,16 @@ package org.qubership.integration.platform.designtime.catalog.rest.v1.controller
 
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveredServiceDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveryResultDTO;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.NegativeProbeEntryDTO;
 import org.qubership.integration.platform.designtime.catalog.service.DiscoveryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -51,8 +54,10 @@ public class DiscoveryController {
 
     @PostMapping
     @Operation(description = "Initiate discovery process on a current environment")
-    public Object runDiscovery() {
-        discoveryService.runDiscovery();
+    public Object runDiscovery(@RequestParam(required = false, defaultValue = "false")
+                               @Parameter(description = "Whether to probe only services added or modified since the previous discovery")
+                               boolean changedOnly) {
+        discoveryService.runDiscovery(changedOnly);
         return ResponseEntity.accepted().build();
     }
 
@@ -67,4 +72,25 @@ public class DiscoveryController {
     public String getDiscoveryProgress() {
         return discoveryService.getDiscoveryProgress();
     }
+
+    @GetMapping(value = "/progress/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(description = "Subscribe to progress and error events of a discovery process")
+    public SseEmitter subscribeToDiscoveryProgress() {
+        return discoveryService.subscribeToDiscoveryProgress();
+    }
+
+    @GetMapping("/negative-cache")
+    @Operation(description = "Get service ports skipped by discovery since they returned no specifications")
+    public List<NegativeProbeEntryDTO> getNegativeProbeCache() {
+        return discoveryService.getNegativeProbeCache();
+    }
+
+    @DeleteMapping("/negative-cache")
+    @Operation(description = "Clear skipped service ports, so they are probed on the next discovery")
+    public ResponseEntity<Void> clearNegativeProbeCache(@RequestParam(required = false)
+                                                        @Parameter(description = "Service name, all entries are cleared if not specified")
+                                                        String serviceName) {
+        discoveryService.clearNegativeProbeCache(serviceName);
+        return ResponseEntity.noContent().build();
+    }
 }
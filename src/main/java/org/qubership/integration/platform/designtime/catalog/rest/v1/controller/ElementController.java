@@ -19,6 +19,7 @@ package org.qubership.integration.platform.designtime.catalog.rest.v1.controller
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -27,12 +28,13 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.act
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
+import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainWriteOperation;
 import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainDiffResponse;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.*;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ChainDiffMapper;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ElementMapper;
+import org.qubership.integration.platform.designtime.catalog.service.ActionLogWriter;
 import org.qubership.integration.platform.designtime.catalog.service.TransferableElementService;
 import org.qubership.integration.platform.designtime.catalog.service.UsedPropertiesAnalyzer;
 import org.qubership.integration.platform.designtime.catalog.service.codeview.ElementsCodeviewService;
@@ -41,7 +43,6 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -56,13 +57,13 @@ public class ElementController {
     private final UsedPropertiesAnalyzer usedPropertiesAnalyzer;
     private final ElementMapper elementMapper;
     private final ChainDiffMapper chainDiffMapper;
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
 
     @Autowired
     public ElementController(ElementsCodeviewService elementsCodeviewService,
                              ElementMapper elementMapper,
                              ChainDiffMapper chainDiffMapper,
-                             ActionsLogService actionLogger,
+                             ActionLogWriter actionLogger,
                              TransferableElementService transferableElementService,
                              UsedPropertiesAnalyzer usedPropertiesAnalyzer) {
         this.elementsCodeviewService = elementsCodeviewService;
@@ -96,6 +97,17 @@ public class ElementController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/{elementId}/references")
+    @Operation(description = "Get elements of the chain referring to specific element")
+    public ResponseEntity<List<ElementResponse>> getReferencingElements(@PathVariable @Parameter(description = "Chain id") String chainId,
+                                                                        @PathVariable @Parameter(description = "Element id") String elementId) {
+        if (log.isDebugEnabled()) {
+            log.debug("Request to find elements referring to element with id: {}", elementId);
+        }
+        List<ChainElement> elements = transferableElementService.findReferencingElements(chainId, elementId);
+        return ResponseEntity.ok(elementMapper.toElementResponses(elements));
+    }
+
     @GetMapping("/type/{type}")
     @Operation(description = "Get all elements of specific type")
     public ResponseEntity<List<ElementWithChainNameResponse>> getElementsWithChainNameByType(@PathVariable @Parameter(description = "Chain id") String chainId,
@@ -108,6 +120,12 @@ public class ElementController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/validation")
+    @Operation(description = "Validate all elements of the chain and get every found error")
+    public ResponseEntity<List<ElementValidationErrorDTO>> validateElements(@PathVariable @Parameter(description = "Chain id") String chainId) {
+        return ResponseEntity.ok(transferableElementService.validateChain(chainId));
+    }
+
     @GetMapping("/code")
     @Operation(description = "Get all elements from the chain in code representation for end-user")
     public ResponseEntity<ElementsCodeDTO> getElementsAsCode(@PathVariable @Parameter(description = "Chain id") String chainId) {
@@ -130,6 +148,7 @@ public class ElementController {
         return ResponseEntity.ok(usedPropertiesAnalyzer.getUsedProperties(chainId));
     }
 
+    @ChainWriteOperation(retryOnConflict = true)
     @PostMapping
     @Operation(description = "Create element for the chain")
     public ResponseEntity<ChainDiffResponse> createElement(@PathVariable @Parameter(description = "Chain id") String chainId,
@@ -140,6 +159,18 @@ public class ElementController {
         return ResponseEntity.ok(response);
     }
 
+    @ChainWriteOperation(retryOnConflict = true)
+    @PostMapping("/bulk")
+    @Operation(description = "Create elements with their children and dependencies for the chain in one transaction")
+    public ResponseEntity<ChainDiffResponse> createElements(@PathVariable @Parameter(description = "Chain id") String chainId,
+                                                            @RequestBody @Valid @Parameter(description = "Bulk create elements request object") BulkCreateElementsRequest createRequest) {
+        log.info("Request to add {} elements to chain with id: {}", createRequest.getElements().size(), chainId);
+        ChainDiff chainDiff = transferableElementService.createAll(chainId, createRequest);
+        ChainDiffResponse response = chainDiffMapper.asResponse(chainDiff);
+        return ResponseEntity.ok(response);
+    }
+
+    @ChainWriteOperation
     @PostMapping("/groups")
     @Operation(description = "Wrap specific elements from the chain into a group container")
     public ResponseEntity<?> createGroup(@PathVariable @Parameter(description = "Chain id") String chainId,
@@ -154,21 +185,17 @@ public class ElementController {
         }
     }
 
+    @ChainWriteOperation(retryOnConflict = true)
     @PostMapping("/clone")
-    @Operation(description = "Copy specified elements to a specified container")
+    @Operation(description = "Copy specified elements to a specified container of the chain")
     public ResponseEntity<List<ElementResponse>> cloneElements(@PathVariable @Parameter(description = "Chain id") String chainId,
                                                                @RequestBody @Parameter(description = "Copy element requests") List<CloneElementRequest> requests) {
-        log.info("Request to clone element with id: {}", chainId);
-        List<ElementResponse> response = new ArrayList<>(requests.size());
-
-        for (CloneElementRequest request : requests) {
-            ChainElement element = transferableElementService.clone(request.getId(), request.getParent());
-            response.add(elementMapper.toElementResponse(element));
-        }
-
-        return ResponseEntity.ok(response);
+        log.info("Request to clone {} elements to chain with id: {}", requests.size(), chainId);
+        List<ChainElement> elements = transferableElementService.cloneAll(chainId, requests);
+        return ResponseEntity.ok(elementMapper.toElementResponses(elements));
     }
 
+    @ChainWriteOperation
     @PatchMapping("/{elementId}")
     @Operation(description = "Change element in the chain")
     public ResponseEntity<ChainDiffResponse> patchElement(@PathVariable @Parameter(description = "Chain id") String chainId,
@@ -210,6 +237,7 @@ public class ElementController {
         return ResponseEntity.ok(chainDiffMapper.asResponse(chainDiff));
     }
 
+    @ChainWriteOperation
     @PostMapping("/transfer")
     @Operation(description = "Move element from one container and/or swimlane to another")
     public ResponseEntity<ChainDiffResponse> transferElement(
@@ -222,6 +250,7 @@ public class ElementController {
     }
 
     @Deprecated
+    @ChainWriteOperation
     @DeleteMapping("/{elementId}")
     @Operation(description = "Delete specific element from the chain")
     public ResponseEntity<ChainDiffResponse> deleteElementById(@PathVariable @Parameter(description = "Chain id") String chainId,
@@ -232,6 +261,7 @@ public class ElementController {
         return ResponseEntity.ok(response);
     }
 
+    @ChainWriteOperation
     @DeleteMapping("")
     @Operation(description = "Delete specified elements from the chain")
     public ResponseEntity<ChainDiffResponse> deleteElementsByIds(@PathVariable @Parameter(description = "Chain id") String chainId,
@@ -242,6 +272,7 @@ public class ElementController {
         return ResponseEntity.ok(response);
     }
 
+    @ChainWriteOperation
     @DeleteMapping("/groups/{groupId}")
     @Operation(description = "Delete specified group container and ungroup element within it")
     public ResponseEntity<List<ElementResponse>> ungroup(@PathVariable @Parameter(description = "Chain id") String chainId,
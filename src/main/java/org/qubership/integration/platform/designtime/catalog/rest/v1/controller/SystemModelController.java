@@ -21,7 +21,7 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.act
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SpecificationGroup;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SystemModel;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
+import org.qubership.integration.platform.designtime.catalog.service.ActionLogWriter;
 import org.qubership.integration.platform.designtime.catalog.service.SystemModelService;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.SystemModelDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.SystemModelMapper;
@@ -45,12 +45,12 @@ import java.util.List;
 public class SystemModelController {
     private final SystemModelMapper systemModelMapper;
     private final SystemModelService systemModelService;
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
 
     @Autowired
     public SystemModelController(SystemModelMapper systemModelMapper,
                                  SystemModelService systemModelService,
-                                 ActionsLogService actionLogger) {
+                                 ActionLogWriter actionLogger) {
         this.systemModelMapper = systemModelMapper;
         this.systemModelService = systemModelService;
         this.actionLogger = actionLogger;
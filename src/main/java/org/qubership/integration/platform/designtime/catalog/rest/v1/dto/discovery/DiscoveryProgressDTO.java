@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Progress event of a discovery process")
+public class DiscoveryProgressDTO {
+    @Schema(description = "Progress of a discovery process in percents")
+    private String progress;
+    @Schema(description = "External service name (in k8s network) processed last")
+    private String serviceName;
+    @Schema(description = "Number of processed services")
+    private int processed;
+    @Schema(description = "Total number of services to process")
+    private int total;
+    @Schema(description = "Error occurred while processing the service, if any")
+    private DiscoveryErrorDTO error;
+}
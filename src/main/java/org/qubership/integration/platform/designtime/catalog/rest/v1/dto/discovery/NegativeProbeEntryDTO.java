@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Service port skipped by discovery since it returned no specifications")
+public class NegativeProbeEntryDTO {
+    @Schema(description = "External service name (in k8s network)")
+    private String serviceName;
+    @Schema(description = "Service port")
+    private int port;
+    @Schema(description = "Protocol of specifications looked up on the port")
+    private String protocol;
+    @Schema(description = "Number of consecutive probes without specifications")
+    private int failures;
+    @Schema(description = "Number of discovery runs left before the port is probed again")
+    private long runsUntilRetry;
+    @Schema(description = "Timestamp of the last probe")
+    private long lastProbedWhen;
+}
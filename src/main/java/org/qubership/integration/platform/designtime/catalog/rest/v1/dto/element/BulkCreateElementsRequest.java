@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@Schema(description = "Bulk create elements request object")
+public class BulkCreateElementsRequest {
+    @Schema(description = "Root elements to create")
+    @NotNull(message = "must not be null")
+    @Builder.Default
+    private List<@NotNull(message = "must not be null") @Valid BulkElementRequest> elements = new ArrayList<>();
+    @Schema(description = "Dependencies between created and/or existing elements")
+    @NotNull(message = "must not be null")
+    @Builder.Default
+    private List<@NotNull(message = "must not be null") @Valid BulkDependencyRequest> dependencies = new ArrayList<>();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@Schema(description = "Element of a bulk create request")
+public class BulkElementRequest extends CreateElementRequest {
+    @Schema(description = "Reference to the element within the request, used by dependencies")
+    private String ref;
+    @Schema(description = "Element name, title of the element type if not specified")
+    private String name;
+    @Schema(description = "Properties overriding the default ones")
+    private Map<String, Object> properties;
+    @Schema(description = "Child elements. If specified, default children of a container are not created")
+    private List<@NotNull(message = "must not be null") @Valid BulkElementRequest> children;
+}
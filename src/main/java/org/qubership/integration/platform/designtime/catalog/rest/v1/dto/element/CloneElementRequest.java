@@ -28,7 +28,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @Schema(description = "Copy element request")
 public class CloneElementRequest {
-    @Schema(description = "Source element id")
+    @Schema(description = "Source element id, the element may belong to another chain")
     private String id;
     @Schema(description = "Target container id (id any)")
     private String parent;
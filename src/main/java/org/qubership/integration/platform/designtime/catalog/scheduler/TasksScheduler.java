@@ -21,6 +21,8 @@ import org.qubership.integration.platform.catalog.consul.exception.KVNotFoundExc
 import org.qubership.integration.platform.catalog.model.deployment.properties.DeploymentRuntimeProperties;
 import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.service.ChainRuntimePropertiesService;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.DiscoveryLeaderElection;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.DiscoveryProgressTracker;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +40,8 @@ public class TasksScheduler {
     private final ActionsLogService actionsLogService;
     private final ConsulService consulService;
     private final ChainRuntimePropertiesService chainRuntimePropertiesService;
+    private final DiscoveryProgressTracker discoveryProgressTracker;
+    private final DiscoveryLeaderElection discoveryLeaderElection;
 
     @Value("${qip.actions-log.cleanup.interval}")
     private String actionLogInterval;
@@ -45,10 +49,14 @@ public class TasksScheduler {
     @Autowired
     public TasksScheduler(ActionsLogService actionsLogService,
                           ConsulService consulService,
-                          ChainRuntimePropertiesService chainRuntimePropertiesService) {
+                          ChainRuntimePropertiesService chainRuntimePropertiesService,
+                          DiscoveryProgressTracker discoveryProgressTracker,
+                          DiscoveryLeaderElection discoveryLeaderElection) {
         this.actionsLogService = actionsLogService;
         this.consulService = consulService;
         this.chainRuntimePropertiesService = chainRuntimePropertiesService;
+        this.discoveryProgressTracker = discoveryProgressTracker;
+        this.discoveryLeaderElection = discoveryLeaderElection;
     }
 
     @Scheduled(cron = "${qip.actions-log.cleanup.cron}")
@@ -73,4 +81,23 @@ public class TasksScheduler {
             consulService.rollbackChainsRuntimeConfigLastIndex();
         }
     }
+
+    @Scheduled(fixedDelayString = "${qip.discovery.progress.persist-interval:5000}")
+    public void persistDiscoveryProgress() {
+        try {
+            discoveryProgressTracker.persistProgress();
+            discoveryProgressTracker.pushSharedProgress();
+        } catch (Exception e) {
+            log.error("Failed to persist discovery progress", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${qip.discovery.leadership.heartbeat-interval:10000}")
+    public void discoveryLeadershipHeartbeat() {
+        try {
+            discoveryLeaderElection.heartbeat();
+        } catch (Exception e) {
+            log.error("Failed to send discovery leadership heartbeat", e);
+        }
+    }
 }
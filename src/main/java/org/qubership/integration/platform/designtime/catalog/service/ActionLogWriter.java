@@ -0,0 +1,279 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.User;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.catalog.service.ActionsLogService;
+import org.qubership.integration.platform.designtime.catalog.logging.constant.ContextHeaders;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes action logs in batches from a background thread.
+ * Actions performed within a transaction are enqueued after it commits. Action time, request id,
+ * the current user and the logging context are captured on the calling thread, the logging context
+ * is restored while the action is written. All actions of a batch are inserted in a single new transaction
+ * with a JDBC batch of the batch size, if it fails, they are written one by one, so a single failing action
+ * doesn't lose the others. Actions written on the calling thread after its transaction commits get
+ * a new transaction too, since the committed one can't be joined anymore.
+ */
+@Slf4j
+@Component
+public class ActionLogWriter implements DisposableBean {
+    private static final String THREAD_NAME = "qip-actions-log-writer";
+    private static final String METRIC_PREFIX = "qip.actions-log.writer.";
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    public enum OverflowPolicy {
+        /**
+         * Write the action on the calling thread.
+         */
+        CALLER_WRITES,
+        /**
+         * Wait for free space in the queue.
+         */
+        BLOCK,
+        /**
+         * Drop the action.
+         */
+        DROP
+    }
+
+    private record PendingAction(ActionLog action, Map<String, String> context) {}
+
+    private final ActionsLogService actionsLogService;
+    private final Optional<AuditorAware<User>> auditorAware;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingAction> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread writerThread;
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final Counter lostCounter;
+    private volatile boolean running = true;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public ActionLogWriter(
+            ActionsLogService actionsLogService,
+            Optional<AuditorAware<User>> auditorAware,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${qip.actions-log.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${qip.actions-log.writer.batch-size:50}") int batchSize,
+            @Value("${qip.actions-log.writer.flush-interval:1s}") Duration flushInterval,
+            @Value("${qip.actions-log.writer.overflow-policy:CALLER_WRITES}") OverflowPolicy overflowPolicy
+    ) {
+        this.actionsLogService = actionsLogService;
+        this.auditorAware = auditorAware;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder(METRIC_PREFIX + "queue.size", queue, BlockingQueue::size)
+                .description("Action logs waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + "flush.latency")
+                .description("Latency of writing a batch of action logs")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + "dropped")
+                .description("Action logs dropped because the queue was full")
+                .register(meterRegistry);
+        this.lostCounter = Counter.builder(METRIC_PREFIX + "lost")
+                .description("Action logs which failed to be written")
+                .register(meterRegistry);
+
+        this.writerThread = Thread.ofPlatform().name(THREAD_NAME).daemon(true).start(this::run);
+    }
+
+    public void logAction(ActionLog action) {
+        if (action.getActionTime() == null) {
+            action.setActionTime(new Timestamp(System.currentTimeMillis()));
+        }
+        if (action.getRequestId() == null) {
+            action.setRequestId(MDC.get(ContextHeaders.REQUEST_ID));
+        }
+        if (action.getUser() == null) {
+            // the security context is bound to the calling thread, it is not available to the writer
+            auditorAware.flatMap(AuditorAware::getCurrentAuditor).ifPresent(action::setUser);
+        }
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        PendingAction pendingAction = new PendingAction(action, context == null ? Collections.emptyMap() : context);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(pendingAction);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(pendingAction);
+            }
+        });
+    }
+
+    private void enqueue(PendingAction pendingAction) {
+        if (!running) {
+            write(List.of(pendingAction));
+            return;
+        }
+        if (queue.offer(pendingAction)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_WRITES -> write(List.of(pendingAction));
+            case BLOCK -> {
+                try {
+                    queue.put(pendingAction);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    write(List.of(pendingAction));
+                }
+            }
+            case DROP -> {
+                droppedCounter.increment();
+                log.warn("Actions log queue is full, action {} on {} {} is dropped",
+                        pendingAction.action().getOperation(),
+                        pendingAction.action().getEntityType(),
+                        pendingAction.action().getEntityId());
+            }
+        }
+    }
+
+    private void run() {
+        List<PendingAction> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAction first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingAction next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingAction> batch) {
+        long start = System.nanoTime();
+        try {
+            writeInTransaction(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void writeInTransaction(List<PendingAction> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                batch.forEach(this::writeAction);
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                log.warn("Failed to write {} action logs together, writing them one by one: {}",
+                        batch.size(), e.getMessage());
+                batch.forEach(pendingAction -> writeInTransaction(List.of(pendingAction)));
+                return;
+            }
+            lostCounter.increment();
+            ActionLog action = batch.get(0).action();
+            log.error("Failed to write action {} on {} {}",
+                    action.getOperation(), action.getEntityType(), action.getEntityId(), e);
+        }
+    }
+
+    private void writeAction(PendingAction pendingAction) {
+        Map<String, String> previousContext = MDC.getCopyOfContextMap();
+        MDC.setContextMap(pendingAction.context());
+        try {
+            actionsLogService.logAction(pendingAction.action());
+        } finally {
+            if (previousContext == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(previousContext);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting actions to the queue and waits for the queued ones to be written.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writerThread.join(SHUTDOWN_TIMEOUT.plus(flushInterval).toMillis());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.designtime.catalog.model.ChainGraph;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Builds {@link ChainGraph} of a chain with two flat queries, one for elements and one for dependencies.
+ * A graph is a snapshot, it should be built once per operation before the chain is modified.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ChainGraphService {
+    private static final String ELEMENTS_QUERY = "select e from %s e where e.chain.id = :chainId"
+            .formatted(ChainElement.class.getName());
+    private static final String DEPENDENCIES_QUERY = "select d from %s d where d.elementFrom.chain.id = :chainId"
+            .formatted(Dependency.class.getName());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ChainGraph getGraph(String chainId) {
+        List<ChainElement> elements = entityManager.createQuery(ELEMENTS_QUERY, ChainElement.class)
+                .setParameter("chainId", chainId)
+                .getResultList();
+        // Ends of dependencies are resolved from the persistence context filled by the query above
+        List<Dependency> dependencies = entityManager.createQuery(DEPENDENCIES_QUERY, Dependency.class)
+                .setParameter("chainId", chainId)
+                .getResultList();
+        return ChainGraph.of(elements, dependencies);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ChainConcurrentModificationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process locks striped by chain id.
+ * Modifications of the same chain on this instance wait for each other before a transaction is started,
+ * so waiting requests hold neither database connections nor row locks.
+ */
+@Component
+public class ChainLocks {
+    private final ReentrantLock[] stripes;
+    private final Duration timeout;
+    private final Timer waitTimer;
+    private final Counter contendedCounter;
+    private final Counter timeoutCounter;
+
+    @Autowired
+    public ChainLocks(
+            @Value("${qip.chains.locks.stripes:256}") int stripeCount,
+            @Value("${qip.chains.locks.timeout:30s}") Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeout = timeout;
+        this.waitTimer = Timer.builder("qip.chains.lock.wait")
+                .description("Time spent waiting for a chain lock held by another request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.contendedCounter = Counter.builder("qip.chains.lock.contended")
+                .description("Chain lock acquisitions which had to wait for another request")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("qip.chains.lock.timeouts")
+                .description("Chain lock acquisitions failed by timeout")
+                .register(meterRegistry);
+        Gauge.builder("qip.chains.lock.waiting", this, ChainLocks::getWaitingCount)
+                .description("Requests currently waiting for chain locks")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Acquires the lock of the chain, the caller must unlock it when the modification is complete.
+     *
+     * @throws ChainConcurrentModificationException if the lock is not acquired within the configured timeout
+     */
+    public Lock acquire(String chainId) {
+        ReentrantLock lock = stripes[Math.floorMod(chainId.hashCode(), stripes.length)];
+        if (lock.tryLock()) {
+            return lock;
+        }
+
+        contendedCounter.increment();
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChainConcurrentModificationException("Interrupted while waiting for chain " + chainId + " lock", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            timeoutCounter.increment();
+            throw new ChainConcurrentModificationException(
+                    "Chain " + chainId + " is being modified by another request, try again later");
+        }
+        return lock;
+    }
+
+    private double getWaitingCount() {
+        int waiting = 0;
+        for (ReentrantLock lock : stripes) {
+            waiting += lock.getQueueLength();
+        }
+        return waiting;
+    }
+}
@@ -24,7 +24,6 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.act
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.logging.properties.ChainLoggingPropertiesSet;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,12 +41,12 @@ public class ChainRuntimePropertiesService {
     private Map<String, DeploymentRuntimeProperties> runtimePropertiesCache = Collections.emptyMap();
 
     private final ConsulService consulService;
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
     private final ChainRepository chainRepository;
 
     @Autowired
     public ChainRuntimePropertiesService(ConsulService consulService,
-                                         ActionsLogService actionLogger,
+                                         ActionLogWriter actionLogger,
                                          ChainRepository chainRepository) {
         this.consulService = consulService;
         this.actionLogger = actionLogger;
@@ -31,7 +31,6 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.*;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.ChainBaseService;
 import org.qubership.integration.platform.catalog.util.ChainUtils;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
@@ -52,7 +51,6 @@ import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
@@ -79,9 +77,11 @@ public class ChainService extends ChainBaseService {
     private final FolderService folderService;
     private final ElementService elementService;
     private final DeploymentService deploymentService;
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
     private final ElementUtils elementUtils;
     private final ChainRuntimePropertiesService chainRuntimePropertiesService;
+    private final UsedSystemService usedSystemService;
+    private final ElementPropertyQueryService elementPropertyQueryService;
 
     private final ChainFilterSpecificationBuilder chainFilterSpecificationBuilder;
 
@@ -96,11 +96,13 @@ public class ChainService extends ChainBaseService {
                         ElementService elementService,
                         FolderService folderService,
                         @Lazy DeploymentService deploymentService,
-                        ActionsLogService actionLogger,
+                        ActionLogWriter actionLogger,
                         ElementUtils elementUtils,
                         ChainFilterSpecificationBuilder chainFilterSpecificationBuilder,
                         AuditingHandler jpaAuditingHandler,
-                        ChainRuntimePropertiesService chainRuntimePropertiesService) {
+                        ChainRuntimePropertiesService chainRuntimePropertiesService,
+                        UsedSystemService usedSystemService,
+                        ElementPropertyQueryService elementPropertyQueryService) {
         super(chainRepository, elementService);
         this.chainLabelsRepository = chainLabelsRepository;
         this.folderService = folderService;
@@ -115,6 +117,8 @@ public class ChainService extends ChainBaseService {
         this.chainFilterSpecificationBuilder = chainFilterSpecificationBuilder;
         this.auditingHandler = jpaAuditingHandler;
         this.chainRuntimePropertiesService = chainRuntimePropertiesService;
+        this.usedSystemService = usedSystemService;
+        this.elementPropertyQueryService = elementPropertyQueryService;
     }
 
     public List<Chain> findAll() {
@@ -141,28 +145,28 @@ public class ChainService extends ChainBaseService {
     }
 
     public List<Chain> findBySystemAndOperationId(String systemId, String operationId) {
-        List<ChainElement> elements = elementService.findBySystemIdAndOperationId(systemId, operationId);
+        List<ChainElement> elements = elementPropertyQueryService.findByProperty(CamelOptions.OPERATION_ID, operationId);
         return getElementsChains(elements);
     }
 
     public List<Chain> findBySystemAndModelId(String systemId, String modelId) {
-        List<ChainElement> elements = elementService.findBySystemAndModelId(systemId, modelId);
+        List<ChainElement> elements = elementPropertyQueryService.findByProperty(CamelOptions.MODEL_ID, modelId);
         return getElementsChains(elements);
     }
 
     public List<Chain> findBySystemAndGroupId(String systemId, String specificationGroupId) {
-        List<ChainElement> elements = elementService.findBySystemIdAndSpecificationGroupId(
-                systemId, specificationGroupId);
+        List<ChainElement> elements = elementPropertyQueryService.findByProperty(
+                CamelOptions.SPECIFICATION_GROUP_ID, specificationGroupId);
         return getElementsChains(elements);
     }
 
     public List<Chain> findBySystemId(String systemId) {
-        List<ChainElement> elements = elementService.findBySystemId(systemId);
+        List<ChainElement> elements = elementPropertyQueryService.findByProperty(CamelOptions.SYSTEM_ID, systemId);
         return getElementsChains(elements);
     }
 
     public Map<String, List<Chain>> findBySystemIdGroupBySpecificationGroup(String systemId) {
-        List<ChainElement> elements = elementService.findBySystemId(systemId);
+        List<ChainElement> elements = elementPropertyQueryService.findByProperty(CamelOptions.SYSTEM_ID, systemId);
         Map<String, List<ChainElement>> specGroupChainElement = new HashMap<>();
         for (ChainElement element : elements) {
             String specificationGroupKey = (String) element.getProperty(CamelOptions.SPECIFICATION_GROUP_ID);
@@ -308,10 +312,8 @@ public class ChainService extends ChainBaseService {
         logChainAction(chain, LogOperation.DELETE);
     }
 
-    public List<UsedSystem> getUsedSystemIdsByChainIds(List<String> chainIds) {
-        if (CollectionUtils.isEmpty(chainIds))
-            return elementService.getAllUsedSystemIds();
-        return elementService.getUsedSystemIdsByChainIds(chainIds);
+    public List<UsedSystem> getUsedSystemIdsByChainIds(List<String> chainIds, List<String> systemIds) {
+        return usedSystemService.getUsedSystems(chainIds, systemIds);
     }
 
     public Chain move(String chainId, String targetFolderId) {
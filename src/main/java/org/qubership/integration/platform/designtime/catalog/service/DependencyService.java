@@ -23,12 +23,13 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
-import org.qubership.integration.platform.catalog.util.DistinctByKey;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.DependencyValidationException;
 import org.qubership.integration.platform.designtime.catalog.utils.OldContainerUtils;
 import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
+import org.qubership.integration.platform.designtime.catalog.model.ChainGraph;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -52,18 +53,21 @@ public class DependencyService {
     private final ElementService elementService;
     private final LibraryElementsService libraryService;
     private final OldContainerUtils oldContainerUtils;
+    private final ChainGraphService chainGraphService;
 
     @Autowired
     public DependencyService(
             DependencyRepository dependencyRepository,
             ElementService elementService,
             LibraryElementsService libraryService,
-            OldContainerUtils oldContainerUtils
+            OldContainerUtils oldContainerUtils,
+            ChainGraphService chainGraphService
     ) {
         this.dependencyRepository = dependencyRepository;
         this.elementService = elementService;
         this.libraryService = libraryService;
         this.oldContainerUtils = oldContainerUtils;
+        this.chainGraphService = chainGraphService;
     }
 
     public Dependency findById(String dependencyId) {
@@ -96,12 +100,10 @@ public class DependencyService {
             final ContainerChainElement elementFromParent = oldContainerUtils
                     .getOldContainerParent(findFirstNonGroupParent(elementFrom));
             if (elementFromParent != null) {
-                validateElementToDependencies(elementFromParent, elementFrom, elementTo);
+                ChainGraph graph = chainGraphService.getGraph(elementFrom.getChain().getId());
+                validateElementToDependencies(graph, elementFromParent, elementFrom, elementTo);
 
-                List<ChainElement> changedElements = new ArrayList<>();
-                collectAllDependentRootElements(changedElements, elementFromParent.getId(), elementTo);
-                changedElements.stream()
-                        .filter(DistinctByKey.newInstance(ChainElement::getId))
+                collectAllDependentRootElements(graph, elementFromParent, elementTo).stream()
                         .map(element -> {
                             elementService.checkIfAllowedInContainers(element.getType());
 
@@ -126,6 +128,42 @@ public class DependencyService {
         }
     }
 
+    /**
+     * Creates dependencies between elements which may be not persisted yet.
+     * Dependencies are validated against the in-memory state of elements and inserted on flush.
+     */
+    @ChainModification
+    public ChainDiff createAll(List<Pair<ChainElement, ChainElement>> elementPairs) {
+        final ChainDiff chainDiff = new ChainDiff();
+
+        for (Pair<ChainElement, ChainElement> elementPair : elementPairs) {
+            ChainElement elementFrom = elementPair.getLeft();
+            ChainElement elementTo = elementPair.getRight();
+            if (oldContainerUtils.getOldContainerParent(findFirstNonGroupParent(elementFrom)) != null) {
+                // dependent elements have to be moved into the old style container
+                chainDiff.merge(create(elementFrom, elementTo));
+                continue;
+            }
+
+            validateDependency(elementFrom, elementTo);
+            boolean alreadyCreated = elementFrom.getOutputDependencies().stream()
+                    .anyMatch(dependency -> Objects.equals(elementTo, dependency.getElementTo()));
+            if (alreadyCreated) {
+                throw new EntityExistsException(
+                        "Dependency from " + elementFrom.getId() + " to " + elementTo.getId() + " already exists"
+                );
+            }
+
+            Dependency dependency = new Dependency();
+            dependency.setElementFrom(elementFrom);
+            dependency.setElementTo(elementTo);
+            elementFrom.addOutputDependency(dependency);
+            elementTo.addInputDependency(dependency);
+            chainDiff.addCreatedDependency(dependencyRepository.saveEntity(dependency));
+        }
+        return chainDiff;
+    }
+
     @ChainModification
     public ChainDiff deleteById(String id) {
         final ChainDiff chainDiff = new ChainDiff();
@@ -200,54 +238,96 @@ public class DependencyService {
         }
     }
 
-    private void validateElementToDependencies(ContainerChainElement fromParent, ChainElement elementFrom, ChainElement elementTo) {
-        if (Objects.equals(elementFrom, elementTo) || Objects.equals(fromParent, elementTo.getParent())) {
-            return;
-        }
+    /**
+     * Checks the new dependency and dependencies reachable from its target,
+     * all of them are going to be moved into the parent of the dependency source.
+     */
+    private void validateElementToDependencies(
+            ChainGraph graph,
+            ContainerChainElement fromParent,
+            ChainElement elementFrom,
+            ChainElement elementTo
+    ) {
+        int parent = graph.indexOf(fromParent);
+        boolean groupParent = CONTAINER_TYPE_NAME.equals(fromParent.getType());
+        BitSet visited = new BitSet(graph.size());
+        Deque<int[]> dependencies = new ArrayDeque<>();
+        dependencies.push(new int[] {graph.indexOf(elementFrom), graph.indexOf(elementTo)});
+
+        while (!dependencies.isEmpty()) {
+            int[] dependency = dependencies.pop();
+            int from = dependency[0];
+            int to = dependency[1];
+            if (from == to || graph.getParent(to) == parent) {
+                continue;
+            }
 
-        if (fromParent != null && !CONTAINER_TYPE_NAME.equals(fromParent.getType()) &&
-                elementTo.getInputDependencies().stream()
-                        .anyMatch(dependency -> !Objects.equals(elementFrom, dependency.getElementFrom()))) {
-            throw new DependencyValidationException("Element "
-                    + elementTo.getId() + " already has input dependencies with a different parent");
-        }
+            if (!groupParent && Arrays.stream(graph.getInputs(to)).anyMatch(input -> input != from)) {
+                throw new DependencyValidationException("Element "
+                        + graph.getElement(to).getId() + " already has input dependencies with a different parent");
+            }
+
+            if (visited.get(to)) {
+                continue;
+            }
+            visited.set(to);
 
-        ContainerChainElement elementFromParent = fromParent;
-        do {
-            if (Objects.equals(elementTo, elementFromParent)) {
-                throw new DependencyValidationException("Dependency to parent cannot be created");
+            for (int ancestor = parent; ancestor != ChainGraph.NONE; ancestor = graph.getParent(ancestor)) {
+                if (ancestor == to) {
+                    throw new DependencyValidationException("Dependency to parent cannot be created");
+                }
             }
-        } while ((elementFromParent = elementFromParent.getParent()) != null);
 
-        elementTo.getOutputDependencies()
-                .forEach(dependency -> validateElementToDependencies(
-                        fromParent, dependency.getElementFrom(), dependency.getElementTo()
-                ));
+            for (int output : graph.getOutputs(to)) {
+                dependencies.push(new int[] {to, output});
+            }
+        }
     }
 
-    private void collectAllDependentRootElements(
-            List<ChainElement> elementsToChange,
-            String elementFromParentId,
+    /**
+     * @return target of the new dependency and elements depending on it, each element once
+     */
+    private List<ChainElement> collectAllDependentRootElements(
+            ChainGraph graph,
+            ContainerChainElement elementFromParent,
             ChainElement elementTo
     ) {
-        Queue<ChainElement> elementsTo = new LinkedList<>();
-        elementsTo.offer(elementTo);
-
-        while (!elementsTo.isEmpty()) {
-            ChainElement nextElement = elementsTo.poll();
-            ContainerChainElement nextElementParent = nextElement.getParent();
-            if (nextElementParent != null && !StringUtils.equals(elementFromParentId, nextElementParent.getId())) {
+        int parent = graph.indexOf(elementFromParent);
+        BitSet oldStyleContainerTypes = oldContainerUtils.getOldStyleContainerTypes(graph);
+        List<ChainElement> elementsToChange = new ArrayList<>();
+        BitSet visited = new BitSet(graph.size());
+        int[] queue = new int[graph.size()];
+        int head = 0;
+        int tail = 0;
+        int start = graph.indexOf(elementTo);
+        queue[tail++] = start;
+        visited.set(start);
+
+        while (head < tail) {
+            int next = queue[head++];
+            int nextParent = graph.getParent(next);
+            if (nextParent != ChainGraph.NONE && nextParent != parent) {
                 throw new DependencyValidationException("Unable to create a dependency for elements with different parents");
             }
-            elementsToChange.add(nextElement);
-
-            List<Dependency> outputDependencies = new ArrayList<>(nextElement.getOutputDependencies());
-            outputDependencies.addAll(oldContainerUtils.extractOldContainerOutputDependencies(nextElement));
-            outputDependencies.stream()
-                    .map(Dependency::getElementTo)
-                    .filter(outputElement -> !Objects.equals(outputElement, elementTo))
-                    .forEach(elementsTo::offer);
+            elementsToChange.add(graph.getElement(next));
+
+            List<int[]> outputs = new ArrayList<>();
+            outputs.add(graph.getOutputs(next));
+            if (oldStyleContainerTypes.get(graph.getTypeOrdinal(next))) {
+                for (int child : graph.getChildren(next)) {
+                    outputs.add(graph.getOutputs(child));
+                }
+            }
+            for (int[] elementOutputs : outputs) {
+                for (int output : elementOutputs) {
+                    if (!visited.get(output)) {
+                        visited.set(output);
+                        queue[tail++] = output;
+                    }
+                }
+            }
         }
+        return elementsToChange;
     }
 
     @Nullable
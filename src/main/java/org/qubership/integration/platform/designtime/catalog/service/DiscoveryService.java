@@ -21,6 +21,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
 import org.qubership.integration.platform.catalog.model.system.OperationProtocol;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.AbstractEntity;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.ConfigParameter;
@@ -28,7 +31,6 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.act
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.*;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.ConfigParameterService;
 import org.qubership.integration.platform.catalog.service.exportimport.ExportImportUtils;
 import org.qubership.integration.platform.catalog.service.exportimport.SpecificationImportService;
@@ -39,27 +41,52 @@ import org.qubership.integration.platform.designtime.catalog.model.kubernetes.Ku
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveredServiceDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveryErrorDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveryResultDTO;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.NegativeProbeEntryDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.DiscoveryServiceMapper;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.DiscoveryExecutor;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.DiscoveryLeaderElection;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.DiscoveryProbeMetrics;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.DiscoveryProgressTracker;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.NegativeProbeCache;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationFingerprintService;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationDownloader;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationDownloader.DownloadedSpecification;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationFingerprintService.SpecificationFingerprint;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationVersionExtractor;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.HttpHeaders;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.Timestamp;
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -84,7 +111,26 @@ public class DiscoveryService {
     private final RestTemplate restTemplate;
     private final DiscoveryServiceMapper discoveryServiceMapper;
     private final ConfigParameterService configParameterService;
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
+    private final DiscoveryExecutor discoveryExecutor;
+    private final DiscoveryProbeMetrics probeMetrics;
+    private final SpecificationFingerprintService fingerprintService;
+    private final DiscoveryProgressTracker progressTracker;
+    private final SpecificationVersionExtractor versionExtractor;
+    private final NegativeProbeCache negativeProbeCache;
+    private final DiscoveryLeaderElection leaderElection;
+    private final SpecificationDownloader specificationDownloader;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${qip.discovery.probe.service-deadline:120s}")
+    private Duration serviceProbeDeadline;
+
+    @Value("${qip.discovery.persistence.chunk-size:50}")
+    private int persistenceChunkSize;
 
     @Autowired
     public DiscoveryService(
@@ -96,10 +142,19 @@ public class DiscoveryService {
             SpecificationGroupService specificationGroupService,
             YAMLMapper yamlMapper,
             ObjectMapper objectMapper,
-            RestTemplate restTemplateMS,
+            @Qualifier("restTemplateDiscovery") RestTemplate restTemplateDiscovery,
             DiscoveryServiceMapper discoveryServiceMapper,
             ConfigParameterService configParameterService,
-            ActionsLogService actionLogger
+            ActionLogWriter actionLogger,
+            DiscoveryExecutor discoveryExecutor,
+            DiscoveryProbeMetrics probeMetrics,
+            SpecificationFingerprintService fingerprintService,
+            DiscoveryProgressTracker progressTracker,
+            PlatformTransactionManager transactionManager,
+            SpecificationVersionExtractor versionExtractor,
+            NegativeProbeCache negativeProbeCache,
+            DiscoveryLeaderElection leaderElection,
+            SpecificationDownloader specificationDownloader
     ) {
         this.operator = operator;
         this.systemService = systemService;
@@ -109,36 +164,48 @@ public class DiscoveryService {
         this.specificationGroupService = specificationGroupService;
         this.yamlMapper = yamlMapper;
         this.objectMapper = objectMapper;
-        this.restTemplate = restTemplateMS;
+        this.restTemplate = restTemplateDiscovery;
         this.discoveryServiceMapper = discoveryServiceMapper;
         this.configParameterService = configParameterService;
         this.actionLogger = actionLogger;
+        this.discoveryExecutor = discoveryExecutor;
+        this.probeMetrics = probeMetrics;
+        this.fingerprintService = fingerprintService;
+        this.progressTracker = progressTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // a failed chunk must not mark a surrounding transaction for rollback, its services are saved again one by one
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.versionExtractor = versionExtractor;
+        this.negativeProbeCache = negativeProbeCache;
+        this.leaderElection = leaderElection;
+        this.specificationDownloader = specificationDownloader;
     }
 
-    private record DiscoveredSpecificationSource(String contentType, String content) {}
-
     @AllArgsConstructor
     @Getter
-    private static class SpecificationDiscoveryErrorMsg {
+    static class SpecificationDiscoveryErrorMsg {
         private String serviceName;
         private String errorMessage;
     }
 
     @AllArgsConstructor
     @Getter
-    private static class SpecificationDiscoveryDTO {
+    static class SpecificationDiscoveryDTO {
         private String type;
         private String name;
         private String url;
         private String contentType;
-        private String content;
+        private Path contentFile;
         private String version;
         private String sourceFileName;
+        private String address;
+        private SpecificationFingerprint fingerprint;
+        private boolean unchanged;
     }
 
     @AllArgsConstructor
     @Getter
-    private static class SpecificationDiscoveryResult {
+    static class SpecificationDiscoveryResult {
         private String serviceAddress;
         private List<SpecificationDiscoveryDTO> specificationDiscoveryDTOS;
     }
@@ -152,6 +219,21 @@ public class DiscoveryService {
         private String errorMessage;
     }
 
+    @AllArgsConstructor
+    @Getter
+    static class DiscoveredSystemCandidate {
+        private KubeService service;
+        private OperationProtocol protocol;
+        private String systemPostfix;
+        private SpecificationDiscoveryResult discoveryResult;
+    }
+
+    private record CreatedSpecificationGroup(
+            String serviceName,
+            SpecificationGroup specificationGroup,
+            SpecificationDiscoveryDTO specificationDTO
+    ) {}
+
     @AllArgsConstructor
     @Getter
     private static class SpecificationChanges {
@@ -160,43 +242,61 @@ public class DiscoveryService {
     }
 
     private static final String DISCOVERY_RESULT_NAME = "discoveryResult";
-    private static final String DISCOVERY_PROGRESS_NAME = "discoveryProgress";
-    private static final String DISCOVERY_NAMESPACE = "discovery";
+    private static final String DISCOVERY_NAMESPACE = DiscoveryProgressTracker.DISCOVERY_NAMESPACE;
+    private static final String SERVICE_CHANGES_CONSUMER = "discovery";
     private static final String SPEC_FIELD_NAME = "name";
     private static final String SPEC_FIELD_URL = "url";
     private static final String SPEC_FIELD_URL_LIST = "urls";
     private static final String SPEC_FIELD_ID = "id";
     private static final String SPEC_FIELD_VERSION = "version";
-    private static final String SPEC_FIELD_INFO = "info";
-    private static final String DISCOVERY_COMPLETE = "100";
-    private static final String DISCOVERY_START = "0";
     private static final Integer PRIORITY_SERVICE_PORT = 8080;
+    private static final String[] SWAGGER_CONFIG_URLS = {"/v3/api-docs/swagger-config", "/swagger-resources"};
+    private static final String[] SWAGGER_DEFAULT_URLS = {"/q/openapi", "/v3/api-docs", "/v2/api-docs", "/v1/api-docs", "/api-docs", "/swagger-ui/swagger.json"};
+    private static final String ASYNC_CONFIG_URL = "/asyncApi/specification";
+    private static final String ASYNC_SPEC_URL_PATTERN = ASYNC_CONFIG_URL + "/{id}/version/{version}";
+    private static final String CONFIGURED_SPEC_URL_PATTERN = "configured";
     private static final Map<OperationProtocol, String> PROTOCOL_POSTFIX_MAP = Map.of(
             OperationProtocol.HTTP, "",
             OperationProtocol.KAFKA, "async"
     );
-    private double percent;
     private final Object lock = new Object();
 
     public void runDiscovery() {
+        runDiscovery(false);
+    }
+
+    /**
+     * Starts discovery process. Only the replica holding discovery leadership runs it,
+     * other replicas serve progress and results from the shared state.
+     *
+     * @param changedOnly probe only k8s services added or modified since the previous discovery
+     */
+    public void runDiscovery(boolean changedOnly) {
         synchronized (lock) {
             String requestId = MDC.get(ContextHeaders.REQUEST_ID);
-            if (!isDiscoveryComplete()) {
+            if (!leaderElection.tryAcquire()) {
                 throw new RuntimeException("Autodiscovery is in progress");
             }
 
-            setDiscoveryStatus(DISCOVERY_START);
-            CompletableFuture
-                    .supplyAsync(() -> {
-                        MDC.put(ContextHeaders.REQUEST_ID, requestId);
-                        return runDiscoveryAsync();
-                    })
-                    .whenCompleteAsync(
-                            (DiscoveryResultDTO result, Throwable throwable) -> {
-                                MDC.put(ContextHeaders.REQUEST_ID, requestId);
-                                discoveryComplete(result, throwable);
-                            }
-                    );
+            try {
+                progressTracker.start();
+                discoveryExecutor
+                        .startRun(() -> runDiscoveryAsync(changedOnly))
+                        .whenCompleteAsync(
+                                (DiscoveryResultDTO result, Throwable throwable) -> {
+                                    MDC.put(ContextHeaders.REQUEST_ID, requestId);
+                                    try {
+                                        discoveryComplete(result, throwable);
+                                    } finally {
+                                        leaderElection.release();
+                                    }
+                                },
+                                discoveryExecutor.getExecutor()
+                        );
+            } catch (RuntimeException e) {
+                leaderElection.release();
+                throw e;
+            }
         }
     }
 
@@ -211,38 +311,67 @@ public class DiscoveryService {
         setDiscoveryStatusResult(result, errorMessage);
     }
 
-    private DiscoveryResultDTO runDiscoveryAsync() {
-        log.info("Discovery started");
-        String requestId = MDC.get(ContextHeaders.REQUEST_ID);
+    private DiscoveryResultDTO runDiscoveryAsync(boolean changedOnly) {
+        log.info("Discovery started, changed services only: {}", changedOnly);
+        negativeProbeCache.startRun();
+        fingerprintService.startRun();
+        specificationDownloader.startRun();
+        boolean completed = false;
+        try {
+            DiscoveryResultDTO result = discoverServices(changedOnly);
+            completed = true;
+            return result;
+        } finally {
+            specificationDownloader.finishRun();
+            // only a completed run over all services tells which fingerprints are stale
+            fingerprintService.finishRun(completed && !changedOnly);
+            negativeProbeCache.finishRun();
+        }
+    }
+
+    private DiscoveryResultDTO discoverServices(boolean changedOnly) {
 
-        List<CompletableFuture<List<IntegrationSystem>>> newlyDiscoveredFuture = new ArrayList<>();
+        List<CompletableFuture<List<DiscoveredSystemCandidate>>> newlyDiscoveredFuture = new ArrayList<>();
         List<CompletableFuture<SpecificationChanges>> specificationChangedFuture = new ArrayList<>();
-        List<SpecificationDiscoveryErrorMsg> errorMessages = new ArrayList<>();
+        List<SpecificationDiscoveryErrorMsg> errorMessages = Collections.synchronizedList(new ArrayList<>());
 
         List<IntegrationSystem> systems = systemService.getAllDiscoveredServices();
-        List<KubeService> services = operator.getServices();
-        percent = 99.0 / (services.size() + systems.size());
-        log.debug("Percent step size: {}", percent);
+        Set<String> existingSystemIds = systems.stream().map(AbstractSystemEntity::getId).collect(Collectors.toSet());
+        List<KubeService> services;
+        if (changedOnly) {
+            services = operator.getChangedServices(SERVICE_CHANGES_CONSUMER);
+            Set<String> changedServiceNames = services.stream().map(KubeService::getName).collect(Collectors.toSet());
+            systems = systems.stream()
+                    .filter(system -> changedServiceNames.contains(system.getInternalServiceName()))
+                    .collect(Collectors.toList());
+        } else {
+            services = operator.getServices(SERVICE_CHANGES_CONSUMER);
+        }
+        progressTracker.setTotal(services.size() + systems.size());
 
         for (IntegrationSystem system : systems) {
-            specificationChangedFuture.add(CompletableFuture.supplyAsync(() -> {
-                    MDC.put(ContextHeaders.REQUEST_ID, requestId);
-                    return makeSpecificationChange(system, errorMessages, services);
-                }));
+            specificationChangedFuture.add(discoveryExecutor.submit(
+                    () -> makeSpecificationChange(system, errorMessages, services)));
         }
 
         for (KubeService service : services) {
-            newlyDiscoveredFuture.add(CompletableFuture.supplyAsync(() -> {
-                    MDC.put(ContextHeaders.REQUEST_ID, requestId);
-                    return createDiscoveredService(service, errorMessages);
-                }));
+            newlyDiscoveredFuture.add(discoveryExecutor.submit(
+                    () -> probeNewService(service, existingSystemIds)));
         }
 
-        return toDiscoveryResultDTO(
-                        getFuturesResultFlat(newlyDiscoveredFuture),
+        DiscoveryResultDTO result = toDiscoveryResultDTO(
+                        persistDiscoveredServices(newlyDiscoveredFuture, errorMessages),
                         getFuturesResult(specificationChangedFuture),
                         errorMessages
                 );
+
+        DiscoveryExecutor.RunStatistics statistics = discoveryExecutor.getRunStatistics();
+        log.info("Discovery finished. Completed tasks: {}, failed tasks: {}",
+                statistics.getCompleted(), statistics.getFailed());
+        if (!leaderElection.isLeader()) {
+            throw new RuntimeException("Discovery leadership was lost, discovery result is incomplete");
+        }
+        return result;
     }
 
     private <T> List<T> getFuturesResult(List<CompletableFuture<T>> futureList) {
@@ -253,15 +382,13 @@ public class DiscoveryService {
                 .collect(Collectors.toList());
     }
 
-    private <T> List<T> getFuturesResultFlat(List<CompletableFuture<List<T>>> futureLists) {
-        return getFuturesResult(futureLists).stream()
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
-    }
-
     private SpecificationChanges makeSpecificationChange(IntegrationSystem system,
                                                         List<SpecificationDiscoveryErrorMsg> errorMessages,
                                                         List<KubeService> services) {
+        if (!leaderElection.isLeader()) {
+            return null;
+        }
+
         List<String> ignoreUrl = Collections.emptyList();
         if (system.getSpecificationGroups() != null)
             ignoreUrl = system.getSpecificationGroups().stream().filter(group -> !group.isSynchronization())
@@ -270,21 +397,35 @@ public class DiscoveryService {
         KubeService service = findCorrespondingService(system, services);
         SpecificationDiscoveryResult specificationDiscoveryResult = null;
         if (service != null) {
-            specificationDiscoveryResult = runSpecificationDiscovery(service.getName(), service.getPorts(),
-                    system.getProtocol(), ignoreUrl);
+            specificationDiscoveryResult = runSpecificationDiscovery(service, system.getProtocol(), ignoreUrl, true);
         }
         if (specificationDiscoveryResult == null) {
             log.debug("Not found specifications for system: {}", system.getName());
-            addProgress();
+            progressTracker.serviceProcessed(system.getInternalServiceName());
             return null;
         }
 
+        // Unchanged specifications were already imported, no need to look them up again
+        specificationDiscoveryResult.getSpecificationDiscoveryDTOS().stream()
+                .filter(SpecificationDiscoveryDTO::isUnchanged)
+                .forEach(this::saveFingerprint);
+        if (specificationDiscoveryResult.getSpecificationDiscoveryDTOS().stream()
+                .allMatch(SpecificationDiscoveryDTO::isUnchanged)) {
+            log.debug("Specifications of system {} are not changed", system.getName());
+            progressTracker.serviceProcessed(system.getInternalServiceName());
+            return new SpecificationChanges(Collections.emptyList(), Collections.emptyList());
+        }
+
         Set<String> oldSystemModelsIds = systemModelService.getSystemModelsBySystemId(system.getId()).stream()
                 .map(AbstractEntity::getId).collect(Collectors.toSet());
 
         List<SpecificationGroup> createdGroups = new ArrayList<>();
         List<SystemModel> createdSpecifications = new ArrayList<>();
         for (SpecificationDiscoveryDTO specificationDTO : specificationDiscoveryResult.getSpecificationDiscoveryDTOS()) {
+            if (specificationDTO.isUnchanged()) {
+                continue;
+            }
+
             SpecificationGroup specificationGroup = specificationGroupService.getById(
                     specificationGroupService.buildSpecificationGroupId(system, specificationDTO.getName()));
             if (specificationGroup == null) {
@@ -304,6 +445,8 @@ public class DiscoveryService {
             // skip spec if one already exists (by name) in a spec group
             if (systemModelService.getSystemModelByVersionAndSpecificationGroupId(specificationGroup.getId(),
                     specificationDTO.getVersion()) != null) {
+                specificationDownloader.delete(specificationDTO.getContentFile());
+                saveFingerprint(specificationDTO);
                 continue;
             }
 
@@ -314,6 +457,7 @@ public class DiscoveryService {
                         oldSystemModelsIds,
                         msg -> addErrorMessage(errorMessages, system.getInternalServiceName(), specificationDTO.getName(), msg)
                 );
+                saveFingerprint(specificationDTO);
                 String groupId = specificationGroup.getId();
                 if (createdGroups.stream().noneMatch(group -> group.getId().equals(groupId)))
                     createdSpecifications.add(model);
@@ -322,11 +466,30 @@ public class DiscoveryService {
                 addErrorMessage(errorMessages, system.getInternalServiceName(), specificationDTO.getName(), e.getMessage());
             }
         }
-        addProgress();
+        progressTracker.serviceProcessed(system.getInternalServiceName());
 
         return new SpecificationChanges(createdGroups, createdSpecifications);
     }
 
+    private void saveFingerprint(SpecificationDiscoveryDTO specificationDTO) {
+        if (specificationDTO.getFingerprint() != null) {
+            fingerprintService.save(specificationDTO.getAddress(), specificationDTO.getFingerprint());
+        }
+    }
+
+    private void deleteContentFiles(DiscoveredSystemCandidate candidate) {
+        deleteContentFiles(candidate.getDiscoveryResult().getSpecificationDiscoveryDTOS());
+    }
+
+    /**
+     * Deletes downloaded files of rejected specifications right away rather than at the end of the run.
+     */
+    private void deleteContentFiles(Collection<SpecificationDiscoveryDTO> specifications) {
+        if (specifications != null) {
+            specifications.forEach(specificationDTO -> specificationDownloader.delete(specificationDTO.getContentFile()));
+        }
+    }
+
     private KubeService findCorrespondingService(IntegrationSystem system, List<KubeService> services) {
         return services.stream().filter(kubeService -> kubeService.getName().equals(system.getInternalServiceName()))
                 .findAny().orElse(null);
@@ -367,14 +530,15 @@ public class DiscoveryService {
                                             Set<String> oldSystemModelsIds,
                                             Consumer<String> messageHandler) {
         try {
-            if (specificationDTO == null || StringUtils.isBlank(specificationDTO.getContent()))
+            String content = readSpecificationContent(specificationDTO);
+            if (StringUtils.isBlank(content))
                 throw new SpecificationDiscoveryException("Specification file not found");
 
             SystemModel model = specificationImportService.importSimpleSpecification(
-                    getSourceFileName(specificationGroup, specificationDTO),
+                    getSourceFileName(specificationGroup, specificationDTO, content),
                     specificationGroup.getId(),
                     specificationDTO.getType(),
-                    specificationDTO.getContent(),
+                    content,
                     oldSystemModelsIds,
                     messageHandler).join();
             model.setSource(DISCOVERED);
@@ -388,18 +552,36 @@ public class DiscoveryService {
         } catch (RuntimeException e) {
             log.error("Synced specification creation failed", e);
             throw new SpecificationDiscoveryException("Synced specification creation failed: " + e.getMessage(), e);
+        } finally {
+            if (specificationDTO != null) {
+                specificationDownloader.delete(specificationDTO.getContentFile());
+            }
         }
     }
 
-    private String getSourceFileName(SpecificationGroup specificationGroup, SpecificationDiscoveryDTO specificationDTO) {
+    private String readSpecificationContent(SpecificationDiscoveryDTO specificationDTO) {
+        if (specificationDTO == null || specificationDTO.getContentFile() == null) {
+            return null;
+        }
+        try {
+            return specificationDownloader.readContent(specificationDTO.getContentFile(), specificationDTO.getContentType());
+        } catch (IOException e) {
+            throw new SpecificationDiscoveryException("Unable to read downloaded specification: " + e.getMessage(), e);
+        }
+    }
+
+    private String getSourceFileName(SpecificationGroup specificationGroup,
+                                     SpecificationDiscoveryDTO specificationDTO,
+                                     String content) {
         return StringUtils.isBlank(specificationDTO.getSourceFileName())
-                ? buildSpecificationFileName(specificationGroup, specificationDTO)
+                ? buildSpecificationFileName(specificationGroup, specificationDTO, content)
                 : specificationDTO.getSourceFileName();
     }
 
     private String buildSpecificationFileName(
             SpecificationGroup specificationGroup,
-            SpecificationDiscoveryDTO specificationDiscoveryDTO
+            SpecificationDiscoveryDTO specificationDiscoveryDTO,
+            String content
     ) {
         StringBuilder sb = new StringBuilder();
         IntegrationSystem system = specificationGroup.getSystem();
@@ -408,7 +590,7 @@ public class DiscoveryService {
             sb.append('-').append(specificationDiscoveryDTO.getVersion());
         }
         String specificationTypeName = getSpecificationTypeName(
-                system.getProtocol(), specificationDiscoveryDTO.getContent(), specificationDiscoveryDTO.getUrl());
+                system.getProtocol(), content, specificationDiscoveryDTO.getUrl());
         if (!StringUtils.isBlank(specificationTypeName)) {
             sb.append('-').append(specificationTypeName);
         }
@@ -448,59 +630,252 @@ public class DiscoveryService {
         return "-" + systemPostfix;
     }
 
-    private SpecificationDiscoveryResult runSpecificationDiscovery(String serviceName,
-                                                                   List<Integer> servicePorts,
-                                                                   OperationProtocol protocol) {
-        return runSpecificationDiscovery(serviceName, servicePorts, protocol, Collections.emptyList());
+    SpecificationDiscoveryResult runSpecificationDiscovery(KubeService service, OperationProtocol protocol) {
+        return runSpecificationDiscovery(service, protocol, Collections.emptyList(), false);
     }
 
-    private SpecificationDiscoveryResult runSpecificationDiscovery(String serviceName,
-                                                                   List<Integer> servicePorts,
+    private SpecificationDiscoveryResult runSpecificationDiscovery(KubeService service,
                                                                    OperationProtocol protocol,
-                                                                   List<String> ignoreUrls) {
-        List<SpecificationDiscoveryDTO> specifications = null;
+                                                                   List<String> ignoreUrls,
+                                                                   boolean conditional) {
+        String serviceName = service.getName();
 
-        // Setting priority port (speedup to check first)
-        servicePorts = new ArrayList<>(servicePorts);
+        // Setting priority port (results of this port are preferred)
+        List<Integer> servicePorts = new ArrayList<>(service.getPorts());
         if (servicePorts.remove(PRIORITY_SERVICE_PORT)) {
             servicePorts.add(0, PRIORITY_SERVICE_PORT);
         }
 
-        String serviceAddress = null;
+        // All ports are probed concurrently, the first port in priority order having specifications wins
+        long deadline = System.nanoTime() + serviceProbeDeadline.toNanos();
+        Map<Integer, Future<List<SpecificationDiscoveryDTO>>> probes = new LinkedHashMap<>();
+        Future<List<SpecificationDiscoveryDTO>> winningProbe = null;
         for (int port : servicePorts) {
-            serviceAddress = constructEnvAddress(serviceName, port);
-            specifications = getServiceSpecificationsDTO(serviceAddress, protocol, ignoreUrls);
-            if (!CollectionUtils.isEmpty(specifications)) {
-                break;
+            if (!negativeProbeCache.shouldProbe(service, port, protocol)) {
+                log.debug("Skipping port {} of service {}, no {} specifications found there recently",
+                        port, serviceName, protocol.getType());
+                continue;
             }
+            String address = constructEnvAddress(serviceName, port);
+            probes.put(port, discoveryExecutor.probePort(
+                    () -> getServiceSpecificationsDTO(address, protocol, ignoreUrls, conditional, deadline)));
         }
-        if (CollectionUtils.isEmpty(specifications)) {
-            log.debug("Didn't find specifications for service {}", serviceName);
-            return null;
+
+        try {
+            for (Map.Entry<Integer, Future<List<SpecificationDiscoveryDTO>>> probe : probes.entrySet()) {
+                int port = probe.getKey();
+                List<SpecificationDiscoveryDTO> specifications;
+                try {
+                    specifications = awaitProbe(probe.getValue(), deadline);
+                } catch (ExecutionException e) {
+                    log.debug("Specification probe of port {} of service {} failed: {}", port, serviceName, e.getMessage());
+                    continue;
+                }
+                if (!CollectionUtils.isEmpty(specifications)) {
+                    negativeProbeCache.recordFound(service, port, protocol);
+                    winningProbe = probe.getValue();
+                    return new SpecificationDiscoveryResult(constructEnvAddress(serviceName, port), specifications);
+                }
+                // A null result means the port didn't answer conclusively, it is probed again on the next run.
+                // Ignored URLs are not looked up, so an empty result doesn't mean there are no specifications
+                if (specifications != null && ignoreUrls.isEmpty()) {
+                    negativeProbeCache.recordEmpty(service, port, protocol);
+                }
+            }
+        } catch (TimeoutException e) {
+            log.warn("Specification discovery deadline of {} exceeded for service {}", serviceProbeDeadline, serviceName);
+        } finally {
+            // losing and timed out probes are interrupted, so their requests and files are released.
+            // Files of losing probes completed before are deleted here
+            for (Future<List<SpecificationDiscoveryDTO>> probe : probes.values()) {
+                if (probe != winningProbe && !probe.cancel(true) && probe.state() == Future.State.SUCCESS) {
+                    deleteContentFiles(probe.resultNow());
+                }
+            }
+        }
+
+        log.debug("Didn't find specifications for service {}", serviceName);
+        return null;
+    }
+
+    /**
+     * Waits for all probes until the deadline, probes not completed by then are cancelled.
+     * Failed and timed out probes are flagged in {@code probeFailed}.
+     */
+    private <T> List<T> awaitProbes(List<Future<T>> probes, long deadline, AtomicBoolean probeFailed) {
+        List<T> results = new ArrayList<>(probes.size());
+        try {
+            for (Future<T> probe : probes) {
+                try {
+                    T result = awaitProbe(probe, deadline);
+                    if (result != null) {
+                        results.add(result);
+                    }
+                } catch (ExecutionException e) {
+                    log.debug("Specification probe failed: {}", e.getMessage());
+                    probeFailed.set(true);
+                }
+            }
+        } catch (TimeoutException e) {
+            log.debug("Specification probes are not completed in time: {}", e.getMessage());
+            probeFailed.set(true);
+        } finally {
+            probes.forEach(probe -> probe.cancel(true));
         }
+        return results;
+    }
 
-        return new SpecificationDiscoveryResult(serviceAddress, specifications);
+    private <T> T awaitProbe(Future<T> probe, long deadline) throws TimeoutException, ExecutionException {
+        try {
+            return probe.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Specification discovery interrupted");
+        }
     }
 
-    private List<IntegrationSystem> createDiscoveredService(KubeService service, List<SpecificationDiscoveryErrorMsg> errorMessages) {
-        List<IntegrationSystem> integrationSystems = new ArrayList<>(PROTOCOL_POSTFIX_MAP.keySet().size());
+    /**
+     * Probes a k8s service for specifications of systems not created yet. Nothing is saved here,
+     * found systems are persisted in chunks by {@link #persistDiscoveredServices}.
+     */
+    private List<DiscoveredSystemCandidate> probeNewService(KubeService service, Set<String> existingSystemIds) {
+        if (!leaderElection.isLeader()) {
+            return Collections.emptyList();
+        }
+
+        List<DiscoveredSystemCandidate> candidates = new ArrayList<>(PROTOCOL_POSTFIX_MAP.keySet().size());
 
         for (Map.Entry<OperationProtocol, String> entry : PROTOCOL_POSTFIX_MAP.entrySet()) {
             OperationProtocol protocolType = entry.getKey();
             String systemPostfix = entry.getValue();
 
-            if (systemService.getByIdOrNull(constructSystemId(service, systemPostfix)) != null)
+            if (existingSystemIds.contains(constructSystemId(service, systemPostfix)))
                 continue;
 
-            SpecificationDiscoveryResult discoveryResult = runSpecificationDiscovery(service.getName(), service.getPorts(), protocolType);
+            SpecificationDiscoveryResult discoveryResult = runSpecificationDiscovery(service, protocolType);
             if (discoveryResult == null) {
                 continue;
             }
 
+            candidates.add(new DiscoveredSystemCandidate(service, protocolType, systemPostfix, discoveryResult));
+        }
+
+        progressTracker.serviceProcessed(service.getName());
+
+        return candidates;
+    }
+
+    List<IntegrationSystem> persistDiscoveredServices(List<CompletableFuture<List<DiscoveredSystemCandidate>>> futures,
+                                                      List<SpecificationDiscoveryErrorMsg> errorMessages) {
+        List<IntegrationSystem> integrationSystems = new ArrayList<>();
+        List<DiscoveredSystemCandidate> chunk = new ArrayList<>(persistenceChunkSize);
+
+        // services are persisted in completion order, so only one chunk of candidates is kept in memory
+        BlockingQueue<CompletableFuture<List<DiscoveredSystemCandidate>>> completed = new LinkedBlockingQueue<>();
+        futures.forEach(future -> future.whenComplete((candidates, throwable) -> completed.add(future)));
+        for (int i = 0; i < futures.size(); i++) {
+            List<DiscoveredSystemCandidate> candidates = takeCompleted(completed).join();
+            if (candidates == null) {
+                continue;
+            }
+            chunk.addAll(candidates);
+            if (chunk.size() >= persistenceChunkSize) {
+                integrationSystems.addAll(persistDiscoveredServicesChunk(chunk, errorMessages));
+                chunk = new ArrayList<>(persistenceChunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            integrationSystems.addAll(persistDiscoveredServicesChunk(chunk, errorMessages));
+        }
+
+        return integrationSystems;
+    }
+
+    private <T> T takeCompleted(BlockingQueue<T> completed) {
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Discovery was interrupted");
+        }
+    }
+
+    /**
+     * Saves systems, environments and specification groups of the chunk in a single transaction,
+     * so Hibernate flushes them with JDBC batching. If the chunk fails, its systems are saved one by one,
+     * so a single failing service doesn't prevent others from being saved. Each attempt runs in a new transaction
+     * with a cleared session, so entities of a failed attempt are not flushed again.
+     * Specifications are imported after the commit, since the import service works with committed groups.
+     */
+    private List<IntegrationSystem> persistDiscoveredServicesChunk(List<DiscoveredSystemCandidate> chunk,
+                                                                   List<SpecificationDiscoveryErrorMsg> errorMessages) {
+        if (!leaderElection.isLeader()) {
+            log.warn("Discovery leadership lost, {} discovered services are not saved", chunk.size());
+            chunk.forEach(this::deleteContentFiles);
+            return Collections.emptyList();
+        }
+
+        List<CreatedSpecificationGroup> createdGroups = new ArrayList<>();
+        List<IntegrationSystem> integrationSystems;
+        try {
+            integrationSystems = transactionTemplate.execute(status -> {
+                entityManager.clear();
+                return createDiscoveredSystems(chunk, createdGroups);
+            });
+        } catch (RuntimeException e) {
+            if (chunk.size() > 1) {
+                log.warn("Failed to save {} discovered services together, saving them one by one: {}",
+                        chunk.size(), e.getMessage());
+                return chunk.stream()
+                        .flatMap(candidate -> persistDiscoveredServicesChunk(List.of(candidate), errorMessages).stream())
+                        .toList();
+            }
+            log.error("Failed to save discovered service", e);
+            chunk.forEach(candidate -> addErrorMessage(errorMessages, candidate.getService().getName(), null,
+                    "Failed to save discovered service: " + e.getMessage()));
+            chunk.forEach(this::deleteContentFiles);
+            return Collections.emptyList();
+        }
+
+        for (CreatedSpecificationGroup createdGroup : createdGroups) {
+            SpecificationDiscoveryDTO specificationDTO = createdGroup.specificationDTO();
+            try {
+                createSpecification(
+                        createdGroup.specificationGroup(),
+                        specificationDTO,
+                        Collections.emptySet(),
+                        msg -> addErrorMessage(errorMessages, createdGroup.serviceName(), specificationDTO.getName(), msg)
+                );
+                saveFingerprint(specificationDTO);
+            } catch (SpecificationDiscoveryException e) {
+                addErrorMessage(errorMessages, createdGroup.serviceName(), specificationDTO.getName(), e.getMessage());
+            }
+        }
+
+        return integrationSystems == null ? Collections.emptyList() : integrationSystems;
+    }
+
+    private List<IntegrationSystem> createDiscoveredSystems(List<DiscoveredSystemCandidate> chunk,
+                                                            List<CreatedSpecificationGroup> createdGroups) {
+        // inserts are issued entity by entity, so they are batched without ordering inserts globally
+        entityManager.unwrap(Session.class).setJdbcBatchSize(persistenceChunkSize);
+
+        List<IntegrationSystem> integrationSystems = new ArrayList<>(chunk.size());
+        List<DiscoveredSystemCandidate> createdCandidates = new ArrayList<>(chunk.size());
+        for (DiscoveredSystemCandidate candidate : chunk) {
+            KubeService service = candidate.getService();
+            OperationProtocol protocolType = candidate.getProtocol();
+            String systemId = constructSystemId(service, candidate.getSystemPostfix());
+            // a system with the same id may have been created manually after discovery started
+            if (systemService.getByIdOrNull(systemId) != null) {
+                deleteContentFiles(candidate);
+                continue;
+            }
+
             Timestamp currentTime = new Timestamp(System.currentTimeMillis());
             IntegrationSystem system = IntegrationSystem.builder()
-                    .id(constructSystemId(service, systemPostfix))
-                    .name(StringUtils.trim(service.getName() + " " + systemPostfix))
+                    .id(systemId)
+                    .name(StringUtils.trim(service.getName() + " " + candidate.getSystemPostfix()))
                     .internalServiceName(service.getName())
                     .integrationSystemType(INTERNAL)
                     .protocol(protocolType)
@@ -508,37 +883,34 @@ public class DiscoveryService {
                     .createdWhen(currentTime)
                     .modifiedWhen(currentTime)
                     .build();
-            system = systemService.create(system);
+            integrationSystems.add(systemService.create(system));
+            createdCandidates.add(candidate);
+        }
 
+        for (int i = 0; i < createdCandidates.size(); i++) {
+            DiscoveredSystemCandidate candidate = createdCandidates.get(i);
+            OperationProtocol protocolType = candidate.getProtocol();
             Environment environment = Environment.builder()
-                    .name(service.getName())
-                    .address(discoveryResult.getServiceAddress())
+                    .name(candidate.getService().getName())
+                    .address(candidate.getDiscoveryResult().getServiceAddress())
                     .sourceType(OperationProtocol.isAsyncProtocol(protocolType) ?
                             MAAS_BY_CLASSIFIER :
                             MANUAL)
                     .build();
-            environment = environmentService.create(environment, system);
+            environmentService.create(environment, integrationSystems.get(i));
+        }
 
-            for (SpecificationDiscoveryDTO specificationDTO : discoveryResult.getSpecificationDiscoveryDTOS()) {
+        for (int i = 0; i < createdCandidates.size(); i++) {
+            DiscoveredSystemCandidate candidate = createdCandidates.get(i);
+            IntegrationSystem system = integrationSystems.get(i);
+            for (SpecificationDiscoveryDTO specificationDTO : candidate.getDiscoveryResult().getSpecificationDiscoveryDTOS()) {
                 SpecificationGroup specificationGroup = specificationGroupService.createAndSaveUniqueSpecificationGroup(
                         system, specificationDTO.getName(), specificationDTO.getType(), specificationDTO.getUrl(), true);
-                try {
-                    createSpecification(
-                            specificationGroup,
-                            specificationDTO,
-                            Collections.emptySet(),
-                            msg -> addErrorMessage(errorMessages, service.getName(), specificationDTO.getName(), msg)
-                    );
-                } catch (SpecificationDiscoveryException e) {
-                    addErrorMessage(errorMessages, service.getName(), specificationDTO.getName(), e.getMessage());
-                }
+                createdGroups.add(new CreatedSpecificationGroup(
+                        candidate.getService().getName(), specificationGroup, specificationDTO));
             }
-
-            integrationSystems.add(system);
         }
 
-        addProgress();
-
         return integrationSystems;
     }
 
@@ -552,6 +924,7 @@ public class DiscoveryService {
         if (!StringUtils.isBlank(specificationName))
             serviceName += " " + specificationName;
         errorMessages.add(new SpecificationDiscoveryErrorMsg(serviceName, message));
+        progressTracker.serviceFailed(serviceName, message);
     }
 
     private String constructEnvAddress(String host, int port) {
@@ -563,28 +936,39 @@ public class DiscoveryService {
         return protocol + environmentAddress + url;
     }
 
-    private List<SpecificationDiscoveryDTO> getServiceSpecificationsDTO(String environmentAddress, OperationProtocol protocol, List<String> ignoreUrls) {
+    private List<SpecificationDiscoveryDTO> getServiceSpecificationsDTO(String environmentAddress,
+                                                                        OperationProtocol protocol,
+                                                                        List<String> ignoreUrls,
+                                                                        boolean conditional,
+                                                                        long deadline) {
+        // set when a request fails in a way which may be gone on the next run
+        AtomicBoolean probeFailed = new AtomicBoolean();
         Map<String, String> specificationUrls = new HashMap<>();
         if (protocol == OperationProtocol.HTTP)
-            specificationUrls = getSwaggerUrls(environmentAddress);
+            specificationUrls = getSwaggerUrls(environmentAddress, deadline, probeFailed);
         else if (protocol == OperationProtocol.KAFKA)
-            specificationUrls = getAsyncUrls(environmentAddress);
+            specificationUrls = getAsyncUrls(environmentAddress, probeFailed);
 
-        if (protocol != null) {
-            return getServiceSpecificationsDTO(specificationUrls, ignoreUrls, environmentAddress, protocol.getType());
-        } else {
+        if (protocol == null) {
             return Collections.emptyList();
         }
+        List<SpecificationDiscoveryDTO> specifications = getServiceSpecificationsDTO(specificationUrls, ignoreUrls,
+                environmentAddress, protocol.getType(), conditional, deadline, probeFailed);
+        // a cancelled probe has lost, nobody reads its result
+        if (Thread.currentThread().isInterrupted()) {
+            deleteContentFiles(specifications);
+            return null;
+        }
+        // nothing found because of a failure doesn't mean the port has no specifications
+        return specifications.isEmpty() && probeFailed.get() ? null : specifications;
     }
 
-    private HashMap<String, String> getAsyncUrls(String environmentAddress) {
-        final String[] asyncConfigUrl = {"/asyncApi/specification"};
-
+    private HashMap<String, String> getAsyncUrls(String environmentAddress, AtomicBoolean probeFailed) {
         HashMap<String, String> asyncUrls = new HashMap<>();
 
-        for (String url : asyncConfigUrl) {
+        for (String url : new String[] {ASYNC_CONFIG_URL}) {
             String address = constructSpecAddress(environmentAddress, url);
-            String httpResponse = getStringFromRemote(address);
+            String httpResponse = getStringFromRemote(address, url, probeFailed);
             if (StringUtils.isBlank(httpResponse))
                 continue;
 
@@ -609,8 +993,11 @@ public class DiscoveryService {
     private List<SpecificationDiscoveryDTO> getServiceSpecificationsDTO(Map<String, String> specificationUrls,
                                                                         List<String> ignoreUrls,
                                                                         String environmentAddress,
-                                                                        String specificationType) {
-        List<SpecificationDiscoveryDTO> result = new ArrayList<>();
+                                                                        String specificationType,
+                                                                        boolean conditional,
+                                                                        long deadline,
+                                                                        AtomicBoolean probeFailed) {
+        List<Future<SpecificationDiscoveryDTO>> probes = new ArrayList<>();
 
         for (Map.Entry<String, String> entry : specificationUrls.entrySet()) {
             String url = entry.getKey();
@@ -618,43 +1005,94 @@ public class DiscoveryService {
                 continue;
             }
             String name = entry.getValue();
-            String address = constructSpecAddress(environmentAddress, url);
-            DiscoveredSpecificationSource source = getSpecificationSource(address);
-            if (isNull(source) || StringUtils.isBlank(source.content())) {
-                log.debug("Specification source is blank for address: {}", address);
-                continue;
-            }
-            String version = getSpecificationRawVersion(source.content(), address);
-            if (StringUtils.isBlank(version)) {
-                continue;
+            probes.add(discoveryExecutor.probeUrl(() -> getSpecificationDiscoveryDTO(
+                    environmentAddress, url, name, specificationType, conditional, probeFailed)));
+        }
+
+        return awaitProbes(probes, deadline, probeFailed);
+    }
+
+    private SpecificationDiscoveryDTO getSpecificationDiscoveryDTO(String environmentAddress,
+                                                                   String url,
+                                                                   String name,
+                                                                   String specificationType,
+                                                                   boolean conditional,
+                                                                   AtomicBoolean probeFailed) {
+        String address = constructSpecAddress(environmentAddress, url);
+        SpecificationFingerprint knownFingerprint = conditional ? fingerprintService.get(address) : null;
+        DownloadedSpecification source = getSpecificationSource(address, url, knownFingerprint, probeFailed);
+        if (!isNull(source) && source.notModified()) {
+            if (!isNull(knownFingerprint)) {
+                log.debug("Specification is not modified for address: {}", address);
+                return unchangedSpecificationDiscoveryDTO(specificationType, name, url, address,
+                        knownFingerprint.reverified(source.etag(), source.lastModified()));
             }
+            return null;
+        }
+        if (isNull(source) || source.isEmpty()) {
+            log.debug("Specification source is blank for address: {}", address);
+            return null;
+        }
 
-            result.add(
-                    new SpecificationDiscoveryDTO(
-                            specificationType,
-                            name,
-                            url,
-                            source.contentType(),
-                            source.content(),
-                            version,
-                            ""
-                    )
-            );
+        String contentHash = source.contentHash();
+        if (!isNull(knownFingerprint) && contentHash.equals(knownFingerprint.contentHash())) {
+            log.debug("Specification content is not changed for address: {}", address);
+            specificationDownloader.delete(source.contentFile());
+            return unchangedSpecificationDiscoveryDTO(specificationType, name, url, address,
+                    knownFingerprint.reverified(source.etag(), source.lastModified()));
         }
 
-        return result;
+        String version = getSpecificationRawVersion(source.contentFile(), source.contentType(), address);
+        if (StringUtils.isBlank(version) || Thread.currentThread().isInterrupted()) {
+            specificationDownloader.delete(source.contentFile());
+            return null;
+        }
+
+        return new SpecificationDiscoveryDTO(
+                specificationType,
+                name,
+                url,
+                source.contentType(),
+                source.contentFile(),
+                version,
+                "",
+                address,
+                new SpecificationFingerprint(source.etag(), source.lastModified(), contentHash, version,
+                        System.currentTimeMillis()),
+                false
+        );
     }
 
-    private HashMap<String, String> getSwaggerUrls(String environmentAddress) {
-        final String[] swaggerConfigUrl = {"/v3/api-docs/swagger-config", "/swagger-resources"};
-        final String[] swaggerDefaultUrl = {"/q/openapi", "/v3/api-docs", "/v2/api-docs", "/v1/api-docs", "/api-docs", "/swagger-ui/swagger.json"};
+    private SpecificationDiscoveryDTO unchangedSpecificationDiscoveryDTO(String specificationType,
+                                                                         String name,
+                                                                         String url,
+                                                                         String address,
+                                                                         SpecificationFingerprint fingerprint) {
+        return new SpecificationDiscoveryDTO(
+                specificationType,
+                name,
+                url,
+                null,
+                null,
+                fingerprint.version(),
+                "",
+                address,
+                fingerprint,
+                true
+        );
+    }
+
+    private HashMap<String, String> getSwaggerUrls(String environmentAddress, long deadline, AtomicBoolean probeFailed) {
         final String defaultSpecName = "default";
 
         HashMap<String, String> swaggerUrls = new HashMap<>();
 
-        for (String url : swaggerConfigUrl) {
-            String address = constructSpecAddress(environmentAddress, url);
-            String httpResponse = getStringFromRemote(address);
+        List<Future<String>> configProbes = Arrays.stream(SWAGGER_CONFIG_URLS)
+                .map(url -> discoveryExecutor.probeUrl(
+                        () -> getStringFromRemote(constructSpecAddress(environmentAddress, url), url, probeFailed)))
+                .toList();
+
+        for (String httpResponse : awaitProbes(configProbes, deadline, probeFailed)) {
             if (StringUtils.isBlank(httpResponse))
                 continue;
 
@@ -676,48 +1114,82 @@ public class DiscoveryService {
         }
 
         if (swaggerUrls.isEmpty())
-            for (String url : swaggerDefaultUrl) {
+            for (String url : SWAGGER_DEFAULT_URLS) {
                 swaggerUrls.put(url, defaultSpecName);
             }
 
         return swaggerUrls;
     }
 
-    private String getStringFromRemote(String address) {
+    private String getStringFromRemote(String address, String url, AtomicBoolean probeFailed) {
         try {
-            return restTemplate.getForObject(address, String.class);
+            return probeMetrics.record(getUrlPattern(url), () -> restTemplate.getForObject(address, String.class));
         } catch (Exception e) {
             log.error("Error while receiving spec from address: {}, exception: {}", address, e.getMessage());
+            flagTransientFailure(e, probeFailed);
             return null;
         }
     }
 
-    private DiscoveredSpecificationSource getSpecificationSource(String address) {
+    /**
+     * Only a client error response tells that there is nothing at the address. Connection errors,
+     * timeouts and server errors may be gone on the next run.
+     */
+    private static void flagTransientFailure(Exception e, AtomicBoolean probeFailed) {
+        if (!(e instanceof HttpClientErrorException)) {
+            probeFailed.set(true);
+        }
+    }
+
+    private DownloadedSpecification getSpecificationSource(String address,
+                                                           String url,
+                                                           SpecificationFingerprint knownFingerprint,
+                                                           AtomicBoolean probeFailed) {
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(address, String.class);
-            String type = response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
-            String text = response.getBody();
-            return new DiscoveredSpecificationSource(type, text);
+            HttpHeaders requestHeaders = new HttpHeaders();
+            if (!isNull(knownFingerprint)) {
+                if (!StringUtils.isBlank(knownFingerprint.etag())) {
+                    requestHeaders.set(HttpHeaders.IF_NONE_MATCH, knownFingerprint.etag());
+                }
+                if (!StringUtils.isBlank(knownFingerprint.lastModified())) {
+                    requestHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, knownFingerprint.lastModified());
+                }
+            }
+            return probeMetrics.record(
+                    getUrlPattern(url),
+                    () -> specificationDownloader.download(restTemplate, address, requestHeaders));
+        } catch (SpecificationDiscoveryException e) {
+            log.warn(e.getMessage());
+            return null;
         } catch (Exception e) {
+            flagTransientFailure(e, probeFailed);
             return null;
         }
     }
 
-    private String getSpecificationRawVersion(String specificationContent, String address) {
-        String version;
+    private String getUrlPattern(String url) {
+        if (url.startsWith(ASYNC_CONFIG_URL + "/")) {
+            return ASYNC_SPEC_URL_PATTERN;
+        }
+        if (url.equals(ASYNC_CONFIG_URL)
+                || Arrays.asList(SWAGGER_CONFIG_URLS).contains(url)
+                || Arrays.asList(SWAGGER_DEFAULT_URLS).contains(url)) {
+            return url;
+        }
+        return CONFIGURED_SPEC_URL_PATTERN;
+    }
 
+    private String getSpecificationRawVersion(Path specificationFile, String contentType, String address) {
         try {
-            try {
-                version = this.objectMapper.readTree(specificationContent).get(SPEC_FIELD_INFO).get(SPEC_FIELD_VERSION).asText("");
-            } catch (IOException | NullPointerException e) {
-                version = this.yamlMapper.readTree(specificationContent).get(SPEC_FIELD_INFO).get(SPEC_FIELD_VERSION).asText("");
+            String version = versionExtractor.extractVersion(specificationFile, contentType);
+            if (version == null) {
+                log.error("Specification version not found at address: {}", address);
             }
-        } catch (IOException | NullPointerException e) {
+            return version;
+        } catch (IOException e) {
             log.error("Error while parsing version from address: {}", address);
             return null;
         }
-
-        return version;
     }
 
     public List<DiscoveredServiceDTO> getServices() {
@@ -725,7 +1197,6 @@ public class DiscoveryService {
     }
 
     private void setDiscoveryStatusResult(DiscoveryResultDTO result, String errorMessage) {
-        setDiscoveryStatus(DISCOVERY_COMPLETE);
         ConfigParameter cp = new ConfigParameter(DISCOVERY_NAMESPACE, DISCOVERY_RESULT_NAME);
         DiscoveryStatusDTO dto = new DiscoveryStatusDTO(result, errorMessage);
         try {
@@ -733,32 +1204,42 @@ public class DiscoveryService {
             configParameterService.update(cp);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Unable to set discovery status: " + e.getMessage());
+        } finally {
+            progressTracker.complete();
         }
     }
 
-    private void setDiscoveryStatus(String discoveryProgress) {
-        ConfigParameter cp = new ConfigParameter(DISCOVERY_NAMESPACE, DISCOVERY_PROGRESS_NAME);
-        cp.setString(discoveryProgress);
-        configParameterService.update(cp);
-        configParameterService.flush();
+    public List<NegativeProbeEntryDTO> getNegativeProbeCache() {
+        return negativeProbeCache.getEntries().stream()
+                .map(entry -> NegativeProbeEntryDTO.builder()
+                        .serviceName(entry.serviceName())
+                        .port(entry.port())
+                        .protocol(entry.protocol())
+                        .failures(entry.failures())
+                        .runsUntilRetry(negativeProbeCache.getRunsUntilRetry(entry))
+                        .lastProbedWhen(entry.lastProbedWhen())
+                        .build())
+                .toList();
     }
 
-    public String getDiscoveryProgress() {
-        final int entityExpiredTimeoutMinutes = 15;
-
-        ConfigParameter cp = configParameterService.findByName(DISCOVERY_NAMESPACE, DISCOVERY_PROGRESS_NAME);
-        String progress = cp == null ? null : cp.getString().split("\\.")[0];
+    /**
+     * @param serviceName service to clear entries for, all entries are cleared if {@code null}
+     */
+    public void clearNegativeProbeCache(String serviceName) {
+        int removed = negativeProbeCache.clear(serviceName);
+        log.info("Removed {} discovery negative cache entries", removed);
+    }
 
-        if (progress == null ||
-                cp.getModifiedWhen().before(
-                        Timestamp.valueOf(LocalDateTime.now().minusMinutes(entityExpiredTimeoutMinutes))))
-            return DISCOVERY_COMPLETE;
+    public String getDiscoveryProgress() {
+        return progressTracker.getProgress();
+    }
 
-        return progress;
+    public SseEmitter subscribeToDiscoveryProgress() {
+        return progressTracker.subscribe();
     }
 
     public boolean isDiscoveryComplete() {
-        return getDiscoveryProgress().equals(DISCOVERY_COMPLETE);
+        return progressTracker.isComplete();
     }
 
     public DiscoveryResultDTO getDiscoveryResult() {
@@ -781,13 +1262,4 @@ public class DiscoveryService {
 
         return status.getResult();
     }
-
-    private void addProgress() {
-        synchronized (lock) {
-            ConfigParameter cp = configParameterService.findByName(DISCOVERY_NAMESPACE, DISCOVERY_PROGRESS_NAME);
-            double currentProgress = cp == null ? 0 : Double.parseDouble(cp.getString());
-            log.info("Current progress: {}", currentProgress);
-            setDiscoveryStatus(String.valueOf(currentProgress + percent));
-        }
-    }
 }
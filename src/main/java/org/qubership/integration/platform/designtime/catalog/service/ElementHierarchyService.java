@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based queries over element hierarchies which are not expressible with derived repository methods.
+ */
+@Service
+@Transactional
+public class ElementHierarchyService {
+    private static final String ELEMENT_ENTITY = ChainElement.class.getName();
+    private static final String DEPENDENCY_ENTITY = Dependency.class.getName();
+
+    private static final String SUBTREES_QUERY = """
+            with descendants as (
+                select element.id as id from %1$s element where element.id in :ids
+                union all
+                select child.id as id from %1$s child join descendants parent on child.parent.id = parent.id
+            )
+            select element from %1$s element where element.id in (select descendant.id from descendants descendant)
+            """.formatted(ELEMENT_ENTITY);
+    private static final String DEPENDENCIES_QUERY = """
+            select dependency from %s dependency
+            where dependency.elementFrom.id in :ids or dependency.elementTo.id in :ids
+            """.formatted(DEPENDENCY_ENTITY);
+    private static final String DELETE_DEPENDENCIES_QUERY =
+            "delete from %s dependency where dependency.id in :ids".formatted(DEPENDENCY_ENTITY);
+    private static final String DELETE_ELEMENTS_QUERY =
+            "delete from %s element where element.id in :ids".formatted(ELEMENT_ENTITY);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${qip.elements.bulk.batch-size:50}")
+    private int bulkBatchSize;
+
+    /**
+     * Returns the given elements with all their nested elements, resolved with one recursive query.
+     */
+    public List<ChainElement> findSubtrees(Collection<String> rootIds) {
+        if (rootIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return entityManager.createQuery(SUBTREES_QUERY, ChainElement.class)
+                .setParameter("ids", rootIds)
+                .getResultList();
+    }
+
+    /**
+     * Returns input and output dependencies of the given elements.
+     */
+    public List<Dependency> findDependencies(Collection<String> elementIds) {
+        if (elementIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return entityManager.createQuery(DEPENDENCIES_QUERY, Dependency.class)
+                .setParameter("ids", elementIds)
+                .getResultList();
+    }
+
+    /**
+     * Persists new elements and flushes their inserts in JDBC batches.
+     * Elements must be ordered parents first. They are persisted rather than merged, since merging
+     * an element with an assigned id selects it first. The batch size is set on the session
+     * for the flush only, so statements flushed later in the transaction keep the default one.
+     */
+    public void persistAll(Collection<ChainElement> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        Integer jdbcBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(bulkBatchSize);
+        try {
+            elements.forEach(entityManager::persist);
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(jdbcBatchSize);
+        }
+    }
+
+    /**
+     * Deletes dependencies and elements with bulk statements.
+     * Deleted dependencies are unlinked from surviving elements and pending changes are flushed before,
+     * deleted entities are evicted after, so other entities loaded in the transaction stay managed.
+     * Bulk statements bypass cascades and collection bookkeeping, so chains and surviving containers
+     * with loaded collections are refreshed afterwards. Otherwise a later flush in the transaction
+     * would see the deleted entities in their collections.
+     */
+    public void deleteAll(Collection<ChainElement> elements, Collection<Dependency> dependencies) {
+        Set<String> elementIds = elements.stream().map(ChainElement::getId).collect(Collectors.toSet());
+        for (Dependency dependency : dependencies) {
+            ChainElement elementFrom = dependency.getElementFrom();
+            if (elementFrom != null && !elementIds.contains(elementFrom.getId())) {
+                elementFrom.getOutputDependencies().remove(dependency);
+            }
+            ChainElement elementTo = dependency.getElementTo();
+            if (elementTo != null && !elementIds.contains(elementTo.getId())) {
+                elementTo.getInputDependencies().remove(dependency);
+            }
+        }
+        Set<Object> owners = new LinkedHashSet<>();
+        for (ChainElement element : elements) {
+            Chain chain = element.getChain();
+            if (chain != null && (Hibernate.isInitialized(chain.getElements())
+                    || Hibernate.isInitialized(chain.getDependencies()))) {
+                owners.add(chain);
+            }
+            addContainerOwner(owners, element.getParent(), elementIds);
+            addContainerOwner(owners, element.getSwimlane(), elementIds);
+        }
+        entityManager.flush();
+
+        if (!dependencies.isEmpty()) {
+            entityManager.createQuery(DELETE_DEPENDENCIES_QUERY)
+                    .setParameter("ids", dependencies.stream().map(Dependency::getId).toList())
+                    .executeUpdate();
+        }
+        if (!elementIds.isEmpty()) {
+            entityManager.createQuery(DELETE_ELEMENTS_QUERY)
+                    .setParameter("ids", elementIds)
+                    .executeUpdate();
+        }
+
+        dependencies.forEach(this::evict);
+        elements.forEach(this::evict);
+        owners.stream().filter(entityManager::contains).forEach(entityManager::refresh);
+    }
+
+    private static void addContainerOwner(Set<Object> owners, ContainerChainElement container, Set<String> deletedIds) {
+        if (container != null && !deletedIds.contains(container.getId())
+                && Hibernate.isInitialized(container.getElements())) {
+            owners.add(container);
+        }
+    }
+
+    private void evict(Object entity) {
+        if (entityManager.contains(entity)) {
+            entityManager.detach(entity);
+        }
+    }
+}
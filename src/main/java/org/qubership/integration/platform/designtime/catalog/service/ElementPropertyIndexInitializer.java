@@ -0,0 +1,245 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Creates expression indexes over properties of chain elements listed in
+ * {@link ElementPropertyQueryService#INDEXED_PROPERTIES}, so that lookups by service, operation,
+ * model and specification group don't scan the whole elements table. Reference properties of element
+ * descriptors are indexed too, for lookups of elements referring to deleted ones.
+ * <p>
+ * Only one replica at a time maintains the indexes, others skip it while a Postgres advisory lock is held.
+ * Invalid indexes left by an interrupted concurrent build are dropped and built again.
+ * Failures don't prevent the application from working.
+ */
+@Slf4j
+@Component
+public class ElementPropertyIndexInitializer {
+    private static final String INDEX_NAME_PREFIX = "idx_";
+    private static final String INDEX_NAME_INFIX = "_prop_";
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+    private static final long INDEX_LOCK_KEY = 0x5149505f494458L; // "QIP_IDX"
+
+    private static final String TRY_LOCK_QUERY = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_QUERY = "SELECT pg_advisory_unlock(?)";
+    private static final String INDEX_VALID_QUERY = "SELECT indisvalid FROM pg_index WHERE indexrelid = to_regclass(?)";
+    private static final String CREATE_INDEX_QUERY =
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s (jsonb_extract_path_text(%s, '%s'))";
+    private static final String DROP_INDEX_QUERY = "DROP INDEX CONCURRENTLY IF EXISTS %s";
+    // property names are put into index definitions, descriptor ones are indexed only if they are plain identifiers
+    private static final Pattern INDEXABLE_PROPERTY = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ElementReferenceQueryService elementReferenceQueryService;
+
+    @Value("${qip.elements.property-indexes.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    public ElementPropertyIndexInitializer(JdbcTemplate jdbcTemplate,
+                                           EntityManagerFactory entityManagerFactory,
+                                           ElementReferenceQueryService elementReferenceQueryService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.elementReferenceQueryService = elementReferenceQueryService;
+    }
+
+    @Async
+    @EventListener
+    public void createIndexes(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        AbstractEntityPersister persister = (AbstractEntityPersister) entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(ChainElement.class);
+        String table = persister.getTableName();
+        String column = persister.getPropertyColumnNames("properties")[0];
+        Set<String> properties = getIndexedProperties();
+
+        try {
+            jdbcTemplate.execute((Connection connection) -> {
+                boolean autoCommit = connection.getAutoCommit();
+                // Concurrent index builds can't run in a transaction
+                connection.setAutoCommit(true);
+                try {
+                    maintainIndexesUnderLock(connection, table, column, properties);
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Unable to maintain chain element property indexes: {}", e.getMessage());
+        }
+    }
+
+    private void maintainIndexesUnderLock(
+            Connection connection,
+            String table,
+            String column,
+            Set<String> properties
+    ) throws SQLException {
+        // stays null if acquiring failed midway, the lock may be held then
+        Boolean locked = null;
+        try {
+            locked = queryBoolean(connection, TRY_LOCK_QUERY, INDEX_LOCK_KEY);
+            if (!locked) {
+                log.info("Chain element property indexes are maintained by another replica");
+                return;
+            }
+            maintainIndexes(connection, table, column, properties);
+        } finally {
+            if (!Boolean.FALSE.equals(locked)) {
+                unlock(connection);
+            }
+        }
+    }
+
+    /**
+     * The advisory lock belongs to the database session, a pooled connection which failed to release it
+     * would keep it for its whole life, so it is evicted from the pool.
+     */
+    private void unlock(Connection connection) {
+        try {
+            queryBoolean(connection, UNLOCK_QUERY, INDEX_LOCK_KEY);
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Failed to release chain element property index lock, evicting its connection: {}", e.getMessage());
+            evict(connection);
+        }
+    }
+
+    private void evict(Connection connection) {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+                return;
+            }
+            connection.close();
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Failed to evict chain element property index lock connection: {}", e.getMessage());
+        }
+    }
+
+    private void maintainIndexes(
+            Connection connection,
+            String table,
+            String column,
+            Set<String> properties
+    ) throws SQLException {
+        for (String property : properties) {
+            String indexName = getIndexName(table, property);
+            try {
+                Boolean valid = queryIndexValid(connection, qualify(table, indexName));
+                if (Boolean.TRUE.equals(valid)) {
+                    continue;
+                }
+                if (valid != null) {
+                    log.warn("Index {} is invalid, building it again", indexName);
+                    execute(connection, DROP_INDEX_QUERY.formatted(qualify(table, indexName)));
+                }
+                execute(connection, CREATE_INDEX_QUERY.formatted(indexName, table, column, property));
+            } catch (SQLException e) {
+                log.warn("Unable to create index {} on property {} of chain elements: {}",
+                        indexName, property, e.getMessage());
+            }
+        }
+    }
+
+    private Set<String> getIndexedProperties() {
+        Set<String> properties = new LinkedHashSet<>(ElementPropertyQueryService.INDEXED_PROPERTIES);
+        for (String property : elementReferenceQueryService.getReferenceProperties()) {
+            if (INDEXABLE_PROPERTY.matcher(property).matches()) {
+                properties.add(property);
+            } else {
+                log.warn("Reference property {} of chain elements is not indexed, its name is not an identifier", property);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @return whether the index is valid, or {@code null} if it doesn't exist
+     */
+    private static Boolean queryIndexValid(Connection connection, String indexName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INDEX_VALID_QUERY)) {
+            statement.setString(1, indexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getBoolean(1) : null;
+            }
+        }
+    }
+
+    private static boolean queryBoolean(Connection connection, String query, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String query) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(query);
+        }
+    }
+
+    private static String getIndexName(String table, String property) {
+        String tableName = table.substring(table.lastIndexOf('.') + 1);
+        String name = (INDEX_NAME_PREFIX + tableName + INDEX_NAME_INFIX + property).toLowerCase(Locale.ROOT);
+        return name.length() > MAX_IDENTIFIER_LENGTH ? name.substring(0, MAX_IDENTIFIER_LENGTH) : name;
+    }
+
+    /**
+     * Indexes are created in the schema of their table, so they are looked up and dropped in it.
+     */
+    private static String qualify(String table, String indexName) {
+        int schemaEnd = table.lastIndexOf('.');
+        return schemaEnd < 0 ? indexName : table.substring(0, schemaEnd + 1) + indexName;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.*;
+
+/**
+ * Looks up chain elements by values of frequently queried properties.
+ * Property names are rendered into the query text, so that the condition matches
+ * expression indexes created by {@link ElementPropertyIndexInitializer}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ElementPropertyQueryService {
+    public static final List<String> INDEXED_PROPERTIES = List.of(
+            SYSTEM_ID,
+            OPERATION_ID,
+            MODEL_ID,
+            SPECIFICATION_GROUP_ID
+    );
+
+    private static final String FIND_BY_PROPERTY_QUERY = """
+            select element from %s element
+            where element.chain is not null
+            and function('jsonb_extract_path_text', element.properties, '%s') = :value
+            """;
+
+    private static final Map<String, String> QUERIES = INDEXED_PROPERTIES.stream()
+            .collect(Collectors.toMap(Function.identity(),
+                    property -> FIND_BY_PROPERTY_QUERY.formatted(ChainElement.class.getName(), property)));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Returns chain elements having the given value of an indexed property.
+     *
+     * @throws IllegalArgumentException if the property is not in {@link #INDEXED_PROPERTIES}
+     */
+    public List<ChainElement> findByProperty(String property, String value) {
+        String query = QUERIES.get(property);
+        if (query == null) {
+            throw new IllegalArgumentException("Property is not indexed: " + property);
+        }
+        return entityManager.createQuery(query, ChainElement.class)
+                .setParameter("value", value)
+                .getResultList();
+    }
+}
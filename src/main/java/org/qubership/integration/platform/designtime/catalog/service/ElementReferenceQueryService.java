@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.qubership.integration.platform.catalog.model.library.ElementDescriptor;
+import org.qubership.integration.platform.catalog.model.library.ElementProperty;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Looks up element references: elements whose reference properties (taken from element descriptors)
+ * contain ids of other elements. Reference values are compared in the database,
+ * so only referencing elements are loaded and changes made on any instance are seen.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ElementReferenceQueryService {
+    private static final String FIND_REFERENCING_QUERY = """
+            select element from %s element
+            where element.chain.id = :chainId
+            and element.type in :types
+            and (%s)
+            """;
+    private static final String PROPERTY_PARAMETER = "property";
+    private static final String PROPERTY_CONDITION =
+            "function('jsonb_extract_path_text', element.properties, :" + PROPERTY_PARAMETER + "%d) in :ids";
+    private static final String CONDITION_DELIMITER = " or ";
+
+    public record ElementReference(String elementId, String property, String referencedElementId) {}
+
+    private final LibraryElementsService libraryService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public ElementReferenceQueryService(LibraryElementsService libraryService) {
+        this.libraryService = libraryService;
+    }
+
+    /**
+     * Returns elements of the chain referring to any of the given elements.
+     */
+    public List<ChainElement> findReferencingElements(String chainId, Collection<String> referencedElementIds) {
+        Map<String, ElementDescriptor> descriptors = libraryService.getElementsWithReferenceProperties();
+        if (chainId == null || referencedElementIds.isEmpty() || descriptors.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // property names come from element descriptors, they are bound as parameters rather than put in the query
+        List<String> properties = getReferenceProperties(descriptors);
+        if (properties.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String conditions = IntStream.range(0, properties.size())
+                .mapToObj(PROPERTY_CONDITION::formatted)
+                .collect(Collectors.joining(CONDITION_DELIMITER));
+        TypedQuery<ChainElement> query = entityManager.createQuery(
+                        FIND_REFERENCING_QUERY.formatted(ChainElement.class.getName(), conditions), ChainElement.class)
+                .setParameter("chainId", chainId)
+                .setParameter("types", descriptors.keySet())
+                .setParameter("ids", referencedElementIds);
+        for (int i = 0; i < properties.size(); i++) {
+            query.setParameter(PROPERTY_PARAMETER + i, properties.get(i));
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Returns distinct names of reference properties of all element descriptors.
+     */
+    public List<String> getReferenceProperties() {
+        return getReferenceProperties(libraryService.getElementsWithReferenceProperties());
+    }
+
+    /**
+     * Returns references from reference properties of the element to the given elements.
+     */
+    public List<ElementReference> getReferences(ChainElement element, Collection<String> referencedElementIds) {
+        ElementDescriptor descriptor = libraryService.getElementsWithReferenceProperties().get(element.getType());
+        if (descriptor == null) {
+            return Collections.emptyList();
+        }
+        List<ElementReference> references = new ArrayList<>();
+        for (ElementProperty referenceProperty : descriptor.getReferenceProperties()) {
+            String referencedElementId = element.getPropertyAsString(referenceProperty.getName());
+            if (referencedElementId != null && referencedElementIds.contains(referencedElementId)) {
+                references.add(new ElementReference(element.getId(), referenceProperty.getName(), referencedElementId));
+            }
+        }
+        return references;
+    }
+
+    private static List<String> getReferenceProperties(Map<String, ElementDescriptor> descriptors) {
+        return descriptors.values().stream()
+                .flatMap(descriptor -> descriptor.getReferenceProperties().stream())
+                .map(ElementProperty::getName)
+                .distinct()
+                .toList();
+    }
+}
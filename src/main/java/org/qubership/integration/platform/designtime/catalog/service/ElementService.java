@@ -16,26 +16,24 @@
 
 package org.qubership.integration.platform.designtime.catalog.service;
 
-import org.qubership.integration.platform.catalog.model.constant.CamelOptions;
-import org.qubership.integration.platform.catalog.model.dto.system.UsedSystem;
 import org.qubership.integration.platform.catalog.model.library.*;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.ElementBaseService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementCreationException;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementValidationException;
-import org.qubership.integration.platform.designtime.catalog.model.ElementsWithSystemUsage;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.CreateElementRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.ElementValidationErrorDTO;
 import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.MapUtils;
@@ -48,15 +46,10 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Matcher;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.SPECIFICATION_ID;
-import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.SYSTEM_ID;
-
 @Slf4j
 @Service
 @Transactional
@@ -69,11 +62,14 @@ public class ElementService extends ElementBaseService {
     protected final LibraryElementsService libraryService;
     protected final ChainService chainService;
     protected final SwimlaneService swimlaneService;
-    protected final ActionsLogService actionLogger;
+    protected final ActionLogWriter actionLogger;
     protected final EnvironmentService environmentService;
     protected final AuditingHandler auditingHandler;
     protected final OrderedElementService orderedElementService;
     protected final ElementUtils elementUtils;
+    protected final ElementHierarchyService elementHierarchyService;
+    protected final ElementReferenceQueryService elementReferenceQueryService;
+    protected final ElementValidationRules elementValidationRules;
 
     @Autowired
     public ElementService(
@@ -81,11 +77,14 @@ public class ElementService extends ElementBaseService {
             LibraryElementsService libraryService,
             @Lazy ChainService chainService,
             SwimlaneService swimlaneService,
-            ActionsLogService actionLogger,
+            ActionLogWriter actionLogger,
             AuditingHandler jpaAuditingHandler,
             EnvironmentService environmentService,
             OrderedElementService orderedElementService,
-            ElementUtils elementUtils
+            ElementUtils elementUtils,
+            ElementHierarchyService elementHierarchyService,
+            ElementReferenceQueryService elementReferenceQueryService,
+            ElementValidationRules elementValidationRules
     ) {
         super(elementRepository);
         this.libraryService = libraryService;
@@ -96,46 +95,9 @@ public class ElementService extends ElementBaseService {
         this.environmentService = environmentService;
         this.orderedElementService = orderedElementService;
         this.elementUtils = elementUtils;
-    }
-
-    public List<ChainElement> findBySystemIdAndOperationId(String systemId, String operationId) {
-        return elementRepository.findAll((root, query, builder) -> builder.and(
-                builder.isNotNull(root.get("chain")),
-                builder.equal(builder.function("jsonb_extract_path_text", String.class,
-                                root.<String>get("properties"), builder.literal(CamelOptions.OPERATION_ID)),
-                        operationId
-                )
-        ));
-    }
-
-    public List<ChainElement> findBySystemIdAndSpecificationGroupId(String systemId, String specificationGroupId) {
-        return elementRepository.findAll((root, query, builder) -> builder.and(
-                builder.isNotNull(root.get("chain")),
-                builder.equal(builder.function("jsonb_extract_path_text", String.class,
-                                root.<String>get("properties"), builder.literal(CamelOptions.SPECIFICATION_GROUP_ID)),
-                        specificationGroupId
-                )
-        ));
-    }
-
-    public List<ChainElement> findBySystemAndModelId(String systemId, String modelId) {
-        return elementRepository.findAll((root, query, builder) -> builder.and(
-                builder.isNotNull(root.get("chain")),
-                builder.equal(builder.function("jsonb_extract_path_text", String.class,
-                                root.<String>get("properties"), builder.literal(CamelOptions.MODEL_ID)),
-                        modelId
-                )
-        ));
-    }
-
-    public List<ChainElement> findBySystemId(String systemId) {
-        return elementRepository.findAll((root, query, builder) -> builder.and(
-                builder.isNotNull(root.get("chain")),
-                builder.equal(builder.function("jsonb_extract_path_text", String.class,
-                                root.<String>get("properties"), builder.literal(CamelOptions.SYSTEM_ID)),
-                        systemId
-                )
-        ));
+        this.elementHierarchyService = elementHierarchyService;
+        this.elementReferenceQueryService = elementReferenceQueryService;
+        this.elementValidationRules = elementValidationRules;
     }
 
     public List<ChainElement> findAllByChainId(String chainId) {
@@ -182,43 +144,6 @@ public class ElementService extends ElementBaseService {
         return elementRepository.findAllGroupByType();
     }
 
-    @ChainModification
-    public ChainElement clone(String elementId, String parentId) {
-        ChainElement copy = recursiveClone(findById(elementId));
-        elementUtils.updateResetOnCopyProperties(copy);
-
-        if (parentId != null) {
-            ContainerChainElement parent = findById(parentId, ContainerChainElement.class);
-            parent.addChildElement(copy);
-            parent.setModifiedWhen(null);
-            elementRepository.save(auditingHandler.markModified(parent));
-        }
-
-        logElementAction(copy, LogOperation.COPY);
-
-        return copy;
-    }
-
-    @ChainModification
-    private ChainElement recursiveClone(ChainElement root) {
-        ChainElement savedCopy = elementRepository.save(root.copyWithoutSnapshot());
-        if (root.getModifiedWhen().getTime() == root.getCreatedWhen().getTime()) {
-            savedCopy.setCreatedWhen(null);
-            savedCopy.setModifiedWhen(null);
-        } else {
-            savedCopy.setModifiedWhen(Timestamp.valueOf(LocalDateTime.now()));
-        }
-
-        if (root instanceof ContainerChainElement) {
-            ContainerChainElement container = (ContainerChainElement) savedCopy;
-            for (ChainElement element : elementRepository.findAllByParentId(root.getId())) {
-                container.addChildElement(recursiveClone(element));
-            }
-        }
-
-        return savedCopy;
-    }
-
     @ChainModification
     public ChainDiff create(String chainId, CreateElementRequest createElementRequest) {
         final ChainDiff chainDiff = new ChainDiff();
@@ -242,11 +167,25 @@ public class ElementService extends ElementBaseService {
 
     protected ChainElement create(final ChainDiff chainDiff, String chainId, CreateElementRequest createElementRequest) {
         String elementType = createElementRequest.getType();
-        String swimlaneId = createElementRequest.getSwimlaneId();
         Chain chain = chainService.findById(chainId);
         checkElementParentRestriction(elementType, null);
         ElementDescriptor descriptor = libraryService.getElementDescriptor(elementType);
 
+        SwimlaneChainElement swimlane = resolveSwimlane(chainDiff, chain, descriptor, createElementRequest);
+        ChainElement newElement = create(elementType, swimlane, chain);
+
+        logElementAction(newElement, LogOperation.CREATE);
+        return newElement;
+    }
+
+    protected SwimlaneChainElement resolveSwimlane(
+            final ChainDiff chainDiff,
+            Chain chain,
+            ElementDescriptor descriptor,
+            CreateElementRequest createElementRequest
+    ) {
+        String chainId = chain.getId();
+        String swimlaneId = createElementRequest.getSwimlaneId();
         SwimlaneChainElement swimlane = findDefaultSwimlaneWithLockingByChainId(chainId)
                 .orElse(null);
         if (swimlane != null) {
@@ -275,11 +214,7 @@ public class ElementService extends ElementBaseService {
                 }
             }
         }
-
-        ChainElement newElement = create(elementType, swimlane, chain);
-
-        logElementAction(newElement, LogOperation.CREATE);
-        return newElement;
+        return swimlane;
     }
 
     protected ChainElement findRootParent(@NonNull ChainElement element) {
@@ -291,54 +226,17 @@ public class ElementService extends ElementBaseService {
     }
 
     protected void checkElementParentRestriction(String elementType, String parentElementType) {
-        ElementDescriptor elementDescriptor = libraryService.getElementDescriptor(elementType);
-        if (elementDescriptor == null)
-            throw new ElementValidationException("Element of type " + elementType + " cannot be a child");
-
-        if (elementDescriptor.getParentRestriction() == null || elementDescriptor.getParentRestriction().isEmpty())
-            return;
-
-        if (StringUtils.isBlank(parentElementType) || elementDescriptor.getParentRestriction().stream().
-                noneMatch(parentElType -> parentElType.equals(parentElementType)))
-            throw new ElementValidationException("Element " + elementType + " should be only inside parent element: " +
-                    StringUtils.join(elementDescriptor.getParentRestriction(), ", "));
+        elementValidationRules.checkParentRestriction(elementType, parentElementType);
     }
 
     protected void checkAddingChildParentRestriction(String childElementType, ContainerChainElement parent) {
-        ElementDescriptor parentDescriptor = libraryService.getElementDescriptor(parent.getType());
-        if (parentDescriptor != null) {
-            Map<String, Quantity> childrenMap = parentDescriptor.getAllowedChildren();
-
-            ElementDescriptor childElementDescriptor = libraryService.getElementDescriptor(childElementType);
-            if (MapUtils.getObject(childrenMap, childElementType) == null && !childElementDescriptor.isInputEnabled()) {
-                throw new ElementValidationException("Element with disabled input cannot be inside a parent element " +
-                        parent.getType());
-            }
-            if (MapUtils.isEmpty(childrenMap)) {
-                return;
-            }
-
-            Quantity elementCount = childrenMap.get(childElementType);
-            if (elementCount == null) {
-                throw new ElementValidationException("Element "
-                        + childElementType + " is not allowed to be inside parent element " + parent.getType());
-            }
-
-            long childCount = parent.getElements().stream().filter(child -> child.getType().equals(childElementType)).count();
-            if (!elementCount.test(((int) childCount) + 1)) {
-                throw new ElementValidationException("Number of "
-                        + childElementType + " elements inside parent " + parent.getType() + " element exceed limit");
-            }
-        }
+        elementValidationRules.checkAddingChild(childElementType, parent);
     }
 
     protected void checkIfAllowedInContainers(String elementType) {
-        Optional.ofNullable(libraryService.getElementDescriptor(elementType))
-                .filter(descriptor -> !descriptor.isAllowedInContainers())
-                .ifPresent(descriptor -> {
-                    throw new ElementValidationException(
-                            "The " + descriptor.getName() + " element cannot be inside a container");
-                });
+        elementValidationRules.checkAllowedInContainers(elementType, message -> {
+            throw new ElementValidationException(message);
+        });
     }
 
     @ChainModification
@@ -370,6 +268,42 @@ public class ElementService extends ElementBaseService {
         return parent;
     }
 
+    /**
+     * Batch counterpart of {@link #deleteElementFromParent(ChainElement, boolean)}:
+     * checks that the number of children doesn't get below the limits once for all removed children.
+     */
+    protected ContainerChainElement deleteElementsFromParent(ContainerChainElement parent, List<ChainElement> children) {
+        parent.setModifiedWhen(null);
+        parent = elementRepository.save(auditingHandler.markModified(parent));
+
+        ElementDescriptor parentDescriptor = libraryService.getElementDescriptor(parent.getType());
+        Map<String, Quantity> childrenMap = parentDescriptor == null ? null : parentDescriptor.getAllowedChildren();
+        if (MapUtils.isNotEmpty(childrenMap)) {
+            Map<String, Long> removedCounts = children.stream()
+                    .collect(Collectors.groupingBy(ChainElement::getType, Collectors.counting()));
+            for (Map.Entry<String, Long> removedCount : removedCounts.entrySet()) {
+                Quantity elementCount = childrenMap.get(removedCount.getKey());
+                if (elementCount == null) {
+                    continue;
+                }
+                long childCount = parent.getElements().stream()
+                        .filter(child -> child.getType().equals(removedCount.getKey()))
+                        .count();
+                long minCount = switch (elementCount) {
+                    case ONE, ONE_OR_MANY -> 1;
+                    case TWO_OR_MANY -> 2;
+                    default -> 0;
+                };
+                if (childCount - removedCount.getValue() < minCount) {
+                    throw new ElementValidationException("Number of " + removedCount.getKey() +
+                            " elements inside parent " + parent.getType() + " element can't be lowered");
+                }
+            }
+        }
+        parent.getElements().removeAll(children);
+        return parent;
+    }
+
     @ChainModification
     protected ChainElement create(String elementType, @NonNull ContainerChainElement parentElement) {
         checkIfAllowedInContainers(elementType);
@@ -435,6 +369,87 @@ public class ElementService extends ElementBaseService {
         return element;
     }
 
+    /**
+     * In-memory counterpart of {@link #create(String, SwimlaneChainElement, Chain)}:
+     * the element and its default children are built and validated, but not persisted.
+     * Built elements are appended to {@code built} parents first, so they can be inserted in that order.
+     */
+    protected ChainElement build(
+            String elementType,
+            SwimlaneChainElement swimlane,
+            Chain chain,
+            boolean withDefaultChildren,
+            List<ChainElement> built
+    ) {
+        ElementDescriptor descriptor = libraryService.getElementDescriptor(elementType);
+        if (descriptor == null) {
+            throw new ElementValidationException("Element of type " + elementType + " not found");
+        }
+        ChainElement element = descriptor.isContainer() ? new ContainerChainElement() : new ChainElement();
+        element.setName(descriptor.getTitle());
+        element.setType(elementType);
+        element.setChain(chain);
+        element.setSwimlane(swimlane);
+        element.setProperties(createPropertiesMap(descriptor.getProperties(), element.getId(), chain.getId()));
+        built.add(element);
+
+        if (withDefaultChildren && element instanceof ContainerChainElement container) {
+            for (Map.Entry<String, Quantity> childDefinition : descriptor.getAllowedChildren().entrySet()) {
+                ElementDescriptor childTypeDefinition = libraryService.getElementDescriptor(childDefinition.getKey());
+                if (childTypeDefinition.isDeprecated() && !descriptor.isDeprecated())
+                    continue;
+
+                int elementNumber = childDefinition.getValue() == Quantity.TWO_OR_MANY ? 2 : 1;
+                for (int i = 0; i < elementNumber; i++) {
+                    buildChild(childDefinition.getKey(), container, true, built);
+                }
+            }
+        }
+        return element;
+    }
+
+    /**
+     * In-memory counterpart of {@link #create(String, ContainerChainElement)}.
+     */
+    protected ChainElement buildChild(
+            String elementType,
+            @NonNull ContainerChainElement parentElement,
+            boolean withDefaultChildren,
+            List<ChainElement> built
+    ) {
+        checkIfAllowedInContainers(elementType);
+        checkElementParentRestriction(elementType, parentElement.getType());
+        checkAddingChildParentRestriction(elementType, parentElement);
+
+        ChainElement element = build(
+                elementType, parentElement.getSwimlane(), parentElement.getChain(), withDefaultChildren, built);
+        parentElement.addChildElement(element);
+
+        if (orderedElementService.isOrdered(element)) {
+            orderedElementService.calculatePriority(parentElement, element);
+        }
+        return element;
+    }
+
+    /**
+     * Checks that a container built without default children got at least the required ones.
+     */
+    protected void checkRequiredChildren(ContainerChainElement container) {
+        ElementDescriptor descriptor = libraryService.getElementDescriptor(container.getType());
+        if (descriptor == null || MapUtils.isEmpty(descriptor.getAllowedChildren())) {
+            return;
+        }
+        for (Map.Entry<String, Quantity> childDefinition : descriptor.getAllowedChildren().entrySet()) {
+            long childCount = container.getElements().stream()
+                    .filter(child -> childDefinition.getKey().equals(child.getType()))
+                    .count();
+            if (!childDefinition.getValue().test((int) childCount)) {
+                throw new ElementValidationException("Number of " + childDefinition.getKey()
+                        + " elements inside parent " + container.getType() + " element is below limit");
+            }
+        }
+    }
+
     protected Map<String, Object> createPropertiesMap(ElementProperties properties, String elementId, String chainId) {
         return new HashMap<>(properties.getAll().stream()
                 .filter(prop -> StringUtils.isNotBlank(prop.getDefaultValue()))
@@ -496,12 +511,58 @@ public class ElementService extends ElementBaseService {
         return chainDiff;
     }
 
+    /**
+     * Deletes elements with all nested elements and dependencies.
+     * Nested elements are resolved with one recursive query, elements and dependencies are deleted
+     * with bulk statements, ordered siblings are shifted once per parent.
+     */
     @ChainModification
     public ChainDiff deleteAllByIdsAndUpdateUnsaved(List<String> ids) {
-        ChainDiff chainDiff = new ChainDiff();
-        for (String id : ids) {
-            chainDiff.merge(deleteByIdAndUpdateUnsaved(id));
+        final ChainDiff chainDiff = new ChainDiff();
+
+        List<String> swimlaneIds = new ArrayList<>();
+        Set<String> rootIds = new HashSet<>();
+        for (ChainElement element : findAllById(ids)) {
+            if (element instanceof SwimlaneChainElement) {
+                swimlaneIds.add(element.getId());
+            } else {
+                rootIds.add(element.getId());
+            }
         }
+
+        List<ChainElement> elements = elementHierarchyService.findSubtrees(rootIds);
+        if (!elements.isEmpty()) {
+            Set<String> elementIds = elements.stream().map(ChainElement::getId).collect(Collectors.toSet());
+            Map<ContainerChainElement, List<ChainElement>> removedChildren = elements.stream()
+                    .filter(element -> rootIds.contains(element.getId()))
+                    .filter(element -> element.getParent() != null && !elementIds.contains(element.getParent().getId()))
+                    .collect(Collectors.groupingBy(ChainElement::getParent, LinkedHashMap::new, Collectors.toList()));
+            removedChildren.forEach((parent, children) -> {
+                ChainDiff orderedChainDiff = orderedElementService.removeOrderedElements(parent, children);
+                saveAll(orderedChainDiff.getUpdatedElements());
+                chainDiff.merge(orderedChainDiff);
+                chainDiff.addUpdatedElement(deleteElementsFromParent(parent, children));
+            });
+
+            elements.stream()
+                    .filter(element -> Optional.ofNullable(libraryService.getElementDescriptor(element))
+                            .map(ElementDescriptor::isReferencedByAnotherElement)
+                            .orElse(false))
+                    .filter(element -> element.getChain() != null)
+                    .collect(Collectors.groupingBy(element -> element.getChain().getId(),
+                            Collectors.mapping(ChainElement::getId, Collectors.toSet())))
+                    .forEach((chainId, referencedIds) ->
+                            deleteElementReferences(chainDiff, chainId, referencedIds, elementIds));
+
+            List<Dependency> dependencies = elementHierarchyService.findDependencies(elementIds);
+            chainDiff.addRemovedElements(elements);
+            chainDiff.addRemovedDependencies(dependencies);
+            logElementsAction(elements, LogOperation.DELETE);
+
+            elementHierarchyService.deleteAll(elements, dependencies);
+        }
+
+        swimlaneIds.forEach(swimlaneId -> chainDiff.merge(swimlaneService.delete(swimlaneId)));
         return chainDiff;
     }
 
@@ -563,23 +624,25 @@ public class ElementService extends ElementBaseService {
         String chainId = Optional.ofNullable(referencedElement.getChain())
                 .map(Chain::getId)
                 .orElse(null);
-        Map<String, ElementDescriptor> elementDescriptors = libraryService.getElementsWithReferenceProperties();
-        List<ChainElement> elements = elementRepository.findAllByChainIdAndTypeIn(chainId, elementDescriptors.keySet());
+        deleteElementReferences(
+                chainDiff, chainId, Collections.singleton(referencedElement.getId()), Collections.emptySet());
+    }
 
+    private void deleteElementReferences(
+            ChainDiff chainDiff,
+            String chainId,
+            Set<String> referencedElementIds,
+            Set<String> deletedElementIds
+    ) {
         List<ChainElement> elementsToUpdate = new ArrayList<>();
-        for (ChainElement element : elements) {
-            ElementDescriptor elementDescriptor = elementDescriptors.get(element.getType());
-            List<ElementProperty> referenceProperties = elementDescriptor.getReferenceProperties();
-
-            boolean elementUpdated = false;
-            for (ElementProperty referenceProperty : referenceProperties) {
-                String propertyValue = element.getPropertyAsString(referenceProperty.getName());
-                if (StringUtils.equals(propertyValue, referencedElement.getId())) {
-                    element.getProperties().remove(referenceProperty.getName());
-                    elementUpdated = true;
-                }
+        for (ChainElement element : elementReferenceQueryService.findReferencingElements(chainId, referencedElementIds)) {
+            if (deletedElementIds.contains(element.getId())) {
+                continue;
             }
-            if (elementUpdated) {
+            List<ElementReferenceQueryService.ElementReference> references =
+                    elementReferenceQueryService.getReferences(element, referencedElementIds);
+            references.forEach(reference -> element.getProperties().remove(reference.property()));
+            if (!references.isEmpty()) {
                 elementsToUpdate.add(element);
             }
         }
@@ -589,6 +652,13 @@ public class ElementService extends ElementBaseService {
         }
     }
 
+    /**
+     * Returns elements of the chain which refer to the element in their reference properties.
+     */
+    public List<ChainElement> findReferencingElements(String chainId, String elementId) {
+        return elementReferenceQueryService.findReferencingElements(chainId, Collections.singleton(elementId));
+    }
+
     @ChainModification
     public ChainElement group(String chainId, List<String> elementsId) throws IllegalArgumentException {
         Chain chain = chainService.findById(chainId);
@@ -642,7 +712,7 @@ public class ElementService extends ElementBaseService {
         }
     }
 
-    private void logElementsAction(List<ChainElement> elements, LogOperation operation) {
+    protected void logElementsAction(List<ChainElement> elements, LogOperation operation) {
         for (ChainElement element : elements) {
             logElementAction(element, operation);
         }
@@ -660,57 +730,6 @@ public class ElementService extends ElementBaseService {
                 .build());
     }
 
-    public List<UsedSystem> getUsedSystemIdsByChainIds(List<String> chainIds) {
-        List<UsedSystem> usedSystems = new ArrayList<>();
-        List<String> elementTypes = new ArrayList<>();
-
-        for (var element : ElementsWithSystemUsage.values()) {
-            elementTypes.add(element.getElementName());
-        }
-
-        List<ChainElement> elements = elementRepository.findAllByTypeInAndChainNotNull(elementTypes);
-
-        for (String chainId : chainIds) {
-            for (ChainElement chainElement : elements) {
-                if (chainElement.getChain() != null) {
-                    if (Objects.equals(chainElement.getChain().getId(), chainId)) {
-                        String systemId = (String) chainElement.getProperties().get(SYSTEM_ID);
-                        String specificationId = (String) chainElement.getProperties().get(SPECIFICATION_ID);
-
-                        if (!StringUtils.isBlank(systemId)) {
-                            if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(systemId))) {
-                                UsedSystem usedSystem = new UsedSystem(systemId, new ArrayList<>());
-                                usedSystems.add(usedSystem);
-                            }
-
-                            if (!StringUtils.isBlank(specificationId)) {
-                                UsedSystem usedSystem = usedSystems.stream().filter(system -> system.getSystemId().equals(systemId)).findFirst().orElse(null);
-
-                                if (usedSystem != null && !usedSystem.getUsedSystemModelIds().contains(specificationId)) {
-                                    usedSystem.getUsedSystemModelIds().add(specificationId);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        return usedSystems;
-    }
-
-    public List<UsedSystem> getAllUsedSystemIds() {
-        List<String> elementTypes = new ArrayList<>();
-
-        for (var element : ElementsWithSystemUsage.values()) {
-            elementTypes.add(element.getElementName());
-        }
-
-        List<ChainElement> elements = elementRepository.findAllByTypeInAndChainNotNull(elementTypes);
-
-        return getUsedSystemsFromElements(elements);
-    }
-
     public boolean isElementDeprecated(ChainElement chainElement) {
         return Optional.ofNullable(libraryService.getElementDescriptor(chainElement))
                 .map(ElementDescriptor::isDeprecated)
@@ -724,58 +743,37 @@ public class ElementService extends ElementBaseService {
     }
 
     public void validateElementProperties(ChainElement element) {
-        ElementDescriptor descriptor = libraryService.getElementDescriptor(element);
-        if (descriptor == null) {
-            return;
-        }
-
-        for (ElementProperty property : descriptor.getProperties().getAll()) {
-            if (!elementUtils.isMandatoryPropertyPresent(property, element)) {
-                throw new ElementValidationException("Value not found for " + property.getName());
-            }
-
-            if (property.getMask() != null) {
-                String propertyValue = element.getPropertyAsString(property.getName());
-                if (propertyValue == null) {
-                    throw new ElementValidationException("Invalid Value for " + property.getName());
-                }
+        elementValidationRules.validateProperties(element);
+    }
 
-                Matcher matcher = property.getMask().matcher(propertyValue);
-                if (!matcher.find()) {
-                    throw new ElementValidationException("Invalid Value for " + property.getName());
-                }
+    /**
+     * Validates all elements of the chain and reports every violation instead of failing on the first one.
+     */
+    public List<ElementValidationErrorDTO> validateChain(String chainId) {
+        List<ElementValidationErrorDTO> errors = new ArrayList<>();
+        for (ChainElement element : chainService.findById(chainId).getElements()) {
+            if (element instanceof SwimlaneChainElement) {
+                continue;
             }
-        }
-        for (CustomTab customTab : descriptor.getCustomTabs()) {
-            if (customTab.getValidation() != null && !customTab.getValidation().arePropertiesValid(element.getProperties())) {
-                throw new ElementValidationException("Some mandatory properties are missing on tab " + customTab.getName());
+            Consumer<String> elementErrors = message -> errors.add(ElementValidationErrorDTO.builder()
+                    .elementId(element.getId())
+                    .elementName(element.getName())
+                    .elementType(element.getType())
+                    .message(message)
+                    .build());
+
+            elementValidationRules.validateProperties(element, elementErrors);
+            ContainerChainElement parent = element.getParent();
+            if (parent != null && CONTAINER_TYPE_NAME.equals(parent.getType())) {
+                elementValidationRules.checkAllowedInContainers(element.getType(), elementErrors);
+            } else {
+                elementValidationRules.checkParentRestriction(
+                        element.getType(), parent == null ? null : parent.getType(), elementErrors);
             }
-        }
-    }
-
-    private List<UsedSystem> getUsedSystemsFromElements(List<ChainElement> elements) {
-        List<UsedSystem> usedSystems = new ArrayList<>();
-        for (ChainElement chainElement : elements) {
-            if (chainElement.getChain() != null) {
-                String systemId = (String) chainElement.getProperties().get(SYSTEM_ID);
-                String specificationId = (String) chainElement.getProperties().get(SPECIFICATION_ID);
-
-                if (!StringUtils.isBlank(systemId)) {
-                    if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(systemId))) {
-                        UsedSystem usedSystem = new UsedSystem(systemId, new ArrayList<>());
-                        usedSystems.add(usedSystem);
-                    }
-
-                    if (!StringUtils.isBlank(specificationId)) {
-                        UsedSystem usedSystem = usedSystems.stream().filter(system -> system.getSystemId().equals(systemId)).findFirst().orElse(null);
-
-                        if (usedSystem != null && !usedSystem.getUsedSystemModelIds().contains(specificationId)) {
-                            usedSystem.getUsedSystemModelIds().add(specificationId);
-                        }
-                    }
-                }
+            if (element instanceof ContainerChainElement container && !CONTAINER_TYPE_NAME.equals(container.getType())) {
+                elementValidationRules.validateChildren(container, elementErrors);
             }
         }
-        return usedSystems;
+        return errors;
     }
 }
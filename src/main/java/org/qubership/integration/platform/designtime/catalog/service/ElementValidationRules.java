@@ -0,0 +1,250 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.catalog.model.library.CustomTab;
+import org.qubership.integration.platform.catalog.model.library.ElementDescriptor;
+import org.qubership.integration.platform.catalog.model.library.ElementProperty;
+import org.qubership.integration.platform.catalog.model.library.Quantity;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
+import org.qubership.integration.platform.catalog.util.ElementUtils;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Validation rules of element types, compiled once per element type.
+ * A plan keeps only the checks relevant for the type, so validating an element
+ * doesn't look the descriptor up and walk it again.
+ * Element descriptors come from the library shipped with the application and don't change while it runs,
+ * so a compiled plan stays valid for the lifetime of the process.
+ */
+@Component
+public class ElementValidationRules {
+    private final LibraryElementsService libraryService;
+    private final ElementUtils elementUtils;
+    private final Map<String, ValidationPlan> plans = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ElementValidationRules(LibraryElementsService libraryService, ElementUtils elementUtils) {
+        this.libraryService = libraryService;
+        this.elementUtils = elementUtils;
+    }
+
+    /**
+     * Returns the validation plan of the element type or {@code null} if the type is unknown.
+     */
+    public ValidationPlan getPlan(String elementType) {
+        if (elementType == null) {
+            return null;
+        }
+        ValidationPlan plan = plans.get(elementType);
+        if (plan != null) {
+            return plan;
+        }
+        // unknown types are not cached, the descriptor is looked up again on the next check
+        ElementDescriptor descriptor = libraryService.getElementDescriptor(elementType);
+        if (descriptor == null) {
+            return null;
+        }
+        return plans.computeIfAbsent(elementType, type -> new ValidationPlan(descriptor));
+    }
+
+    /**
+     * Checks properties of the element and throws on the first violation.
+     */
+    public void validateProperties(ChainElement element) {
+        validateProperties(element, message -> {
+            throw new ElementValidationException(message);
+        });
+    }
+
+    /**
+     * Checks properties of the element and reports every violation.
+     */
+    public void validateProperties(ChainElement element, Consumer<String> errors) {
+        ValidationPlan plan = getPlan(element.getType());
+        if (plan == null) {
+            return;
+        }
+
+        for (ElementProperty property : plan.properties) {
+            if (!elementUtils.isMandatoryPropertyPresent(property, element)) {
+                errors.accept("Value not found for " + property.getName());
+                continue;
+            }
+
+            if (property.getMask() != null) {
+                String propertyValue = element.getPropertyAsString(property.getName());
+                if (propertyValue == null || !property.getMask().matcher(propertyValue).find()) {
+                    errors.accept("Invalid Value for " + property.getName());
+                }
+            }
+        }
+        for (CustomTab customTab : plan.validatedTabs) {
+            if (!customTab.getValidation().arePropertiesValid(element.getProperties())) {
+                errors.accept("Some mandatory properties are missing on tab " + customTab.getName());
+            }
+        }
+    }
+
+    public void checkParentRestriction(String elementType, String parentElementType) {
+        checkParentRestriction(elementType, parentElementType, message -> {
+            throw new ElementValidationException(message);
+        });
+    }
+
+    public void checkParentRestriction(String elementType, String parentElementType, Consumer<String> errors) {
+        ValidationPlan plan = getPlan(elementType);
+        if (plan == null) {
+            errors.accept("Element of type " + elementType + " cannot be a child");
+            return;
+        }
+
+        if (plan.parentRestriction.isEmpty()) {
+            return;
+        }
+
+        if (StringUtils.isBlank(parentElementType) || !plan.parentRestriction.contains(parentElementType)) {
+            errors.accept("Element " + elementType + " should be only inside parent element: "
+                    + StringUtils.join(plan.parentRestriction, ", "));
+        }
+    }
+
+    public void checkAllowedInContainers(String elementType, Consumer<String> errors) {
+        ValidationPlan plan = getPlan(elementType);
+        if (plan != null && !plan.allowedInContainers) {
+            errors.accept("The " + plan.descriptor.getName() + " element cannot be inside a container");
+        }
+    }
+
+    /**
+     * Checks that one more element of the given type may be added to the parent.
+     */
+    public void checkAddingChild(String childElementType, ContainerChainElement parent) {
+        ValidationPlan parentPlan = getPlan(parent.getType());
+        if (parentPlan == null) {
+            return;
+        }
+
+        Quantity elementCount = parentPlan.allowedChildren.get(childElementType);
+        ValidationPlan childPlan = getPlan(childElementType);
+        if (elementCount == null && childPlan != null && !childPlan.inputEnabled) {
+            throw new ElementValidationException("Element with disabled input cannot be inside a parent element "
+                    + parent.getType());
+        }
+        if (parentPlan.allowedChildren.isEmpty()) {
+            return;
+        }
+
+        if (elementCount == null) {
+            throw new ElementValidationException("Element "
+                    + childElementType + " is not allowed to be inside parent element " + parent.getType());
+        }
+
+        int childCount = 0;
+        for (ChainElement child : parent.getElements()) {
+            if (childElementType.equals(child.getType())) {
+                childCount++;
+            }
+        }
+        if (!elementCount.test(childCount + 1)) {
+            throw new ElementValidationException("Number of "
+                    + childElementType + " elements inside parent " + parent.getType() + " element exceed limit");
+        }
+    }
+
+    /**
+     * Checks types and numbers of all children of the container in one pass and reports every violation.
+     */
+    public void validateChildren(ContainerChainElement container, Consumer<String> errors) {
+        ValidationPlan plan = getPlan(container.getType());
+        if (plan == null) {
+            return;
+        }
+
+        Map<String, Integer> childCounts = new HashMap<>();
+        for (ChainElement child : container.getElements()) {
+            childCounts.merge(child.getType(), 1, Integer::sum);
+        }
+        for (String childType : childCounts.keySet()) {
+            if (plan.allowedChildren.containsKey(childType)) {
+                continue;
+            }
+            ValidationPlan childPlan = getPlan(childType);
+            if (childPlan != null && !childPlan.inputEnabled) {
+                errors.accept("Element with disabled input cannot be inside a parent element " + container.getType());
+            } else if (!plan.allowedChildren.isEmpty()) {
+                errors.accept("Element " + childType + " is not allowed to be inside parent element "
+                        + container.getType());
+            }
+        }
+        for (Map.Entry<String, Quantity> allowedChild : plan.allowedChildren.entrySet()) {
+            if (!allowedChild.getValue().test(childCounts.getOrDefault(allowedChild.getKey(), 0))) {
+                errors.accept("Number of " + allowedChild.getKey() + " elements inside parent "
+                        + container.getType() + " element is out of limits");
+            }
+        }
+    }
+
+    /**
+     * Checks of a single element type, derived from its descriptor.
+     */
+    public static final class ValidationPlan {
+        private final ElementDescriptor descriptor;
+        private final List<ElementProperty> properties;
+        private final List<CustomTab> validatedTabs;
+        private final Set<String> parentRestriction;
+        private final Map<String, Quantity> allowedChildren;
+        private final boolean inputEnabled;
+        private final boolean allowedInContainers;
+
+        private ValidationPlan(ElementDescriptor descriptor) {
+            this.descriptor = descriptor;
+            // other properties pass both checks whatever their values are
+            this.properties = descriptor.getProperties().getAll().stream()
+                    .filter(property -> property.isMandatory() || property.getMask() != null)
+                    .toList();
+            this.validatedTabs = descriptor.getCustomTabs() == null
+                    ? Collections.emptyList()
+                    : descriptor.getCustomTabs().stream().filter(tab -> tab.getValidation() != null).toList();
+            this.parentRestriction = descriptor.getParentRestriction() == null
+                    ? Collections.emptySet()
+                    : Collections.unmodifiableSet(new LinkedHashSet<>(descriptor.getParentRestriction()));
+            this.allowedChildren = descriptor.getAllowedChildren() == null
+                    ? Collections.emptyMap()
+                    : Collections.unmodifiableMap(new HashMap<>(descriptor.getAllowedChildren()));
+            this.inputEnabled = descriptor.isInputEnabled();
+            this.allowedInContainers = descriptor.isAllowedInContainers();
+        }
+
+        public ElementDescriptor getDescriptor() {
+            return descriptor;
+        }
+
+        public Map<String, Quantity> getAllowedChildren() {
+            return allowedChildren;
+        }
+    }
+}
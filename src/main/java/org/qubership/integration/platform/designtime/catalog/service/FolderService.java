@@ -24,7 +24,6 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Folder;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.FolderRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.FolderMoveException;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.folder.FolderContentFilter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,7 +48,7 @@ public class FolderService {
     private final FolderRepository folderRepository;
     private final ChainRepository chainRepository;
     private final DeploymentService deploymentService;
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
 
     private final AuditingHandler auditingHandler;
 
@@ -57,7 +56,7 @@ public class FolderService {
     public FolderService(FolderRepository folderRepository,
                          ChainRepository chainRepository,
                          DeploymentService deploymentService,
-                         ActionsLogService actionLogger,
+                         ActionLogWriter actionLogger,
                          AuditingHandler jpaAuditingHandler) {
         this.folderRepository = folderRepository;
         this.chainRepository = chainRepository;
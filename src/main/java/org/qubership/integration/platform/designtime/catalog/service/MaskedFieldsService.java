@@ -21,7 +21,6 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.act
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.MaskedField;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.MaskedFieldRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,11 +38,11 @@ public class MaskedFieldsService {
     private static final String MASKED_FIELD_WITH_ID_NOT_FOUND_MESSAGE = "Can't find masked field with id: ";
 
     private final MaskedFieldRepository maskedRepository;
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
 
     @Autowired
     public MaskedFieldsService(MaskedFieldRepository maskedRepository,
-                               ActionsLogService actionLogger) {
+                               ActionLogWriter actionLogger) {
         this.maskedRepository = maskedRepository;
         this.actionLogger = actionLogger;
     }
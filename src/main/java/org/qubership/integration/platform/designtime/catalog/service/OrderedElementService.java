@@ -26,11 +26,21 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
-
+import java.util.stream.Collectors;
+
+/**
+ * Keeps ordered children of a container sorted by their priority property.
+ * <p>
+ * The priority is the position of a child among its ordered siblings, without gaps. The UI,
+ * chain export/import and the runtime exchange it that way, so a move or removal shifts
+ * the siblings between the old and the new positions.
+ */
 @Service
 @Transactional
 public class OrderedElementService {
@@ -45,14 +55,7 @@ public class OrderedElementService {
 
     public void calculatePriority(@NonNull ContainerChainElement parentElement, ChainElement element) {
         OrderedElementUtils orderedElementUtils = new OrderedElementUtils(libraryService.getElementDescriptor(element), element);
-        final List<ChainElement> orderedElements = orderedElementUtils.extractOrderedElements(parentElement, true);
-        Integer orderNumber = (int) orderedElements.stream()
-                .filter(it -> {
-                    int currentOrderNumber = orderedElementUtils.getPriorityAsInt(it);
-                    return currentOrderNumber >= 0 && currentOrderNumber < orderedElements.size();
-                })
-                .count();
-        orderedElementUtils.updatePriority(element, orderNumber);
+        orderedElementUtils.updatePriority(element, orderedElementUtils.countSequencedSiblings(parentElement));
     }
 
     public ChainDiff changePriority(@NonNull ContainerChainElement parentElement, ChainElement element, Integer newPriority) {
@@ -114,12 +117,12 @@ public class OrderedElementService {
         if (currentPriority < parentElement.getElements().size()) {
             List<ChainElement> sortedElements = orderedElementUtils.getSortedChildren(parentElement);
             int currentPriorityIndex = orderedElementUtils.getCurrentElementIndex(sortedElements);
-            int lastPriorityIndex = (int) sortedElements.stream()
-                    .filter(it -> orderedElementUtils.getPriorityAsInt(it) < sortedElements.size())
-                    .count() - 1;
-            List<ChainElement> elementsToUpdate = sortedElements.subList(currentPriorityIndex + 1, lastPriorityIndex + 1);
-            for (ChainElement elementToUpdate : elementsToUpdate) {
-                Integer priority = orderedElementUtils.getPriorityAsInt(elementToUpdate);
+            // children are sorted by priority, the remaining ones are out of the sequence
+            for (ChainElement elementToUpdate : sortedElements.subList(currentPriorityIndex + 1, sortedElements.size())) {
+                int priority = orderedElementUtils.getPriorityAsInt(elementToUpdate);
+                if (priority >= sortedElements.size()) {
+                    break;
+                }
                 orderedElementUtils.updatePriority(elementToUpdate, priority - 1);
                 chainDiff.addUpdatedElement(elementToUpdate);
             }
@@ -128,6 +131,39 @@ public class OrderedElementService {
         return chainDiff;
     }
 
+    /**
+     * Shifts priorities of the remaining ordered children once for all removed children of the parent,
+     * like {@link #removeOrderedElement} called for each of them.
+     */
+    public ChainDiff removeOrderedElements(@NonNull ContainerChainElement parentElement, Collection<ChainElement> elements) {
+        final ChainDiff chainDiff = new ChainDiff();
+
+        Set<String> removedIds = elements.stream().map(ChainElement::getId).collect(Collectors.toSet());
+        Map<String, List<ChainElement>> orderedElementsByType = elements.stream()
+                .filter(this::isOrdered)
+                .collect(Collectors.groupingBy(ChainElement::getType));
+        for (List<ChainElement> orderedElements : orderedElementsByType.values()) {
+            ChainElement element = orderedElements.get(0);
+            OrderedElementUtils orderedElementUtils = new OrderedElementUtils(libraryService.getElementDescriptor(element), element);
+            List<ChainElement> sortedElements = orderedElementUtils.getSortedChildren(parentElement);
+            int removedBefore = 0;
+            for (ChainElement sortedElement : sortedElements) {
+                int priority = orderedElementUtils.getPriorityAsInt(sortedElement);
+                if (priority >= sortedElements.size()) {
+                    break;
+                }
+                if (removedIds.contains(sortedElement.getId())) {
+                    removedBefore++;
+                } else if (removedBefore > 0) {
+                    orderedElementUtils.updatePriority(sortedElement, priority - removedBefore);
+                    chainDiff.addUpdatedElement(sortedElement);
+                }
+            }
+        }
+
+        return chainDiff;
+    }
+
     public boolean isOrdered(@NonNull ChainElement element) {
         ElementDescriptor descriptor = libraryService.getElementDescriptor(element);
         return descriptor != null && descriptor.isOrdered() && element.getParent() != null;
@@ -17,28 +17,38 @@
 package org.qubership.integration.platform.designtime.catalog.service;
 
 import org.qubership.integration.platform.catalog.model.library.ElementDescriptor;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementCreationException;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementTransferException;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.BulkCreateElementsRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.BulkElementRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.CloneElementRequest;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.CreateElementRequest;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.TransferElementRequest;
 import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
 import org.qubership.integration.platform.designtime.catalog.utils.OldContainerUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.*;
-
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -53,11 +63,14 @@ public class TransferableElementService extends ElementService {
             LibraryElementsService libraryService,
             @Lazy ChainService chainService,
             SwimlaneService swimlaneService,
-            ActionsLogService actionLogger,
+            ActionLogWriter actionLogger,
             AuditingHandler jpaAuditingHandler,
             EnvironmentService environmentService,
             OrderedElementService orderedElementService,
             ElementUtils elementUtils,
+            ElementHierarchyService elementHierarchyService,
+            ElementReferenceQueryService elementReferenceQueryService,
+            ElementValidationRules elementValidationRules,
             OldContainerUtils oldContainerUtils,
             DependencyService dependencyService
     ) {
@@ -70,7 +83,10 @@ public class TransferableElementService extends ElementService {
                 jpaAuditingHandler,
                 environmentService,
                 orderedElementService,
-                elementUtils
+                elementUtils,
+                elementHierarchyService,
+                elementReferenceQueryService,
+                elementValidationRules
         );
         this.oldContainerUtils = oldContainerUtils;
         this.dependencyService = dependencyService;
@@ -110,6 +126,196 @@ public class TransferableElementService extends ElementService {
         return chainDiff;
     }
 
+    @ChainModification
+    public ChainElement clone(String elementId, String parentId) {
+        ChainElement element = findById(elementId);
+        CloneElementRequest cloneRequest = CloneElementRequest.builder().id(elementId).parent(parentId).build();
+        return cloneAll(element.getChain().getId(), Collections.singletonList(cloneRequest)).get(0);
+    }
+
+    /**
+     * Copies subtrees of the requested elements into the chain. Dependencies are not copied.
+     * The subtrees are loaded with one recursive query, copies are built in memory
+     * and persisted parents first, so the inserts are flushed in JDBC batches.
+     * Elements of another chain are moved to the default swimlane of the target chain unless a parent is specified.
+     *
+     * @return copies of the requested elements in the order of requests
+     */
+    @ChainModification
+    public List<ChainElement> cloneAll(String chainId, List<CloneElementRequest> cloneRequests) {
+        Chain targetChain = chainService.findById(chainId);
+        List<ChainElement> subtrees = elementHierarchyService.findSubtrees(
+                cloneRequests.stream().map(CloneElementRequest::getId).collect(Collectors.toSet()));
+        Map<String, ChainElement> originals = subtrees.stream()
+                .collect(Collectors.toMap(ChainElement::getId, Function.identity()));
+        Map<String, List<ChainElement>> childrenByParentId = subtrees.stream()
+                .filter(element -> element.getParent() != null)
+                .collect(Collectors.groupingBy(element -> element.getParent().getId()));
+        List<ChainElement> rootCopies = new ArrayList<>();
+        List<ChainElement> builtElements = new ArrayList<>();
+
+        for (CloneElementRequest cloneRequest : cloneRequests) {
+            ChainElement root = originals.get(cloneRequest.getId());
+            if (root == null || root.getChain() == null) {
+                throw new ElementCreationException("Element " + cloneRequest.getId() + " does not exist in any chain");
+            }
+            Chain sourceChain = root.getChain();
+
+            int subtreeStart = builtElements.size();
+            ChainElement copy = copySubtree(root, childrenByParentId, builtElements);
+            boolean sameChain = StringUtils.equals(sourceChain.getId(), chainId);
+            if (sameChain) {
+                elementUtils.updateResetOnCopyProperties(copy);
+            }
+
+            ContainerChainElement parent = null;
+            if (cloneRequest.getParent() != null) {
+                parent = findById(cloneRequest.getParent(), ContainerChainElement.class);
+                if (parent.getChain() == null || !StringUtils.equals(parent.getChain().getId(), chainId)) {
+                    throw new ElementCreationException(
+                            "Container " + cloneRequest.getParent() + " does not exist in chain " + chainId);
+                }
+                parent.addChildElement(copy);
+                parent.setModifiedWhen(null);
+                auditingHandler.markModified(parent);
+            } else if (!sameChain) {
+                copy.setParent(null);
+            }
+
+            if (!sameChain) {
+                SwimlaneChainElement swimlane = parent != null
+                        ? parent.getSwimlane()
+                        : findDefaultSwimlaneWithLockingByChainId(chainId).orElse(null);
+                for (ChainElement element : builtElements.subList(subtreeStart, builtElements.size())) {
+                    element.setChain(targetChain);
+                    element.setSwimlane(swimlane);
+                    elementUtils.updateResetOnCopyProperties(element, chainId);
+                }
+            }
+            rootCopies.add(copy);
+        }
+
+        elementHierarchyService.persistAll(builtElements);
+
+        logElementsAction(rootCopies, LogOperation.COPY);
+        return rootCopies;
+    }
+
+    private ChainElement copySubtree(
+            ChainElement original,
+            Map<String, List<ChainElement>> childrenByParentId,
+            List<ChainElement> builtElements
+    ) {
+        ChainElement copy = original.copyWithoutSnapshot();
+        if (original.getModifiedWhen().getTime() == original.getCreatedWhen().getTime()) {
+            copy.setCreatedWhen(null);
+            copy.setModifiedWhen(null);
+        } else {
+            copy.setModifiedWhen(Timestamp.valueOf(LocalDateTime.now()));
+        }
+        builtElements.add(copy);
+
+        if (copy instanceof ContainerChainElement container) {
+            for (ChainElement child : childrenByParentId.getOrDefault(original.getId(), Collections.emptyList())) {
+                container.addChildElement(copySubtree(child, childrenByParentId, builtElements));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a graph of elements with their children and dependencies in one transaction.
+     * The graph is built and validated in memory first, then all entities are persisted
+     * parents first, so the inserts are flushed in JDBC batches.
+     */
+    @ChainModification
+    public ChainDiff createAll(String chainId, BulkCreateElementsRequest createRequest) {
+        final ChainDiff chainDiff = new ChainDiff();
+        Chain chain = chainService.findById(chainId);
+        Map<String, ChainElement> elementsByRef = new HashMap<>();
+        List<ChainElement> builtElements = new ArrayList<>();
+
+        for (BulkElementRequest elementRequest : createRequest.getElements()) {
+            String elementType = elementRequest.getType();
+            String parentElementId = elementRequest.getParentElementId();
+            boolean withDefaultChildren = elementRequest.getChildren() == null;
+            if (SwimlaneService.SWIMLANE_TYPE_NAME.equals(elementType)) {
+                throw new ElementCreationException("Swimlanes cannot be created in bulk");
+            }
+
+            ChainElement element;
+            if (parentElementId != null) {
+                ChainElement parentElement = findByIdAndChainId(parentElementId, chainId)
+                        .filter(ContainerChainElement.class::isInstance)
+                        .orElseThrow(() -> new ElementCreationException(
+                                "Container " + parentElementId + " does not exist in chain " + chainId));
+                element = buildChild(elementType, (ContainerChainElement) parentElement, withDefaultChildren, builtElements);
+                auditingHandler.markModified(parentElement);
+                chainDiff.addUpdatedElement(parentElement);
+            } else {
+                checkElementParentRestriction(elementType, null);
+                ElementDescriptor descriptor = libraryService.getElementDescriptor(elementType);
+                SwimlaneChainElement swimlane = resolveSwimlane(chainDiff, chain, descriptor, elementRequest);
+                element = build(elementType, swimlane, chain, withDefaultChildren, builtElements);
+            }
+            buildRequested(element, elementRequest, elementsByRef, builtElements);
+        }
+
+        elementHierarchyService.persistAll(builtElements);
+        chainDiff.addCreatedElements(builtElements);
+
+        List<Pair<ChainElement, ChainElement>> dependencyElements = createRequest.getDependencies().stream()
+                .map(dependencyRequest -> Pair.of(
+                        resolveBulkElement(dependencyRequest.getFrom(), chainId, elementsByRef),
+                        resolveBulkElement(dependencyRequest.getTo(), chainId, elementsByRef)))
+                .toList();
+        chainDiff.merge(dependencyService.createAll(dependencyElements));
+
+        logElementsAction(builtElements, LogOperation.CREATE);
+        return chainDiff;
+    }
+
+    private void buildRequested(
+            ChainElement element,
+            BulkElementRequest elementRequest,
+            Map<String, ChainElement> elementsByRef,
+            List<ChainElement> builtElements
+    ) {
+        String ref = elementRequest.getRef();
+        if (ref != null && elementsByRef.putIfAbsent(ref, element) != null) {
+            throw new ElementCreationException("Duplicate element reference: " + ref);
+        }
+        if (elementRequest.getName() != null) {
+            element.setName(elementRequest.getName());
+        }
+        if (elementRequest.getProperties() != null) {
+            element.getProperties().putAll(elementRequest.getProperties());
+            validateElementProperties(element);
+        }
+
+        if (elementRequest.getChildren() != null) {
+            if (!(element instanceof ContainerChainElement container)) {
+                throw new ElementCreationException("Element of type " + element.getType() + " cannot have children");
+            }
+            for (BulkElementRequest childRequest : elementRequest.getChildren()) {
+                ChainElement child = buildChild(
+                        childRequest.getType(), container, childRequest.getChildren() == null, builtElements);
+                buildRequested(child, childRequest, elementsByRef, builtElements);
+            }
+            checkRequiredChildren(container);
+        }
+    }
+
+    private ChainElement resolveBulkElement(String refOrId, String chainId, Map<String, ChainElement> elementsByRef) {
+        ChainElement element = elementsByRef.get(refOrId);
+        if (element != null) {
+            return element;
+        }
+        return findByIdAndChainId(refOrId, chainId)
+                .orElseThrow(() -> new ElementCreationException(
+                        "Element " + refOrId + " does not exist in chain " + chainId));
+    }
+
     @ChainModification
     public ChainDiff transfer(String chainId, TransferElementRequest transferRequest) {
         String parentId = transferRequest.getParentId();
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.catalog.model.dto.system.UsedSystem;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.designtime.catalog.model.ElementsWithSystemUsage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+
+import java.util.*;
+
+import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.SPECIFICATION_ID;
+import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.SYSTEM_ID;
+
+/**
+ * Resolves services and specifications used by chains with a single aggregation query,
+ * so that only distinct (system, specification) pairs are transferred from the database.
+ */
+@Service
+@Transactional(readOnly = true)
+public class UsedSystemService {
+    private static final String JSONB_EXTRACT_PATH_TEXT = "jsonb_extract_path_text";
+    private static final List<String> ELEMENT_TYPES = Arrays.stream(ElementsWithSystemUsage.values())
+            .map(ElementsWithSystemUsage::getElementName)
+            .toList();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param chainIds  chains to look through, all chains if empty or {@code null}
+     * @param systemIds services to look for, all services if empty or {@code null}
+     * @return used services with their used specifications, both ordered by id. Previously services were
+     * returned in the order chains were requested and elements were stored, which wasn't stable between calls.
+     */
+    public List<UsedSystem> getUsedSystems(Collection<String> chainIds, Collection<String> systemIds) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<ChainElement> root = query.from(ChainElement.class);
+        Expression<String> systemId = extractProperty(builder, root, SYSTEM_ID);
+        Expression<String> specificationId = extractProperty(builder, root, SPECIFICATION_ID);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(root.get("type").in(ELEMENT_TYPES));
+        predicates.add(builder.isNotNull(root.get("chain")));
+        predicates.add(builder.isNotNull(systemId));
+        if (!CollectionUtils.isEmpty(chainIds)) {
+            predicates.add(root.get("chain").get("id").in(chainIds));
+        }
+        if (!CollectionUtils.isEmpty(systemIds)) {
+            predicates.add(systemId.in(systemIds));
+        }
+
+        query.multiselect(systemId, specificationId)
+                .distinct(true)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(systemId), builder.asc(specificationId));
+
+        Map<String, UsedSystem> usedSystems = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            String usedSystemId = row.get(0, String.class);
+            String usedSpecificationId = row.get(1, String.class);
+            if (StringUtils.isBlank(usedSystemId)) {
+                continue;
+            }
+            UsedSystem usedSystem = usedSystems.computeIfAbsent(usedSystemId,
+                    id -> new UsedSystem(id, new ArrayList<>()));
+            if (!StringUtils.isBlank(usedSpecificationId)) {
+                usedSystem.getUsedSystemModelIds().add(usedSpecificationId);
+            }
+        }
+        return new ArrayList<>(usedSystems.values());
+    }
+
+    private Expression<String> extractProperty(CriteriaBuilder builder, Root<ChainElement> root, String name) {
+        return builder.function(JSONB_EXTRACT_PATH_TEXT, String.class, root.get("properties"), builder.literal(name));
+    }
+}
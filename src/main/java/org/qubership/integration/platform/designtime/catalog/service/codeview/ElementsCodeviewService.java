@@ -26,9 +26,9 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.act
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementsCodeException;
+import org.qubership.integration.platform.designtime.catalog.service.ActionLogWriter;
 import org.qubership.integration.platform.designtime.catalog.service.ChainService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,12 +47,12 @@ import java.util.stream.Collectors;
 public class ElementsCodeviewService {
     private final ChainService chainService;
     private final YAMLMapper yamlMapper;
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
     private final AuditingHandler auditingHandler;
 
     @Autowired
     public ElementsCodeviewService(ChainService chainService,
-                                   YAMLMapper codeViewYamlMapper, ActionsLogService actionLogger, AuditingHandler auditingHandler) {
+                                   YAMLMapper codeViewYamlMapper, ActionLogWriter actionLogger, AuditingHandler auditingHandler) {
         this.chainService = chainService;
         this.yamlMapper = codeViewYamlMapper;
         this.actionLogger = actionLogger;
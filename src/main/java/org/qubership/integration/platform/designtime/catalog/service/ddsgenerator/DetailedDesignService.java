@@ -30,11 +30,11 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.sys
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SpecificationSource;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SystemModel;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.DetailedDesignTemplateRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.util.ResourceLoaderUtils;
 import org.qubership.integration.platform.designtime.catalog.model.dds.TemplateSequenceDiagram;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.dds.DDSResponse;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.dds.DDSSpecificationSource;
+import org.qubership.integration.platform.designtime.catalog.service.ActionLogWriter;
 import org.qubership.integration.platform.designtime.catalog.service.ddsgenerator.exception.DetailedDesignInternalException;
 import org.qubership.integration.platform.designtime.catalog.service.ddsgenerator.exception.TemplateDataEscapingException;
 import org.qubership.integration.platform.designtime.catalog.service.ddsgenerator.exception.TemplateProcessingException;
@@ -83,7 +83,7 @@ public class DetailedDesignService {
     private final ChainService chainService;
     private final SystemModelService systemModelService;
     private final OperationService operationService;
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
     private final TransactionHandler transactionHandler;
     private final TemplateDataBuilder templateDataBuilder;
     private final DetailedDesignTemplateRepository designTemplateRepository;
@@ -99,7 +99,7 @@ public class DetailedDesignService {
     private final Map<String, Pair<String, String>> builtinTemplates = new HashMap<>();
 
     @Autowired
-    public DetailedDesignService(ChainService chainService, SystemModelService systemModelService, OperationService operationService, ActionsLogService actionLogger,
+    public DetailedDesignService(ChainService chainService, SystemModelService systemModelService, OperationService operationService, ActionLogWriter actionLogger,
                                  TransactionHandler transactionHandler, TemplateDataBuilder templateDataBuilder,
                                  DetailedDesignTemplateRepository designTemplateRepository,
                                  StringTemplateLoader freemakerTemplateLoader, Configuration freemakerConfig,
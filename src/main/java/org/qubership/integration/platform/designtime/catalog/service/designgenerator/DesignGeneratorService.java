@@ -31,6 +31,7 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.util.DiagramBuilderEscapeUtil;
+import org.qubership.integration.platform.designtime.catalog.model.ChainGraph;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.ContainerDesignProcessor;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
 import org.qubership.integration.platform.designtime.catalog.service.ChainService;
@@ -102,27 +103,32 @@ public class DesignGeneratorService {
     private Map<DiagramMode, ElementsSequenceDiagram> generateSequenceDiagrams(String chainId, String snapshotId, List<ChainElement> elements,
                                                                                List<Dependency> dependencies, List<DiagramMode> modes) {
         Map<DiagramMode, ElementsSequenceDiagram> result = new HashMap<>();
+        // the graph doesn't depend on the mode, it is built once for all diagrams
+        DiagramGraph diagramGraph = buildDiagramGraph(elements, dependencies);
         for (DiagramMode mode : modes) {
             result.put(
                     mode,
                     ElementsSequenceDiagram.builder()
                             .chainId(chainId)
                             .snapshotId(snapshotId)
-                            .diagramSources(generateSequenceDiagram(chainId, elements, dependencies, mode))
+                            .diagramSources(generateSequenceDiagram(chainId, elements, diagramGraph, mode))
                             .build()
             );
         }
         return result;
     }
 
-    private Map<DiagramLangType, String> generateSequenceDiagram(String chainId, List<ChainElement> elements,
-                                                                 List<Dependency> dependencies, DiagramMode mode) {
-
+    private DiagramGraph buildDiagramGraph(List<ChainElement> elements, List<Dependency> dependencies) {
+        ChainGraph chainGraph = ChainGraph.of(elements, dependencies);
         // <fromElementId, elementTo>
         Map<String, List<ChainElement>> fromElementMap = dependencies.stream()
                 .collect(Collectors.groupingBy(e -> e.getElementFrom().getId(), Collectors.mapping(Dependency::getElementTo, Collectors.toList())));
-        collectReuseDependencies(elements, fromElementMap);
+        collectReuseDependencies(elements, chainGraph, fromElementMap);
+        return new DiagramGraph(chainGraph, fromElementMap);
+    }
 
+    private Map<DiagramLangType, String> generateSequenceDiagram(String chainId, List<ChainElement> elements,
+                                                                 DiagramGraph diagramGraph, DiagramMode mode) {
         SequenceDiagramBuilder builder = new SequenceDiagramBuilder();
         Set<String> addedElementsIds = new HashSet<>();
 
@@ -136,7 +142,7 @@ public class DesignGeneratorService {
                 .sorted(Comparator.comparing(AbstractEntity::getName))
                 .collect(Collectors.toList());
 
-        addParticipants(chainId, builder, triggers, fromElementMap, addedElementsIds, mode);
+        addParticipants(chainId, builder, triggers, diagramGraph, addedElementsIds, mode);
 
         for (ChainElement trigger : triggers) {
             String refChainId = DiagramBuilderEscapeUtil.removeOrReplaceUnsupportedCharacters(chainId);
@@ -147,7 +153,7 @@ public class DesignGeneratorService {
             builder.append(START_COLORED_GROUP, GROUP_BG_RGB[0], GROUP_BG_RGB[1], GROUP_BG_RGB[2], refChainId, trigger.getName()); // mermaid
 
             builder.append(ACTIVATE, refChainId);
-            generateDiagramRecursive(refChainId, builder, trigger, fromElementMap, addedElementsIds, mode);
+            generateDiagramRecursive(refChainId, builder, trigger, diagramGraph, addedElementsIds, mode);
             builder.append(DEACTIVATE, refChainId);
             builder.append(END);
 
@@ -163,7 +169,7 @@ public class DesignGeneratorService {
     private void addParticipants(String chainId,
                                  SequenceDiagramBuilder builder,
                                  List<ChainElement> triggers,
-                                 Map<String, List<ChainElement>> fromElementMap,
+                                 DiagramGraph diagramGraph,
                                  Set<String> addedElementsIds,
                                  DiagramMode mode) {
         Map<String, String> participants = new LinkedHashMap<>();
@@ -177,8 +183,8 @@ public class DesignGeneratorService {
         }
 
         for (ChainElement trigger : triggers) {
-            for (ChainElement nextElement : getNextElements(trigger, fromElementMap)) {
-                addParticipantsRecursive(chainId, participants, nextElement, fromElementMap, addedElementsIds, mode);
+            for (ChainElement nextElement : diagramGraph.getNextElements(trigger)) {
+                addParticipantsRecursive(chainId, participants, nextElement, diagramGraph, addedElementsIds, mode);
             }
         }
 
@@ -190,7 +196,7 @@ public class DesignGeneratorService {
     private void addParticipantsRecursive(String chainId,
                                           Map<String, String> participants,
                                           ChainElement currentElement,
-                                          Map<String, List<ChainElement>> fromElementMap,
+                                          DiagramGraph diagramGraph,
                                           Set<String> addedElementsIds,
                                           DiagramMode mode) {
         if (currentElement == null) {
@@ -206,24 +212,20 @@ public class DesignGeneratorService {
 
             if (currentElement instanceof ContainerChainElement) {
                 for (ChainElement innerElement : ((ContainerChainElement) currentElement).getElements()) {
-                    if (innerElement.getInputDependencies().isEmpty()) {
-                        addParticipantsRecursive(chainId, participants, innerElement, fromElementMap, addedElementsIds, mode);
+                    if (diagramGraph.isStartElement(innerElement)) {
+                        addParticipantsRecursive(chainId, participants, innerElement, diagramGraph, addedElementsIds, mode);
                     }
                 }
             }
 
-            for (ChainElement nextElement : getNextElements(currentElement, fromElementMap)) {
+            for (ChainElement nextElement : diagramGraph.getNextElements(currentElement)) {
                 if (!addedElementsIds.contains(nextElement.getId())) {
-                    addParticipantsRecursive(chainId, participants, nextElement, fromElementMap, addedElementsIds, mode);
+                    addParticipantsRecursive(chainId, participants, nextElement, diagramGraph, addedElementsIds, mode);
                 }
             }
         }
     }
 
-    private List<ChainElement> getNextElements(ChainElement currentElement, Map<String, List<ChainElement>> fromElementMap) {
-        return fromElementMap.getOrDefault(currentElement.getId(), Collections.emptyList());
-    }
-
     private void addParticipant(String chainId, Map<String, String> participants, ChainElement element) {
         ElementDesignParameters designParameters = libraryService.getElementDescriptor(element).getDesignParameters();
         DesignProcessor designProcessor = designProcessors.get(element.getType());
@@ -248,14 +250,14 @@ public class DesignGeneratorService {
     private void generateDiagramRecursive(String refChainId,
                                           SequenceDiagramBuilder builder,
                                           ChainElement currentElement,
-                                          Map<String, List<ChainElement>> fromElementMap,
+                                          DiagramGraph diagramGraph,
                                           Set<String> elementsToProcessIds,
                                           DiagramMode mode) {
         if (currentElement == null) {
             return;
         }
 
-        List<ChainElement> elementsTo = fromElementMap.getOrDefault(currentElement.getId(), Collections.emptyList());
+        List<ChainElement> elementsTo = diagramGraph.getNextElements(currentElement);
         ElementDescriptor elementDescriptor = libraryService.getElementDescriptor(currentElement);
         DesignProcessor designProcessor = designProcessors.get(currentElement.getType());
 
@@ -263,24 +265,24 @@ public class DesignGeneratorService {
             elementsToProcessIds.remove(currentElement.getId());
 
             if (elementDescriptor.isContainer()) {
-                processContainerElement(refChainId, builder, (ContainerChainElement) currentElement, fromElementMap,
+                processContainerElement(refChainId, builder, (ContainerChainElement) currentElement, diagramGraph,
                         elementsToProcessIds, mode, elementDescriptor, designProcessor, elementsTo);
             } else {
-                processElement(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds,
+                processElement(refChainId, builder, currentElement, diagramGraph, elementsToProcessIds,
                         mode, elementDescriptor, elementsTo, designProcessor);
             }
         }
     }
 
     private void processContainerElement(String refChainId, SequenceDiagramBuilder builder, ContainerChainElement currentElement,
-                                         Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
+                                         DiagramGraph diagramGraph, Set<String> elementsToProcessIds,
                                          DiagramMode mode, ElementDescriptor elementDescriptor,
                                          DesignProcessor designProcessor, List<ChainElement> elementsTo
     ) {
         if (ElementType.REUSE == elementDescriptor.getType()) {
             currentElement.getElements().stream()
-                    .filter(child -> child.getInputDependencies().isEmpty())
-                    .forEach(child -> generateDiagramRecursive(refChainId, builder, child, fromElementMap, elementsToProcessIds, mode));
+                    .filter(diagramGraph::isStartElement)
+                    .forEach(child -> generateDiagramRecursive(refChainId, builder, child, diagramGraph, elementsToProcessIds, mode));
             return;
         }
 
@@ -288,15 +290,15 @@ public class DesignGeneratorService {
 
         if (designParameters == null) {
             if (designProcessor instanceof ContainerDesignProcessor containerProcessor) {
-                processContainerWithDesignProcessor(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds, mode, elementsTo, containerProcessor);
+                processContainerWithDesignProcessor(refChainId, builder, currentElement, diagramGraph, elementsToProcessIds, mode, elementsTo, containerProcessor);
             }
         } else {
-            processContainerWithDesignParams(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds, mode, elementsTo, designParameters);
+            processContainerWithDesignParams(refChainId, builder, currentElement, diagramGraph, elementsToProcessIds, mode, elementsTo, designParameters);
         }
     }
 
     private void processContainerWithDesignProcessor(String refChainId, SequenceDiagramBuilder builder, ContainerChainElement currentElement,
-                                                     Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
+                                                     DiagramGraph diagramGraph, Set<String> elementsToProcessIds,
                                                      DiagramMode mode, List<ChainElement> elementsTo,
                                                      ContainerDesignProcessor containerProcessor) {
         List<ChainElement> sortedChildren = currentElement.getElements().stream()
@@ -309,7 +311,7 @@ public class DesignGeneratorService {
         for (ChainElement child : sortedChildren) {
             if (!containerProcessor.isContainerWithRestrictions()) {
                 containerProcessor.processChildBefore(refChainId, builder, currentElement, child);
-                generateDiagramRecursive(refChainId, builder, child, fromElementMap, elementsToProcessIds, mode);
+                generateDiagramRecursive(refChainId, builder, child, diagramGraph, elementsToProcessIds, mode);
                 containerProcessor.processChildAfter(refChainId, builder, currentElement, child);
                 continue;
             }
@@ -317,21 +319,21 @@ public class DesignGeneratorService {
             containerProcessor.processChildBefore(refChainId, builder, currentElement, child);
             if (child instanceof ContainerChainElement childContainer) {
                 childContainer.getElements().stream()
-                        .filter(element -> element.getInputDependencies().isEmpty())
-                        .forEach(element -> generateDiagramRecursive(refChainId, builder, element, fromElementMap, elementsToProcessIds, mode));
+                        .filter(diagramGraph::isStartElement)
+                        .forEach(element -> generateDiagramRecursive(refChainId, builder, element, diagramGraph, elementsToProcessIds, mode));
             } else {
-                List<ChainElement> childElementsTo = fromElementMap.getOrDefault(child.getId(), Collections.emptyList());
-                toNextElements(refChainId, builder, fromElementMap, childElementsTo, elementsToProcessIds, mode);
+                List<ChainElement> childElementsTo = diagramGraph.getNextElements(child);
+                toNextElements(refChainId, builder, diagramGraph, childElementsTo, elementsToProcessIds, mode);
             }
             containerProcessor.processChildAfter(refChainId, builder, currentElement, child);
         }
 
         containerProcessor.processAfter(refChainId, builder, currentElement);
-        toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+        toNextElements(refChainId, builder, diagramGraph, elementsTo, elementsToProcessIds, mode);
     }
 
     private void processContainerWithDesignParams(String refChainId, SequenceDiagramBuilder builder,
-                                                  ContainerChainElement currentElement, Map<String, List<ChainElement>> fromElementMap,
+                                                  ContainerChainElement currentElement, DiagramGraph diagramGraph,
                                                   Set<String> elementsToProcessIds, DiagramMode mode,
                                                   List<ChainElement> elementsTo, ElementContainerDesignParameters designParameters) {
         List<ElementDiagramOperation> endOperations = designParameters.getEndOperations();
@@ -352,16 +354,16 @@ public class DesignGeneratorService {
                 if (child instanceof ContainerChainElement childContainer) {
                     childHasElements = !childContainer.getElements().isEmpty();
                     List<ChainElement> startElements = childContainer.getElements().stream()
-                            .filter(element -> element.getInputDependencies().isEmpty())
+                            .filter(diagramGraph::isStartElement)
                             .toList();
                     nextElementsFunction = () -> startElements
                             .forEach(startElement ->
-                                    generateDiagramRecursive(refChainId, builder, startElement, fromElementMap, elementsToProcessIds, mode));
+                                    generateDiagramRecursive(refChainId, builder, startElement, diagramGraph, elementsToProcessIds, mode));
                 } else {
-                    List<ChainElement> childElementsTo = fromElementMap.getOrDefault(child.getId(), Collections.emptyList());
+                    List<ChainElement> childElementsTo = diagramGraph.getNextElements(child);
                     childHasElements = !childElementsTo.isEmpty();
                     nextElementsFunction = () ->
-                            toNextElements(refChainId, builder, fromElementMap, childElementsTo, elementsToProcessIds, mode);
+                            toNextElements(refChainId, builder, diagramGraph, childElementsTo, elementsToProcessIds, mode);
                 }
 
                 if (childHasElements) {
@@ -399,16 +401,16 @@ public class DesignGeneratorService {
             }
         }
 
-        toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+        toNextElements(refChainId, builder, diagramGraph, elementsTo, elementsToProcessIds, mode);
     }
 
     private void processElement(String refChainId, SequenceDiagramBuilder builder, ChainElement currentElement,
-                                Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
+                                DiagramGraph diagramGraph, Set<String> elementsToProcessIds,
                                 DiagramMode mode, ElementDescriptor elementDescriptor,
                                 List<ChainElement> elementsTo, DesignProcessor designProcessor
     ) {
         if (ElementType.REUSE_REFERENCE == elementDescriptor.getType()) {
-            toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+            toNextElements(refChainId, builder, diagramGraph, elementsTo, elementsToProcessIds, mode);
             return;
         }
 
@@ -417,31 +419,31 @@ public class DesignGeneratorService {
         ElementDesignParameters designParameters = elementDescriptor.getDesignParameters();
 
         if (designParameters == null) {
-            processElementWithDesignProcessor(refChainId, builder, currentElement, fromElementMap,
+            processElementWithDesignProcessor(refChainId, builder, currentElement, diagramGraph,
                     elementsToProcessIds, mode, elementsTo, designProcessor, shouldWriteElement);
         } else {
-            processElementWithDesignParams(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds,
+            processElementWithDesignParams(refChainId, builder, currentElement, diagramGraph, elementsToProcessIds,
                     mode, elementsTo, designParameters, shouldWriteElement);
         }
     }
 
     private void processElementWithDesignProcessor(String refChainId, SequenceDiagramBuilder builder, ChainElement currentElement,
-                                                   Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
+                                                   DiagramGraph diagramGraph, Set<String> elementsToProcessIds,
                                                    DiagramMode mode, List<ChainElement> elementsTo,
                                                    DesignProcessor designProcessor, boolean shouldWriteElement) {
         if (designProcessor != null) {
             if (shouldWriteElement) {
                 designProcessor.processBefore(refChainId, builder, currentElement);
-                toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+                toNextElements(refChainId, builder, diagramGraph, elementsTo, elementsToProcessIds, mode);
                 designProcessor.processAfter(refChainId, builder, currentElement);
             } else {
-                toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+                toNextElements(refChainId, builder, diagramGraph, elementsTo, elementsToProcessIds, mode);
             }
         }
     }
 
     private void processElementWithDesignParams(String refChainId, SequenceDiagramBuilder builder, ChainElement currentElement,
-                                                Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
+                                                DiagramGraph diagramGraph, Set<String> elementsToProcessIds,
                                                 DiagramMode mode, List<ChainElement> elementsTo,
                                                 ElementDesignParameters designParameters, boolean shouldWriteElement) {
         String fromId, toId, title = designParameters.getRequestLineTitle(refChainId, currentElement);
@@ -460,7 +462,7 @@ public class DesignGeneratorService {
                 builder.append(ACTIVATE, toId);
 
                 if (!designParameters.isResponseAfterRequest()) {
-                    toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+                    toNextElements(refChainId, builder, diagramGraph, elementsTo, elementsToProcessIds, mode);
                 }
 
                 builder.append(LINE_WITH_ARROW_DOTTED_RIGHT, toId, fromId, DEFAULT_RESPONSE_TITLE);
@@ -471,28 +473,29 @@ public class DesignGeneratorService {
         } else {
             if (designParameters.isHasResponse()) {
                 if (!designParameters.isResponseAfterRequest()) {
-                    toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+                    toNextElements(refChainId, builder, diagramGraph, elementsTo, elementsToProcessIds, mode);
                 }
             }
         }
 
         if (designParameters.isResponseAfterRequest()) {
-            toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+            toNextElements(refChainId, builder, diagramGraph, elementsTo, elementsToProcessIds, mode);
         }
     }
 
     private void toNextElements(String refChainId,
                                 SequenceDiagramBuilder builder,
-                                Map<String, List<ChainElement>> fromElementMap,
+                                DiagramGraph diagramGraph,
                                 List<ChainElement> elementsTo,
                                 Set<String> elementsToProcessIds,
                                 DiagramMode mode) {
         for (ChainElement elementTo : elementsTo) {
-            generateDiagramRecursive(refChainId, builder, elementTo, fromElementMap, elementsToProcessIds, mode);
+            generateDiagramRecursive(refChainId, builder, elementTo, diagramGraph, elementsToProcessIds, mode);
         }
     }
 
-    private void collectReuseDependencies(List<ChainElement> elements, Map<String, List<ChainElement>> fromElementMap) {
+    private void collectReuseDependencies(List<ChainElement> elements, ChainGraph chainGraph,
+                                          Map<String, List<ChainElement>> fromElementMap) {
         Map<String, ChainElement> elementMap = elements.stream()
                 .collect(Collectors.toMap(
                         element -> element.getSnapshot() != null ? element.getOriginalId() : element.getId(),
@@ -505,14 +508,15 @@ public class DesignGeneratorService {
             }
             ChainElement reuseElement = elementMap.get(element.getPropertyAsString(descriptor.getReuseReferenceProperty()));
             if (reuseElement instanceof ContainerChainElement reuseContainer) {
-                if (!element.getOutputDependencies().isEmpty()) {
+                int[] referenceOutputs = chainGraph.getOutputs(chainGraph.indexOf(element));
+                if (referenceOutputs.length > 0) {
                     fromElementMap.remove(element.getId());
-                    List<ChainElement> referenceOutputElements = element.getOutputDependencies().stream()
-                            .map(Dependency::getElementTo)
+                    List<ChainElement> referenceOutputElements = Arrays.stream(referenceOutputs)
+                            .mapToObj(chainGraph::getElement)
                             .toList();
-                    reuseContainer.getElements().stream()
-                            .filter(child -> child.getOutputDependencies().isEmpty())
-                            .forEach(lastElement -> fromElementMap.put(lastElement.getId(), referenceOutputElements));
+                    Arrays.stream(chainGraph.getChildren(chainGraph.indexOf(reuseContainer)))
+                            .filter(child -> chainGraph.getOutputs(child).length == 0)
+                            .forEach(lastElement -> fromElementMap.put(chainGraph.getElement(lastElement).getId(), referenceOutputElements));
                 }
 
                 fromElementMap.compute(element.getId(), (elementFormId, elementsTo) -> {
@@ -528,6 +532,21 @@ public class DesignGeneratorService {
         }
     }
 
+    /**
+     * Dependencies between elements with references to reused elements resolved.
+     */
+    private record DiagramGraph(ChainGraph chainGraph, Map<String, List<ChainElement>> fromElementMap) {
+
+        List<ChainElement> getNextElements(ChainElement element) {
+            return fromElementMap.getOrDefault(element.getId(), Collections.emptyList());
+        }
+
+        boolean isStartElement(ChainElement element) {
+            int index = chainGraph.indexOf(element);
+            return index == ChainGraph.NONE ? element.getInputDependencies().isEmpty() : !chainGraph.hasInputs(index);
+        }
+    }
+
     private static boolean shouldWriteElement(ChainElement currentElement, DiagramMode mode) {
         return !(mode == DiagramMode.SIMPLE &&
                 SIMPLE_DIAGRAM_ELEMENT_EXCLUDE_SET.contains(currentElement.getType()));
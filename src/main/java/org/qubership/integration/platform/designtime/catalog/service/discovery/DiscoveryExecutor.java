@@ -0,0 +1,234 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor dedicated to service autodiscovery.
+ * Keeps discovery tasks off the common ForkJoinPool, limits the number of services
+ * processed concurrently and propagates MDC context to the worker threads.
+ */
+@Slf4j
+@Component
+public class DiscoveryExecutor implements DisposableBean {
+    private static final String THREAD_NAME_PREFIX = "qip-discovery-";
+    private static final String PORT_PROBE_THREAD_NAME_PREFIX = "qip-discovery-port-probe-";
+    private static final String URL_PROBE_THREAD_NAME_PREFIX = "qip-discovery-url-probe-";
+    private static final long PROBE_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final String METRIC_PREFIX = "qip.discovery.services.";
+
+    private final ExecutorService executor;
+    private final ExecutorService portProbeExecutor;
+    private final ExecutorService urlProbeExecutor;
+    private final Semaphore permits;
+    private final Semaphore portProbePermits;
+    private final Semaphore urlProbePermits;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    @Getter
+    @AllArgsConstructor
+    public static class RunStatistics {
+        private int queued;
+        private int inFlight;
+        private int completed;
+        private int failed;
+    }
+
+    @Autowired
+    public DiscoveryExecutor(
+            @Value("${qip.discovery.executor.virtual-threads:true}") boolean virtualThreads,
+            @Value("${qip.discovery.executor.max-concurrency:32}") int maxConcurrency,
+            @Value("${qip.discovery.executor.max-probe-threads:64}") int maxProbeThreads,
+            MeterRegistry meterRegistry
+    ) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Discovery max concurrency must be positive: " + maxConcurrency);
+        }
+        if (maxProbeThreads < 1) {
+            throw new IllegalArgumentException("Discovery max probe threads must be positive: " + maxProbeThreads);
+        }
+        this.permits = new Semaphore(maxConcurrency);
+        // virtual threads are not pooled, so probes of each level are bounded by permits instead
+        this.portProbePermits = new Semaphore(maxProbeThreads);
+        this.urlProbePermits = new Semaphore(maxProbeThreads);
+        // one extra platform thread is reserved for the coordinating discovery run
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory())
+                : Executors.newFixedThreadPool(maxConcurrency + 1, Thread.ofPlatform().name(THREAD_NAME_PREFIX, 0).factory());
+        // port probes wait for URL probes, so each level has its own pool and probes never wait for their own pool
+        this.portProbeExecutor = virtualThreads
+                ? executor
+                : newProbeExecutor(maxProbeThreads, PORT_PROBE_THREAD_NAME_PREFIX);
+        this.urlProbeExecutor = virtualThreads
+                ? executor
+                : newProbeExecutor(maxProbeThreads, URL_PROBE_THREAD_NAME_PREFIX);
+
+        Gauge.builder(METRIC_PREFIX + "queued", queued, AtomicInteger::get)
+                .description("Discovery tasks waiting for a free slot in the current run")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "inflight", inFlight, AtomicInteger::get)
+                .description("Discovery tasks being processed in the current run")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "completed", completed, AtomicInteger::get)
+                .description("Discovery tasks completed in the current run")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "failed", failed, AtomicInteger::get)
+                .description("Discovery tasks failed in the current run")
+                .register(meterRegistry);
+
+        log.info("Discovery executor initialized, virtual threads: {}, max concurrency: {}", virtualThreads, maxConcurrency);
+    }
+
+    private static ExecutorService newProbeExecutor(int maxThreads, String threadNamePrefix) {
+        ThreadPoolExecutor probeExecutor = new ThreadPoolExecutor(
+                maxThreads,
+                maxThreads,
+                PROBE_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name(threadNamePrefix, 0).factory());
+        probeExecutor.allowCoreThreadTimeOut(true);
+        return probeExecutor;
+    }
+
+    /**
+     * Starts a new discovery run: resets per-run statistics
+     * and executes the coordinating task outside the concurrency limit.
+     */
+    public <T> CompletableFuture<T> startRun(Supplier<T> task) {
+        queued.set(0);
+        inFlight.set(0);
+        completed.set(0);
+        failed.set(0);
+        return CompletableFuture.supplyAsync(withMdc(task), executor);
+    }
+
+    /**
+     * Submits a per-service discovery task, bounded by the configured max concurrency.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        Supplier<T> mdcTask = withMdc(task);
+        queued.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                queued.decrementAndGet();
+                failed.incrementAndGet();
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Discovery task was interrupted while waiting for a free slot");
+            }
+            queued.decrementAndGet();
+            inFlight.incrementAndGet();
+            try {
+                T result = mdcTask.get();
+                completed.incrementAndGet();
+                return result;
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                throw e;
+            } finally {
+                inFlight.decrementAndGet();
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Probes a single service port on behalf of a running discovery task.
+     * Probes are not limited by max concurrency and not counted in run statistics,
+     * at most max probe threads of them run at once.
+     * Cancelling the returned future interrupts the probe.
+     */
+    public <T> Future<T> probePort(Supplier<T> task) {
+        return submitProbe(portProbeExecutor, portProbePermits, task);
+    }
+
+    /**
+     * Executes a single HTTP request on behalf of a port probe, see {@link #probePort(Supplier)}.
+     */
+    public <T> Future<T> probeUrl(Supplier<T> task) {
+        return submitProbe(urlProbeExecutor, urlProbePermits, task);
+    }
+
+    private static <T> Future<T> submitProbe(ExecutorService probeExecutor, Semaphore probePermits, Supplier<T> task) {
+        Supplier<T> mdcTask = withMdc(task);
+        return probeExecutor.submit(() -> {
+            probePermits.acquire();
+            try {
+                return mdcTask.get();
+            } finally {
+                probePermits.release();
+            }
+        });
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public RunStatistics getRunStatistics() {
+        return new RunStatistics(queued.get(), inFlight.get(), completed.get(), failed.get());
+    }
+
+    private static <T> Supplier<T> withMdc(Supplier<T> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(context);
+            }
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        portProbeExecutor.shutdownNow();
+        urlProbeExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Elects a single replica to run discovery using a Postgres session-level advisory lock.
+ * <p>
+ * The lock is held on a dedicated connection for the whole discovery run, so it is released
+ * by the database as soon as the leader process or its connection dies. Other replicas never
+ * take the lock over, a hung leader keeps it until it is restarted.
+ */
+@Slf4j
+@Component
+public class DiscoveryLeaderElection implements DisposableBean {
+    private static final long DISCOVERY_LOCK_KEY = 0x5149505f444953L; // "QIP_DIS"
+    private static final int CONNECTION_VALIDATION_TIMEOUT_SECONDS = 5;
+
+    static final String TRY_LOCK_QUERY = "SELECT pg_try_advisory_lock(?)";
+    static final String UNLOCK_QUERY = "SELECT pg_advisory_unlock(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId;
+
+    private Connection lockConnection;
+    // read without the monitor, which heartbeat() holds while validating the connection
+    private volatile boolean leader;
+
+    @Autowired
+    public DiscoveryLeaderElection(JdbcTemplate jdbcTemplate, @Value("${HOSTNAME:}") String hostname) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.instanceId = StringUtils.isBlank(hostname) ? UUID.randomUUID().toString() : hostname;
+    }
+
+    /**
+     * Tries to become the discovery leader.
+     *
+     * @return {@code true} if this replica is the leader now
+     */
+    public synchronized boolean tryAcquire() {
+        if (lockConnection != null) {
+            return false;
+        }
+        try {
+            return tryLock();
+        } catch (SQLException | RuntimeException e) {
+            log.error("Failed to acquire discovery leadership", e);
+            return false;
+        }
+    }
+
+    public synchronized void release() {
+        if (lockConnection == null) {
+            return;
+        }
+        Connection connection = lockConnection;
+        lockConnection = null;
+        leader = false;
+        unlockAndClose(connection);
+        log.info("Discovery leadership released by {}", instanceId);
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    /**
+     * Checks that the lock connection is alive.
+     * Leadership is lost if the connection is broken, since the database has released the lock then.
+     */
+    public synchronized void heartbeat() {
+        if (lockConnection == null) {
+            return;
+        }
+        try {
+            if (!lockConnection.isValid(CONNECTION_VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Lock connection is not valid");
+            }
+        } catch (SQLException e) {
+            log.error("Discovery leadership lost by {}: {}", instanceId, e.getMessage());
+            Connection connection = lockConnection;
+            lockConnection = null;
+            leader = false;
+            evict(connection);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        release();
+    }
+
+    private boolean tryLock() throws SQLException {
+        Connection connection = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+        boolean locked;
+        try {
+            // a session-level lock taken inside a transaction would outlive its rollback
+            connection.setAutoCommit(true);
+            locked = queryBoolean(connection, TRY_LOCK_QUERY, DISCOVERY_LOCK_KEY);
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+        if (!locked) {
+            closeQuietly(connection);
+            return false;
+        }
+        lockConnection = connection;
+        leader = true;
+        log.info("Discovery leadership acquired by {}", instanceId);
+        return true;
+    }
+
+    /**
+     * Releases the lock before returning the connection to the pool. A pooled connection still holding
+     * the lock would keep it for its whole life, so it is evicted from the pool if unlocking fails.
+     */
+    private void unlockAndClose(Connection connection) {
+        try {
+            queryBoolean(connection, UNLOCK_QUERY, DISCOVERY_LOCK_KEY);
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Failed to release discovery lock, evicting its connection: {}", e.getMessage());
+            evict(connection);
+            return;
+        }
+        closeQuietly(connection);
+    }
+
+    private void evict(Connection connection) {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+                return;
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Failed to evict discovery lock connection: {}", e.getMessage());
+        }
+        closeQuietly(connection);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close discovery lock connection: {}", e.getMessage());
+        }
+    }
+
+    private static boolean queryBoolean(Connection connection, String query, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Latency histograms of specification discovery probes, tagged by URL pattern and outcome.
+ * Used to find out which default specification URLs are actually worth probing.
+ */
+@Component
+public class DiscoveryProbeMetrics {
+    private static final String PROBE_LATENCY_METRIC = "qip.discovery.probe.latency";
+    private static final String URL_TAG = "url";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String OUTCOME_FOUND = "found";
+    private static final String OUTCOME_EMPTY = "empty";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public DiscoveryProbeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Executes the probe and records its latency.
+     * A {@code null} result is recorded as an empty response, an exception as an error.
+     *
+     * @param urlPattern URL pattern without host and port, must have low cardinality
+     */
+    public <T> T record(String urlPattern, Supplier<T> probe) {
+        long start = System.nanoTime();
+        String outcome = OUTCOME_ERROR;
+        try {
+            T result = probe.get();
+            outcome = result == null ? OUTCOME_EMPTY : OUTCOME_FOUND;
+            return result;
+        } finally {
+            timer(urlPattern, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String urlPattern, String outcome) {
+        return Timer.builder(PROBE_LATENCY_METRIC)
+                .description("Latency of specification discovery probes")
+                .tag(URL_TAG, urlPattern)
+                .tag(OUTCOME_TAG, outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
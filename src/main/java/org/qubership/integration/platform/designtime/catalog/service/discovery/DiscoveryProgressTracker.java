@@ -0,0 +1,239 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.ConfigParameter;
+import org.qubership.integration.platform.catalog.service.ConfigParameterService;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveryErrorDTO;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveryProgressDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks progress of a discovery process running on the current instance in memory.
+ * Progress is persisted periodically (see {@link #persistProgress()}) for other instances
+ * and pushed to subscribed clients as server-sent events.
+ * Events are sent from discovery worker threads, so writes to an emitter are serialized on the emitter.
+ */
+@Slf4j
+@Component
+public class DiscoveryProgressTracker {
+    public static final String DISCOVERY_NAMESPACE = "discovery";
+    public static final String DISCOVERY_COMPLETE = "100";
+    private static final String DISCOVERY_PROGRESS_NAME = "discoveryProgress";
+    private static final String DISCOVERY_START = "0";
+    private static final double MAX_RUNNING_PROGRESS = 99.0;
+    private static final int ENTITY_EXPIRED_TIMEOUT_MINUTES = 15;
+    private static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final String PROGRESS_EVENT = "progress";
+    private static final String ERROR_EVENT = "error";
+    private static final String COMPLETE_EVENT = "complete";
+
+    private final ConfigParameterService configParameterService;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private volatile int total;
+    private volatile boolean running;
+
+    @Autowired
+    public DiscoveryProgressTracker(ConfigParameterService configParameterService) {
+        this.configParameterService = configParameterService;
+    }
+
+    public void start() {
+        processed.set(0);
+        total = 0;
+        running = true;
+        changed.set(false);
+        saveProgress(DISCOVERY_START);
+        sendEvent(PROGRESS_EVENT, buildProgressDTO(null, null));
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+        log.debug("Services to discover: {}", total);
+    }
+
+    public void serviceProcessed(String serviceName) {
+        processed.incrementAndGet();
+        changed.set(true);
+        sendEvent(PROGRESS_EVENT, buildProgressDTO(serviceName, null));
+    }
+
+    public void serviceFailed(String serviceName, String message) {
+        sendEvent(ERROR_EVENT, buildProgressDTO(serviceName, new DiscoveryErrorDTO(serviceName, message)));
+    }
+
+    public void complete() {
+        running = false;
+        changed.set(false);
+        saveProgress(DISCOVERY_COMPLETE);
+        sendEvent(COMPLETE_EVENT, buildProgressDTO(null, null));
+        completeAll();
+    }
+
+    /**
+     * Writes the in-memory progress to the database if it has changed since the last write.
+     */
+    public void persistProgress() {
+        if (running && changed.getAndSet(false)) {
+            saveProgress(getRunningProgress());
+        }
+    }
+
+    /**
+     * Pushes progress persisted by the discovery leader to clients subscribed on a replica
+     * which doesn't run discovery itself.
+     */
+    public void pushSharedProgress() {
+        if (running || emitters.isEmpty()) {
+            return;
+        }
+        String progress = getProgress();
+        DiscoveryProgressDTO event = buildProgressDTO(null, null);
+        event.setProgress(progress);
+        if (DISCOVERY_COMPLETE.equals(progress)) {
+            sendEvent(COMPLETE_EVENT, event);
+            completeAll();
+        } else {
+            sendEvent(PROGRESS_EVENT, event);
+        }
+    }
+
+    public String getProgress() {
+        if (running) {
+            return getRunningProgress();
+        }
+
+        ConfigParameter cp = configParameterService.findByName(DISCOVERY_NAMESPACE, DISCOVERY_PROGRESS_NAME);
+        String progress = cp == null ? null : cp.getString().split("\\.")[0];
+
+        if (progress == null ||
+                cp.getModifiedWhen().before(
+                        Timestamp.valueOf(LocalDateTime.now().minusMinutes(ENTITY_EXPIRED_TIMEOUT_MINUTES))))
+            return DISCOVERY_COMPLETE;
+
+        return progress;
+    }
+
+    public boolean isComplete() {
+        return getProgress().equals(DISCOVERY_COMPLETE);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = createEmitter();
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> {
+            emitters.remove(emitter);
+            complete(emitter);
+        });
+        emitter.onError(e -> emitters.remove(emitter));
+
+        String progress = getProgress();
+        DiscoveryProgressDTO current = buildProgressDTO(null, null);
+        current.setProgress(progress);
+        if (!send(emitter, PROGRESS_EVENT, current)) {
+            return emitter;
+        }
+        if (DISCOVERY_COMPLETE.equals(progress)) {
+            send(emitter, COMPLETE_EVENT, current);
+            complete(emitter);
+        } else {
+            emitters.add(emitter);
+        }
+        return emitter;
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+    }
+
+    private String getRunningProgress() {
+        int currentTotal = total;
+        if (currentTotal <= 0) {
+            return DISCOVERY_START;
+        }
+        double progress = Math.min(MAX_RUNNING_PROGRESS, processed.get() * MAX_RUNNING_PROGRESS / currentTotal);
+        return String.valueOf((int) progress);
+    }
+
+    private DiscoveryProgressDTO buildProgressDTO(String serviceName, DiscoveryErrorDTO error) {
+        return DiscoveryProgressDTO.builder()
+                .progress(running ? getRunningProgress() : DISCOVERY_COMPLETE)
+                .serviceName(serviceName)
+                .processed(processed.get())
+                .total(total)
+                .error(error)
+                .build();
+    }
+
+    private void sendEvent(String eventName, DiscoveryProgressDTO event) {
+        for (SseEmitter emitter : emitters) {
+            if (!send(emitter, eventName, event)) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String eventName, DiscoveryProgressDTO event) {
+        synchronized (emitter) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(event, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Unable to send discovery progress event: {}", e.getMessage());
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+
+    private void completeAll() {
+        for (SseEmitter emitter : emitters) {
+            emitters.remove(emitter);
+            complete(emitter);
+        }
+    }
+
+    private static void complete(SseEmitter emitter) {
+        synchronized (emitter) {
+            emitter.complete();
+        }
+    }
+
+    private void saveProgress(String progress) {
+        ConfigParameter cp = new ConfigParameter(DISCOVERY_NAMESPACE, DISCOVERY_PROGRESS_NAME);
+        cp.setString(progress);
+        configParameterService.update(cp);
+        configParameterService.flush();
+    }
+}
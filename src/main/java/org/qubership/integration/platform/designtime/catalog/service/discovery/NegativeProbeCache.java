@@ -0,0 +1,236 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.model.system.OperationProtocol;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.ConfigParameter;
+import org.qubership.integration.platform.catalog.service.ConfigParameterService;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Remembers ports of k8s services that returned no specifications, so that
+ * databases, caches, sidecars, etc. are not probed on every discovery run.
+ * <p>
+ * After each empty probe the port is skipped for an exponentially growing number of runs
+ * (1, 2, 4, ... up to {@code qip.discovery.negative-cache.max-backoff-runs}).
+ * An entry is dropped as soon as the resource version of the k8s service changes or specifications are found.
+ * The cache is loaded at the start of a run and saved once at its end.
+ * Outside of a run it is reloaded on every access, since runs may happen on other instances.
+ */
+@Slf4j
+@Service
+public class NegativeProbeCache {
+    private static final String NEGATIVE_CACHE_NAME = "discoveryNegativeCache";
+    private static final int MAX_BACKOFF_SHIFT = 30;
+
+    public record NegativeProbeEntry(
+            String serviceName,
+            int port,
+            String protocol,
+            String resourceVersion,
+            int failures,
+            long retryAtRun,
+            long lastProbedWhen
+    ) {}
+
+    private record NegativeProbeCacheState(long run, List<NegativeProbeEntry> entries) {}
+
+    private final ConfigParameterService configParameterService;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, NegativeProbeEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private volatile long currentRun;
+    private volatile boolean loaded;
+    private volatile boolean running;
+
+    @Value("${qip.discovery.negative-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${qip.discovery.negative-cache.max-backoff-runs:32}")
+    private int maxBackoffRuns;
+
+    @Autowired
+    public NegativeProbeCache(ConfigParameterService configParameterService, ObjectMapper objectMapper) {
+        this.configParameterService = configParameterService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reloads the cache, it may have been changed by a run on another instance.
+     */
+    public synchronized void startRun() {
+        entries.clear();
+        loaded = false;
+        load();
+        currentRun++;
+        changed.set(true);
+        running = true;
+    }
+
+    public synchronized void finishRun() {
+        running = false;
+        if (changed.getAndSet(false)) {
+            save();
+        }
+    }
+
+    /**
+     * @return {@code false} if the port returned no specifications recently and the service was not changed since
+     */
+    public boolean shouldProbe(KubeService service, int port, OperationProtocol protocol) {
+        if (!enabled) {
+            return true;
+        }
+        String key = buildKey(service.getName(), port, protocol);
+        NegativeProbeEntry entry = entries.get(key);
+        if (entry == null) {
+            return true;
+        }
+        if (!Objects.equals(entry.resourceVersion(), service.getResourceVersion())) {
+            log.debug("Service {} is changed, port {} will be probed again", service.getName(), port);
+            remove(key);
+            return true;
+        }
+        return currentRun >= entry.retryAtRun();
+    }
+
+    public void recordEmpty(KubeService service, int port, OperationProtocol protocol) {
+        if (!enabled) {
+            return;
+        }
+        entries.compute(buildKey(service.getName(), port, protocol), (key, entry) -> {
+            int failures = entry == null ? 1 : entry.failures() + 1;
+            long backoff = Math.min(maxBackoffRuns, 1L << Math.min(failures - 1, MAX_BACKOFF_SHIFT));
+            // the port is skipped for the next backoff runs and probed in the one after them
+            return new NegativeProbeEntry(
+                    service.getName(),
+                    port,
+                    protocol.getType(),
+                    service.getResourceVersion(),
+                    failures,
+                    currentRun + backoff + 1,
+                    System.currentTimeMillis());
+        });
+        changed.set(true);
+    }
+
+    public void recordFound(KubeService service, int port, OperationProtocol protocol) {
+        if (enabled) {
+            remove(buildKey(service.getName(), port, protocol));
+        }
+    }
+
+    public synchronized List<NegativeProbeEntry> getEntries() {
+        reload();
+        return entries.values().stream()
+                .sorted(Comparator.comparing(NegativeProbeEntry::serviceName)
+                        .thenComparingInt(NegativeProbeEntry::port)
+                        .thenComparing(NegativeProbeEntry::protocol))
+                .toList();
+    }
+
+    public long getRunsUntilRetry(NegativeProbeEntry entry) {
+        return Math.max(0, entry.retryAtRun() - currentRun);
+    }
+
+    /**
+     * Removes entries of the service, or all entries if the service name is {@code null}.
+     */
+    public synchronized int clear(String serviceName) {
+        reload();
+        int sizeBefore = entries.size();
+        if (serviceName == null) {
+            entries.clear();
+        } else {
+            entries.values().removeIf(entry -> entry.serviceName().equals(serviceName));
+        }
+        if (running) {
+            // saved at the end of the run together with its results
+            changed.set(true);
+        } else {
+            save();
+        }
+        return sizeBefore - entries.size();
+    }
+
+    private void remove(String key) {
+        if (entries.remove(key) != null) {
+            changed.set(true);
+        }
+    }
+
+    /**
+     * Reloads entries saved by the last run, unless a run is in progress on this instance
+     * and its entries are the most recent ones.
+     */
+    private void reload() {
+        if (running) {
+            return;
+        }
+        entries.clear();
+        loaded = false;
+        load();
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        ConfigParameter cp = configParameterService.findByName(DiscoveryProgressTracker.DISCOVERY_NAMESPACE, NEGATIVE_CACHE_NAME);
+        if (cp != null && cp.getString() != null) {
+            try {
+                NegativeProbeCacheState state = objectMapper.readValue(cp.getString(), NegativeProbeCacheState.class);
+                currentRun = state.run();
+                Optional.ofNullable(state.entries()).orElse(Collections.emptyList()).forEach(entry ->
+                        entries.put(buildKey(entry.serviceName(), entry.port(), entry.protocol()), entry));
+            } catch (JsonProcessingException e) {
+                log.warn("Unable to read discovery negative cache, it will be reset: {}", e.getMessage());
+            }
+        }
+        loaded = true;
+    }
+
+    private void save() {
+        try {
+            ConfigParameter cp = new ConfigParameter(DiscoveryProgressTracker.DISCOVERY_NAMESPACE, NEGATIVE_CACHE_NAME);
+            cp.setString(objectMapper.writeValueAsString(
+                    new NegativeProbeCacheState(currentRun, new ArrayList<>(entries.values()))));
+            configParameterService.update(cp);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Unable to save discovery negative cache: {}", e.getMessage());
+        }
+    }
+
+    private static String buildKey(String serviceName, int port, OperationProtocol protocol) {
+        return buildKey(serviceName, port, protocol.getType());
+    }
+
+    private static String buildKey(String serviceName, int port, String protocol) {
+        return serviceName + ":" + port + ":" + protocol;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.file.PathUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.SpecificationDiscoveryException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Downloads specifications into temporary files instead of keeping response bodies on heap.
+ * The body is streamed through a fixed buffer, hashed on the fly and rejected as soon as it exceeds
+ * {@code qip.discovery.download.max-spec-size}.
+ * <p>
+ * Files of a discovery run are kept in a run directory removed by {@link #finishRun()},
+ * downloads outside of a run fail.
+ */
+@Slf4j
+@Component
+public class SpecificationDownloader {
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String RUN_DIRECTORY_PREFIX = "qip-discovery-";
+    private static final String FILE_PREFIX = "spec-";
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    public record DownloadedSpecification(
+            String contentType,
+            Path contentFile,
+            long size,
+            String contentHash,
+            String etag,
+            String lastModified,
+            boolean notModified
+    ) {
+        public boolean isEmpty() {
+            return contentFile == null || size == 0;
+        }
+    }
+
+    @Value("${qip.discovery.download.max-spec-size:20MB}")
+    private DataSize maxSpecSize;
+
+    private volatile Path runDirectory;
+
+    public synchronized void startRun() {
+        finishRun();
+        try {
+            runDirectory = Files.createTempDirectory(RUN_DIRECTORY_PREFIX);
+        } catch (IOException e) {
+            log.error("Unable to create discovery temp directory, specifications can't be downloaded: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void finishRun() {
+        if (runDirectory != null) {
+            try {
+                PathUtils.deleteDirectory(runDirectory);
+            } catch (IOException e) {
+                log.warn("Unable to delete discovery temp directory {}: {}", runDirectory, e.getMessage());
+            }
+            runDirectory = null;
+        }
+    }
+
+    /**
+     * @return downloaded specification, {@link DownloadedSpecification#notModified()} is set on 304 response
+     * @throws SpecificationDiscoveryException if the specification is larger than the max size
+     */
+    public DownloadedSpecification download(RestTemplate restTemplate, String address, HttpHeaders requestHeaders) {
+        return restTemplate.execute(
+                address,
+                HttpMethod.GET,
+                request -> request.getHeaders().putAll(requestHeaders),
+                response -> {
+                    HttpHeaders headers = response.getHeaders();
+                    String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+                    String etag = headers.getETag();
+                    String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+                    if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        return new DownloadedSpecification(contentType, null, 0, null, etag, lastModified, true);
+                    }
+                    if (headers.getContentLength() > maxSpecSize.toBytes()) {
+                        throw tooLarge(address);
+                    }
+
+                    Path file = createTempFile(address);
+                    try (InputStream in = response.getBody(); OutputStream out = Files.newOutputStream(file)) {
+                        MessageDigest digest = newDigest();
+                        byte[] buffer = new byte[BUFFER_SIZE];
+                        long size = 0;
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            if (Thread.currentThread().isInterrupted()) {
+                                throw new SpecificationDiscoveryException(
+                                        "Download of specification at " + address + " is cancelled");
+                            }
+                            size += read;
+                            if (size > maxSpecSize.toBytes()) {
+                                throw tooLarge(address);
+                            }
+                            digest.update(buffer, 0, read);
+                            out.write(buffer, 0, read);
+                        }
+                        return new DownloadedSpecification(contentType, file, size,
+                                HexFormat.of().formatHex(digest.digest()), etag, lastModified, false);
+                    } catch (IOException | RuntimeException e) {
+                        delete(file);
+                        throw e;
+                    }
+                });
+    }
+
+    /**
+     * Reads the whole specification, to be used only when it is about to be imported.
+     */
+    public String readContent(Path contentFile, String contentType) throws IOException {
+        return Files.readString(contentFile, getCharset(contentType));
+    }
+
+    public void delete(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Unable to delete specification temp file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Files are created only inside the run directory, so that downloads still in flight
+     * after the run is finished fail instead of leaving files nobody deletes.
+     */
+    private Path createTempFile(String address) throws IOException {
+        Path directory = runDirectory;
+        if (directory == null || !Files.isDirectory(directory)) {
+            throw new SpecificationDiscoveryException(
+                    "Specification at " + address + " is not downloaded, no discovery run is active");
+        }
+        return Files.createTempFile(directory, FILE_PREFIX, null);
+    }
+
+    private SpecificationDiscoveryException tooLarge(String address) {
+        return new SpecificationDiscoveryException(
+                "Specification at " + address + " exceeds max size of " + maxSpecSize.toMegabytes() + " MB");
+    }
+
+    private static Charset getCharset(String contentType) {
+        if (StringUtils.isBlank(contentType)) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            Charset charset = MediaType.parseMediaType(contentType).getCharset();
+            return charset == null ? StandardCharsets.UTF_8 : charset;
+        } catch (InvalidMediaTypeException | IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.ConfigParameter;
+import org.qubership.integration.platform.catalog.service.ConfigParameterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores validators (ETag, Last-Modified) and content hashes of discovered specifications
+ * by specification address, so that unchanged specifications can be skipped during re-discovery.
+ * <p>
+ * Fingerprints are loaded at the start of a discovery run and saved once at its end.
+ * A run over all services drops fingerprints of addresses it has not verified,
+ * e.g. of removed services and systems, so they don't accumulate.
+ */
+@Slf4j
+@Service
+public class SpecificationFingerprintService {
+    private static final String FINGERPRINTS_NAME = "discoveryFingerprints";
+
+    public record SpecificationFingerprint(
+            String etag,
+            String lastModified,
+            String contentHash,
+            String version,
+            long verifiedWhen
+    ) {
+        /**
+         * Returns the fingerprint verified now, with validators of the latest response if it has them.
+         */
+        public SpecificationFingerprint reverified(String etag, String lastModified) {
+            return new SpecificationFingerprint(
+                    StringUtils.defaultIfBlank(etag, this.etag),
+                    StringUtils.defaultIfBlank(lastModified, this.lastModified),
+                    contentHash,
+                    version,
+                    System.currentTimeMillis());
+        }
+    }
+
+    private final ConfigParameterService configParameterService;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, SpecificationFingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final Set<String> verifiedAddresses = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+
+    @Value("${qip.discovery.fingerprint.ttl:24h}")
+    private Duration fingerprintTtl;
+
+    @Autowired
+    public SpecificationFingerprintService(ConfigParameterService configParameterService, ObjectMapper objectMapper) {
+        this.configParameterService = configParameterService;
+        this.objectMapper = objectMapper;
+    }
+
+    public synchronized void startRun() {
+        fingerprints.clear();
+        verifiedAddresses.clear();
+        load();
+        running = true;
+    }
+
+    /**
+     * @param allServices whether the run probed all services, fingerprints of addresses it has not verified
+     *                    are dropped then
+     */
+    public synchronized void finishRun(boolean allServices) {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (allServices) {
+            int sizeBefore = fingerprints.size();
+            fingerprints.keySet().retainAll(verifiedAddresses);
+            log.debug("Dropped {} fingerprints of specifications not verified by discovery",
+                    sizeBefore - fingerprints.size());
+        }
+        save();
+        fingerprints.clear();
+        verifiedAddresses.clear();
+    }
+
+    /**
+     * Returns a fingerprint of the specification available by address,
+     * or {@code null} if there is no fingerprint or it is expired and the specification must be fully verified.
+     */
+    public SpecificationFingerprint get(String address) {
+        SpecificationFingerprint fingerprint = fingerprints.get(address);
+        if (fingerprint == null || isExpired(fingerprint)) {
+            return null;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Records the fingerprint of a specification verified or imported by the current run.
+     */
+    public void save(String address, SpecificationFingerprint fingerprint) {
+        if (!running) {
+            log.debug("Fingerprint of specification {} is not saved outside of a discovery run", address);
+            return;
+        }
+        fingerprints.put(address, fingerprint);
+        verifiedAddresses.add(address);
+    }
+
+    private boolean isExpired(SpecificationFingerprint fingerprint) {
+        return System.currentTimeMillis() - fingerprint.verifiedWhen() > fingerprintTtl.toMillis();
+    }
+
+    private void load() {
+        ConfigParameter cp = configParameterService.findByName(DiscoveryProgressTracker.DISCOVERY_NAMESPACE, FINGERPRINTS_NAME);
+        if (cp == null || cp.getString() == null) {
+            return;
+        }
+        try {
+            Map<String, SpecificationFingerprint> saved = objectMapper.readValue(cp.getString(),
+                    new TypeReference<Map<String, SpecificationFingerprint>>() {});
+            saved.forEach((address, fingerprint) -> {
+                if (fingerprint != null) {
+                    fingerprints.put(address, fingerprint);
+                }
+            });
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to read specification fingerprints, they will be reset: {}", e.getMessage());
+        }
+    }
+
+    private void save() {
+        try {
+            ConfigParameter cp = new ConfigParameter(DiscoveryProgressTracker.DISCOVERY_NAMESPACE, FINGERPRINTS_NAME);
+            cp.setString(objectMapper.writeValueAsString(fingerprints));
+            configParameterService.update(cp);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Unable to save specification fingerprints: {}", e.getMessage());
+        }
+    }
+}
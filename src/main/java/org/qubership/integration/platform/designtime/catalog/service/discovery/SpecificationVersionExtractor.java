@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Extracts {@code info.version} from OpenAPI/AsyncAPI documents with a streaming parser.
+ * Parsing stops as soon as the version is found, the document tree is never built.
+ */
+@Component
+public class SpecificationVersionExtractor {
+    private static final String SPEC_FIELD_INFO = "info";
+    private static final String SPEC_FIELD_VERSION = "version";
+    private static final String JSON_CONTENT_TYPE_MARKER = "json";
+    private static final String YAML_CONTENT_TYPE_MARKER = "yaml";
+    private static final int FORMAT_DETECTION_PREFIX_SIZE = 1024;
+
+    @FunctionalInterface
+    private interface ParserSource {
+        JsonParser createParser(JsonFactory factory) throws IOException;
+    }
+
+    private final JsonFactory jsonFactory;
+    private final JsonFactory yamlFactory;
+
+    @Autowired
+    public SpecificationVersionExtractor(ObjectMapper objectMapper, YAMLMapper yamlMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.yamlFactory = yamlMapper.getFactory();
+    }
+
+    /**
+     * @param content     specification text
+     * @param contentType value of the Content-Type header, may be {@code null}
+     * @return version as it would be returned by {@code JsonNode.asText("")},
+     * or {@code null} if the document has no {@code info.version}
+     * @throws IOException if the document is neither valid JSON nor valid YAML
+     */
+    public String extractVersion(String content, String contentType) throws IOException {
+        return extractVersion(isJson(content, contentType), factory -> factory.createParser(content));
+    }
+
+    /**
+     * Same as {@link #extractVersion(String, String)} for a specification stored in a file.
+     */
+    public String extractVersion(Path file, String contentType) throws IOException {
+        return extractVersion(isJson(file, contentType), factory -> factory.createParser(file.toFile()));
+    }
+
+    private String extractVersion(boolean json, ParserSource source) throws IOException {
+        if (json) {
+            try {
+                return extractVersion(jsonFactory, source);
+            } catch (IOException e) {
+                // Content-Type may lie, YAML is a superset of JSON
+                return extractVersion(yamlFactory, source);
+            }
+        }
+        return extractVersion(yamlFactory, source);
+    }
+
+    private boolean isJson(String content, String contentType) {
+        Boolean json = isJson(contentType);
+        return json != null ? json : startsAsJson(content);
+    }
+
+    private boolean isJson(Path file, String contentType) throws IOException {
+        Boolean json = isJson(contentType);
+        if (json != null) {
+            return json;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            // Specifications are expected to be UTF-8, only the first significant character matters
+            return startsAsJson(new String(in.readNBytes(FORMAT_DETECTION_PREFIX_SIZE), StandardCharsets.UTF_8));
+        }
+    }
+
+    private Boolean isJson(String contentType) {
+        if (StringUtils.containsIgnoreCase(contentType, JSON_CONTENT_TYPE_MARKER)) {
+            return true;
+        }
+        if (StringUtils.containsIgnoreCase(contentType, YAML_CONTENT_TYPE_MARKER)) {
+            return false;
+        }
+        return null;
+    }
+
+    private boolean startsAsJson(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (!Character.isWhitespace(c) && c != '\uFEFF') {
+                return c == '{' || c == '[';
+            }
+        }
+        return false;
+    }
+
+    private String extractVersion(JsonFactory factory, ParserSource source) throws IOException {
+        try (JsonParser parser = source.createParser(factory)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (SPEC_FIELD_INFO.equals(field) && value == JsonToken.START_OBJECT) {
+                    return extractInfoVersion(parser);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    private String extractInfoVersion(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (SPEC_FIELD_VERSION.equals(field)) {
+                return asText(parser, value);
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private String asText(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING, VALUE_NUMBER_INT, VALUE_TRUE, VALUE_FALSE -> parser.getText();
+            case VALUE_NUMBER_FLOAT -> String.valueOf(parser.getDoubleValue());
+            default -> "";
+        };
+    }
+}
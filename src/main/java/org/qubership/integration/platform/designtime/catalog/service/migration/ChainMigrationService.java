@@ -20,33 +20,30 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.act
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
-import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ChainMigrationException;
+import org.qubership.integration.platform.designtime.catalog.model.ChainGraph;
+import org.qubership.integration.platform.designtime.catalog.service.ActionLogWriter;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.ElementMigration;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.MigrationContext;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.RestrictedContainerMigration;
-import org.qubership.integration.platform.catalog.util.DistinctByKey;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.LinkedList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.qubership.integration.platform.catalog.model.constant.CamelNames.CONTAINER;
 
@@ -56,7 +53,7 @@ public class ChainMigrationService {
 
     private static final String CONTAINING_SWIMLANES_ERROR_MESSAGE = "Chain containing swimlanes cannot be migrated.";
     private static final String CHAIN_WITH_ID_NOT_FOUND_MESSAGE = "Can't find chain with id: ";
-    private final ActionsLogService actionLogger;
+    private final ActionLogWriter actionLogger;
     private final AuditingHandler auditingHandler;
     private final ChainRepository chainRepository;
     private final ElementRepository elementRepository;
@@ -65,7 +62,7 @@ public class ChainMigrationService {
 
     @Autowired
     public ChainMigrationService(
-            ActionsLogService actionLogger,
+            ActionLogWriter actionLogger,
             AuditingHandler auditingHandler,
             ChainRepository chainRepository,
             ElementRepository elementRepository,
@@ -121,7 +118,8 @@ public class ChainMigrationService {
         chain.getDependencies().forEach(dependencyRepository::remove);
         chain.getElements().forEach(elementRepository::remove);
 
-        Map<ChainElement, ElementMigration> startDeprecatedElements = collectStartDeprecatedContainers(chain.getElements());
+        Map<ChainElement, ElementMigration> startDeprecatedElements = collectStartDeprecatedContainers(
+                ChainGraph.of(chain.getElements(), chain.getDependencies()));
         if (!canBeMigrated(startDeprecatedElements, context)) {
             throw new ChainMigrationException(getErrorMessage(chain.getId()));
         }
@@ -161,53 +159,63 @@ public class ChainMigrationService {
         return true;
     }
 
-    private Map<ChainElement, ElementMigration> collectStartDeprecatedContainers(List<ChainElement> chainElements) {
-        List<ChainElement> startElements = chainElements.stream()
-                .filter(chainElement -> chainElement.getParent() == null || CONTAINER.equals(chainElement.getParent().getType()))
-                .filter(chainElement -> chainElement.getInputDependencies().isEmpty())
-                .filter(chainElement -> !CONTAINER.equals(chainElement.getType()))
-                .toList();
-        Map<ChainElement, ElementMigration> startDeprecatedContainers = toStartDeprecatedContainerStream(startElements)
-                .filter(DistinctByKey.newInstance(Pair::getKey))
-                .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
-        chainElements.stream()
-                .filter(element -> elementMigrations.get(element.getType()) instanceof RestrictedContainerMigration)
-                .filter(element -> !startDeprecatedContainers.containsKey(element)
-                        && (element.getInputDependencies().isEmpty() || hasOnlyCircularDependenciesOnItself(element)))
-                .map(element -> Pair.of(element, elementMigrations.get(element.getType())))
-                .forEach(elementMigrationPair -> startDeprecatedContainers.put(elementMigrationPair.getKey(), elementMigrationPair.getValue()));
+    private Map<ChainElement, ElementMigration> collectStartDeprecatedContainers(ChainGraph graph) {
+        Map<ChainElement, ElementMigration> startDeprecatedContainers = new HashMap<>();
+        BitSet visited = new BitSet(graph.size());
+        for (int i = 0; i < graph.size(); i++) {
+            ChainElement chainElement = graph.getElement(i);
+            int parent = graph.getParent(i);
+            if ((parent == ChainGraph.NONE || CONTAINER.equals(graph.getType(parent)))
+                    && !graph.hasInputs(i)
+                    && !CONTAINER.equals(chainElement.getType())) {
+                collectStartDeprecatedContainers(graph, i, visited, startDeprecatedContainers);
+            }
+        }
+        for (int i = 0; i < graph.size(); i++) {
+            ChainElement element = graph.getElement(i);
+            ElementMigration elementMigration = elementMigrations.get(element.getType());
+            if (elementMigration instanceof RestrictedContainerMigration
+                    && !startDeprecatedContainers.containsKey(element)
+                    && (!graph.hasInputs(i) || hasOnlyCircularDependenciesOnItself(graph, i))) {
+                startDeprecatedContainers.put(element, elementMigration);
+            }
+        }
         return startDeprecatedContainers;
     }
 
-    private Stream<Pair<ChainElement, ElementMigration>> toStartDeprecatedContainerStream(List<ChainElement> chainElements) {
-        return chainElements.stream()
-                .flatMap(startElement -> {
-                    ElementMigration elementMigration = elementMigrations.get(startElement.getType());
-                    if (elementMigration == null) {
-                        List<ChainElement> outputElements = startElement.getOutputDependencies().stream()
-                                .map(Dependency::getElementTo)
-                                .toList();
-                        return toStartDeprecatedContainerStream(outputElements);
-                    }
-                    return Stream.of(Pair.of(startElement, elementMigration));
-                });
-    }
+    /**
+     * Follows output dependencies of the element up to the first elements which have to be migrated.
+     */
+    private void collectStartDeprecatedContainers(
+            ChainGraph graph,
+            int element,
+            BitSet visited,
+            Map<ChainElement, ElementMigration> startDeprecatedContainers
+    ) {
+        if (visited.get(element)) {
+            return;
+        }
+        visited.set(element);
 
-    private boolean hasOnlyCircularDependenciesOnItself(ChainElement chainElement) {
-        outerLoop:
-        for (Dependency inputDependency : chainElement.getInputDependencies()) {
-            Queue<ChainElement> inputElements = new LinkedList<>();
-            inputElements.offer(inputDependency.getElementFrom());
+        ChainElement chainElement = graph.getElement(element);
+        ElementMigration elementMigration = elementMigrations.get(chainElement.getType());
+        if (elementMigration != null) {
+            startDeprecatedContainers.putIfAbsent(chainElement, elementMigration);
+            return;
+        }
+        for (int output : graph.getOutputs(element)) {
+            collectStartDeprecatedContainers(graph, output, visited, startDeprecatedContainers);
+        }
+    }
 
-            while (!inputElements.isEmpty()) {
-                ChainElement inputElement = inputElements.poll();
-                if (inputElement.getParent() != null && chainElement.getId().equals(inputElement.getParent().getId())) {
-                    continue outerLoop;
-                }
-                inputElement.getInputDependencies().forEach(dependency -> inputElements.offer(dependency.getElementFrom()));
+    /**
+     * @return whether every input dependency of the container comes, directly or transitively, from its own child
+     */
+    private boolean hasOnlyCircularDependenciesOnItself(ChainGraph graph, int container) {
+        for (int input : graph.getInputs(container)) {
+            if (!graph.anyUpstream(input, element -> graph.getParent(element) == container)) {
+                return false;
             }
-
-            return false;
         }
         return true;
     }
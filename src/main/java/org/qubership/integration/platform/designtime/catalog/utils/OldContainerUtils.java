@@ -21,17 +21,14 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.util.DistinctByKey;
+import org.qubership.integration.platform.designtime.catalog.model.ChainGraph;
 import org.qubership.integration.platform.designtime.catalog.service.ElementService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Component
 public class OldContainerUtils {
@@ -56,14 +53,11 @@ public class OldContainerUtils {
         return parentElement;
     }
 
-    public List<Dependency> extractOldContainerOutputDependencies(ChainElement element) {
-        if (isOldStyleContainer(element.getType())) {
-            return ((ContainerChainElement) element).getElements().stream()
-                    .map(ChainElement::getOutputDependencies)
-                    .flatMap(List::stream)
-                    .collect(Collectors.toList());
-        }
-        return new ArrayList<>();
+    /**
+     * @return ordinals of old style container types of the graph
+     */
+    public BitSet getOldStyleContainerTypes(ChainGraph graph) {
+        return graph.matchTypes(this::isOldStyleContainer);
     }
 
     public boolean isOldStyleContainer(String elementType) {
@@ -77,29 +71,36 @@ public class OldContainerUtils {
             return Collections.emptyList();
         }
 
-        return ((ContainerChainElement) element).getElements().stream()
-                .map(this::collectAllOldStyleContainerDependentElements)
-                .flatMap(List::stream)
+        List<ChainElement> result = new ArrayList<>();
+        Set<String> expandedIds = new HashSet<>();
+        for (ChainElement child : ((ContainerChainElement) element).getElements()) {
+            collectAllOldStyleContainerDependentElements(child, expandedIds, result);
+        }
+        return result.stream()
                 .filter(DistinctByKey.newInstance(ChainElement::getId))
                 .toList();
     }
 
-    private List<ChainElement> collectAllOldStyleContainerDependentElements(ChainElement element) {
-        List<ChainElement> result = new ArrayList<>();
-        List<ChainElement> elementsTo = element.getOutputDependencies()
-                .stream()
-                .map(Dependency::getElementTo)
-                .toList();
-        for (ChainElement elementTo : elementsTo) {
+    /**
+     * Each element is expanded once, repeated expansion would only add elements which are already collected.
+     */
+    private void collectAllOldStyleContainerDependentElements(
+            ChainElement element,
+            Set<String> expandedIds,
+            List<ChainElement> result
+    ) {
+        if (!expandedIds.add(element.getId())) {
+            return;
+        }
+        for (Dependency dependency : element.getOutputDependencies()) {
+            ChainElement elementTo = dependency.getElementTo();
             if (isOldStyleContainer(elementTo.getType())) {
-                ((ContainerChainElement) elementTo).getElements().stream()
-                        .map(this::collectAllOldStyleContainerDependentElements)
-                        .flatMap(List::stream)
-                        .forEach(result::add);
+                for (ChainElement child : ((ContainerChainElement) elementTo).getElements()) {
+                    collectAllOldStyleContainerDependentElements(child, expandedIds, result);
+                }
             }
-            result.addAll(collectAllOldStyleContainerDependentElements(elementTo));
+            collectAllOldStyleContainerDependentElements(elementTo, expandedIds, result);
             result.add(elementTo);
         }
-        return result;
     }
 }
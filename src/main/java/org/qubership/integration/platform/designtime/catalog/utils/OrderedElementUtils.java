@@ -20,7 +20,9 @@ import org.qubership.integration.platform.catalog.model.library.ElementDescripto
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
@@ -36,42 +38,63 @@ public class OrderedElementUtils {
     }
 
 
-    public List<ChainElement> extractOrderedElements(ContainerChainElement parentElement, boolean excludeCurrentElement) {
+    /**
+     * Returns children of the ordered element type sorted by priority.
+     * Priority of each child is parsed once, children with equal priorities keep their order.
+     */
+    public List<ChainElement> getSortedChildren(ContainerChainElement parentElement) {
         return parentElement.getElements().stream()
                 .filter(it -> StringUtils.equals(it.getType(), orderedElement.getType()))
-                .filter(it -> excludeCurrentElement && !StringUtils.equals(it.getId(), orderedElement.getId()))
+                .map(it -> Pair.of(getPriorityAsInt(it), it))
+                .sorted(Comparator.comparing(Pair::getLeft))
+                .map(Pair::getRight)
                 .toList();
     }
 
-    public List<ChainElement> getSortedChildren(ContainerChainElement parentElement) {
-        return parentElement.getElements().stream()
-                .filter(it -> StringUtils.equals(it.getType(), orderedElement.getType()))
-                .sorted((left, right) -> {
-                    Integer leftPriorityNumber = getPriorityAsInt(left);
-                    Integer rightPriorityNumber = getPriorityAsInt(right);
-
-                    if (leftPriorityNumber.equals(rightPriorityNumber)) {
-                        return 0;
-                    }
-                    return leftPriorityNumber > rightPriorityNumber ? 1 : -1;
-                })
-                .toList();
+    /**
+     * Counts ordered siblings of the element having priorities within the sequence,
+     * i.e. the priority the element gets when appended to the end of the sequence.
+     */
+    public int countSequencedSiblings(ContainerChainElement parentElement) {
+        int siblingCount = 0;
+        for (ChainElement child : parentElement.getElements()) {
+            if (isSibling(child)) {
+                siblingCount++;
+            }
+        }
+        int sequencedCount = 0;
+        for (ChainElement child : parentElement.getElements()) {
+            if (isSibling(child)) {
+                int priority = getPriorityAsInt(child);
+                if (priority >= 0 && priority < siblingCount) {
+                    sequencedCount++;
+                }
+            }
+        }
+        return sequencedCount;
     }
 
     public Integer getCurrentElementIndex(List<ChainElement> sortedElements) {
-        return sortedElements.stream()
-                .filter(it -> StringUtils.equals(it.getId(), orderedElement.getId()))
-                .findFirst()
-                .map(sortedElements::indexOf)
-                .orElse(-1);
+        for (int i = 0; i < sortedElements.size(); i++) {
+            if (StringUtils.equals(sortedElements.get(i).getId(), orderedElement.getId())) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     public Integer getIndexByPriority(List<ChainElement> sortedElements, Integer priority) {
-        return sortedElements.stream()
-                .filter(it -> Objects.equals(getPriorityAsInt(it), priority))
-                .findFirst()
-                .map(sortedElements::indexOf)
-                .orElse(-1);
+        for (int i = 0; i < sortedElements.size(); i++) {
+            if (Objects.equals(getPriorityAsInt(sortedElements.get(i)), priority)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isSibling(ChainElement element) {
+        return StringUtils.equals(element.getType(), orderedElement.getType())
+                && !StringUtils.equals(element.getId(), orderedElement.getId());
     }
 
     public Integer getPriorityAsInt(ChainElement element) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.util.DistinctByKey;
+import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compares list-based and id-keyed accumulation of chain diffs.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.qubership.integration.platform.designtime.catalog.benchmark.ChainDiffBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChainDiffBenchmark {
+    @Param({"1000", "10000"})
+    private int elements;
+
+    private List<ChainElement> chainElements;
+
+    @Setup
+    public void setUp() {
+        chainElements = new ArrayList<>(elements);
+        for (int i = 0; i < elements; i++) {
+            chainElements.add(ChainElement.builder()
+                    .id(UUID.randomUUID().toString())
+                    .type("script")
+                    .name("Element " + i)
+                    .build());
+        }
+    }
+
+    /**
+     * Former approach: {@code List.contains} and a linear scan by id on every add.
+     */
+    @Benchmark
+    public List<ChainElement> listAdd() {
+        List<ChainElement> created = new ArrayList<>();
+        for (ChainElement element : chainElements) {
+            if (!created.contains(element)
+                    || created.stream().noneMatch(it -> it.getId().equals(element.getId()))) {
+                created.add(element);
+            }
+        }
+        return created;
+    }
+
+    @Benchmark
+    public List<ChainElement> mapAdd() {
+        ChainDiff chainDiff = new ChainDiff();
+        chainElements.forEach(chainDiff::addCreatedElement);
+        return chainDiff.getCreatedElements();
+    }
+
+    /**
+     * Former approach: every merge rebuilds the accumulated list.
+     */
+    @Benchmark
+    public List<ChainElement> listMerge() {
+        List<ChainElement> created = new ArrayList<>();
+        for (ChainElement element : chainElements) {
+            created = Stream.concat(created.stream(), Stream.of(element))
+                    .filter(DistinctByKey.newInstance(ChainElement::getId))
+                    .collect(Collectors.toList());
+        }
+        return created;
+    }
+
+    @Benchmark
+    public List<ChainElement> mapMerge() {
+        ChainDiff chainDiff = new ChainDiff();
+        for (ChainElement element : chainElements) {
+            ChainDiff delta = new ChainDiff();
+            delta.addCreatedElement(element);
+            chainDiff.merge(delta);
+        }
+        return chainDiff.getCreatedElements();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ChainDiffBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationVersionExtractor;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares tree-based and streaming extraction of {@code info.version} on large specifications.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.qubership.integration.platform.designtime.catalog.benchmark.SpecificationVersionExtractorBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecificationVersionExtractorBenchmark {
+    @Param({"JSON", "YAML"})
+    private String format;
+
+    @Param({"1000", "10000"})
+    private int paths;
+
+    @Param({"true", "false"})
+    private boolean infoFirst;
+
+    private ObjectMapper objectMapper;
+    private YAMLMapper yamlMapper;
+    private SpecificationVersionExtractor extractor;
+    private String specification;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        yamlMapper = new YAMLMapper();
+        extractor = new SpecificationVersionExtractor(objectMapper, yamlMapper);
+
+        JsonNode document = objectMapper.readTree(buildJsonSpecification(paths, infoFirst));
+        specification = "JSON".equals(format)
+                ? objectMapper.writeValueAsString(document)
+                : yamlMapper.writeValueAsString(document);
+    }
+
+    /**
+     * Former approach: parse as JSON, fall back to YAML on failure.
+     */
+    @Benchmark
+    public String treeModel() {
+        try {
+            try {
+                return objectMapper.readTree(specification).get("info").get("version").asText("");
+            } catch (IOException | NullPointerException e) {
+                return yamlMapper.readTree(specification).get("info").get("version").asText("");
+            }
+        } catch (IOException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String streaming() throws IOException {
+        return extractor.extractVersion(specification, null);
+    }
+
+    private static String buildJsonSpecification(int paths, boolean infoFirst) {
+        String info = "\"info\":{\"title\":\"Benchmark API\",\"description\":\"Generated\",\"version\":\"1.2.3\"}";
+        StringBuilder sb = new StringBuilder("{\"openapi\":\"3.0.1\",");
+        if (infoFirst) {
+            sb.append(info).append(',');
+        }
+        sb.append("\"paths\":{");
+        for (int i = 0; i < paths; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"/api/v1/resources/").append(i).append("/{id}\":{")
+                    .append("\"get\":{\"operationId\":\"getResource").append(i).append("\",")
+                    .append("\"parameters\":[{\"name\":\"id\",\"in\":\"path\",\"required\":true,")
+                    .append("\"schema\":{\"type\":\"string\"}}],")
+                    .append("\"responses\":{\"200\":{\"description\":\"OK\",\"content\":{\"application/json\":")
+                    .append("{\"schema\":{\"type\":\"object\",\"properties\":{\"id\":{\"type\":\"string\"},")
+                    .append("\"name\":{\"type\":\"string\"},\"count\":{\"type\":\"integer\"}}}}}}}}}");
+        }
+        sb.append('}');
+        if (!infoFirst) {
+            sb.append(',').append(info);
+        }
+        return sb.append('}').toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SpecificationVersionExtractorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
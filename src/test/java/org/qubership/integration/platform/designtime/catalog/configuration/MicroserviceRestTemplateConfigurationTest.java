@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.configuration;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MicroserviceRestTemplateConfigurationTest {
+
+    private static final String RESPONSE = "ok";
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    public void initializeBeforeEach() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/spec", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        MicroserviceRestTemplateConfiguration configuration = new MicroserviceRestTemplateConfiguration();
+        ReflectionTestUtils.setField(configuration, "idleTimeout", Duration.ofSeconds(30));
+        meterRegistry = new SimpleMeterRegistry();
+        httpClient = configuration.discoveryHttpClient(meterRegistry, Duration.ofSeconds(1), Duration.ofMillis(300),
+                Duration.ofSeconds(1), 10, 4);
+        restTemplate = configuration.restTemplateDiscovery(new RestTemplateBuilder(), httpClient);
+    }
+
+    @AfterEach
+    public void finalizeAfterEach() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @DisplayName("Sequential requests to a service reuse a pooled connection")
+    @Test
+    public void connectionIsReusedTest() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(restTemplate.getForObject(url("/spec"), String.class), is(RESPONSE));
+        }
+
+        assertThat(clientPorts.size(), is(1));
+    }
+
+    @DisplayName("Requests not answered within the read timeout fail")
+    @Test
+    public void readTimeoutTest() {
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url("/slow"), String.class));
+    }
+
+    @DisplayName("Pool metrics are published with the client name")
+    @Test
+    public void poolMetricsTest() {
+        double maxTotal = meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "discovery")
+                .gauge()
+                .value();
+
+        assertThat(maxTotal, is(10.0));
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.configuration.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.designtime.catalog.service.ChainLocks;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ChainLockAspectConfigurationTest {
+
+    private static final String CHAIN_ID = "5f1c2b7e-3a9d-4c61-9e2f-7b8a0d4c3e21";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private ChainLocks chainLocks;
+    private EntityManager entityManager;
+    private SimpleMeterRegistry meterRegistry;
+    private ChainOperations operations;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        chainLocks = mock(ChainLocks.class);
+        when(chainLocks.acquire(CHAIN_ID)).thenAnswer(i -> {
+            lock.lock();
+            return lock;
+        });
+        entityManager = mock(EntityManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ChainLockAspectConfiguration aspect = new ChainLockAspectConfiguration(chainLocks, 3, meterRegistry);
+        ReflectionTestUtils.setField(aspect, "entityManager", entityManager);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ChainOperations(lock));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        operations = proxyFactory.getProxy();
+    }
+
+    @DisplayName("Chain lock is held while the operation runs and released after it")
+    @Test
+    public void lockIsHeldDuringOperationTest() {
+        assertThat(operations.modify(CHAIN_ID), is(true));
+
+        assertThat(lock.isLocked(), is(false));
+        verify(chainLocks, times(1)).acquire(CHAIN_ID);
+    }
+
+    @DisplayName("Chain lock is released when the operation throws")
+    @Test
+    public void lockIsReleasedOnExceptionTest() {
+        assertThrows(IllegalStateException.class, () -> operations.fail(CHAIN_ID));
+
+        assertThat(lock.isLocked(), is(false));
+        verify(chainLocks, times(1)).acquire(CHAIN_ID);
+    }
+
+    @DisplayName("Commutative operation is repeated under the same lock after a conflict")
+    @Test
+    public void retryOnConflictTest() {
+        assertThat(operations.retry(CHAIN_ID, 2), is(3));
+
+        assertThat(lock.isLocked(), is(false));
+        verify(chainLocks, times(1)).acquire(CHAIN_ID);
+        verify(entityManager, times(2)).clear();
+        assertThat(meterRegistry.get("qip.chains.conflicts").tag("outcome", "retried").counter().count(), is(2.0));
+    }
+
+    @DisplayName("Conflict is rethrown once retries are exhausted and the lock is released")
+    @Test
+    public void retriesExhaustedTest() {
+        assertThrows(OptimisticLockingFailureException.class, () -> operations.retry(CHAIN_ID, 10));
+
+        assertThat(lock.isLocked(), is(false));
+        assertThat(meterRegistry.get("qip.chains.conflicts").tag("outcome", "rejected").counter().count(), is(1.0));
+    }
+
+    @DisplayName("Operations without a chain id are not locked")
+    @Test
+    public void noChainIdTest() {
+        assertThat(operations.modify(null), is(false));
+
+        verify(chainLocks, never()).acquire(any());
+    }
+
+    public static class ChainOperations {
+        private final ReentrantLock lock;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        public ChainOperations() {
+            this(null);
+        }
+
+        public ChainOperations(ReentrantLock lock) {
+            this.lock = lock;
+        }
+
+        @ChainWriteOperation
+        public boolean modify(String chainId) {
+            return lock.isHeldByCurrentThread();
+        }
+
+        @ChainWriteOperation
+        public void fail(String chainId) {
+            throw new IllegalStateException("Modification failed");
+        }
+
+        @ChainWriteOperation(retryOnConflict = true)
+        public int retry(String chainId, int conflicts) {
+            int attempt = attempts.incrementAndGet();
+            if (attempt <= conflicts) {
+                throw new OptimisticLockingFailureException("Chain was modified concurrently");
+            }
+            return attempt;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.configuration.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class UnsavedChainsMarkerTest {
+
+    private static final String FIRST_CHAIN_ID = "first-chain";
+    private static final String SECOND_CHAIN_ID = "second-chain";
+
+    private ChainRepository chainRepository;
+    private EntityManager entityManager;
+    private Query query;
+    private SimpleMeterRegistry meterRegistry;
+    private UnsavedChainsMarker unsavedChainsMarker;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        chainRepository = mock(ChainRepository.class);
+        entityManager = mock(EntityManager.class);
+        query = mock(Query.class);
+        when(entityManager.createQuery(anyString())).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.executeUpdate()).thenReturn(2);
+        meterRegistry = new SimpleMeterRegistry();
+        unsavedChainsMarker = new UnsavedChainsMarker(chainRepository, meterRegistry);
+        ReflectionTestUtils.setField(unsavedChainsMarker, "entityManager", entityManager);
+    }
+
+    @AfterEach
+    public void finalizeAfterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(unsavedChainsMarker);
+    }
+
+    @DisplayName("Chains modified in a transaction are marked with one update before commit")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void coalesceInTransactionTest() {
+        Chain loadedChain = Chain.builder().id(FIRST_CHAIN_ID).build();
+        mockSession(loadedChain);
+        TransactionSynchronizationManager.initSynchronization();
+
+        unsavedChainsMarker.register(FIRST_CHAIN_ID);
+        unsavedChainsMarker.register(SECOND_CHAIN_ID);
+        unsavedChainsMarker.register(FIRST_CHAIN_ID);
+
+        verifyNoInteractions(entityManager);
+        assertThat(TransactionSynchronizationManager.getSynchronizations().size(), is(1));
+        TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().get(0);
+        synchronization.beforeCommit(false);
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(entityManager).flush();
+        verify(query).setParameter(eq("ids"), ids.capture());
+        verify(query, times(1)).executeUpdate();
+        assertThat(ids.getValue(), containsInAnyOrder(FIRST_CHAIN_ID, SECOND_CHAIN_ID));
+        assertThat(loadedChain.isUnsavedChanges(), is(true));
+        assertThat(loadedChain.getLastImportHash(), is("0"));
+        assertThat(TransactionSynchronizationManager.hasResource(unsavedChainsMarker), is(false));
+        assertThat(meterRegistry.get("qip.chains.unsaved-changes.registered").counter().count(), is(3.0));
+        assertThat(meterRegistry.get("qip.chains.unsaved-changes.flushes").counter().count(), is(1.0));
+        verifyNoInteractions(chainRepository);
+    }
+
+    @DisplayName("Chain is marked at once without a transaction, unless it is already marked")
+    @Test
+    public void markWithoutTransactionTest() {
+        Chain chain = Chain.builder().id(FIRST_CHAIN_ID).build();
+        Chain unsavedChain = Chain.builder().id(SECOND_CHAIN_ID).build();
+        unsavedChain.setUnsavedChanges(true);
+        when(chainRepository.getReferenceById(FIRST_CHAIN_ID)).thenReturn(chain);
+        when(chainRepository.getReferenceById(SECOND_CHAIN_ID)).thenReturn(unsavedChain);
+
+        unsavedChainsMarker.register(FIRST_CHAIN_ID);
+        unsavedChainsMarker.register(SECOND_CHAIN_ID);
+
+        assertThat(chain.isUnsavedChanges(), is(true));
+        verify(chainRepository).save(chain);
+        verify(chainRepository, never()).save(unsavedChain);
+        verifyNoInteractions(entityManager);
+    }
+
+    private void mockSession(Chain loadedChain) {
+        SessionImplementor session = mock(SessionImplementor.class, RETURNS_DEEP_STUBS);
+        EntityPersister persister = mock(EntityPersister.class);
+        EntityKey loadedKey = mock(EntityKey.class);
+        EntityKey otherKey = mock(EntityKey.class);
+        when(entityManager.unwrap(SessionImplementor.class)).thenReturn(session);
+        when(session.getFactory().getMappingMetamodel().getEntityDescriptor(Chain.class)).thenReturn(persister);
+        when(session.generateEntityKey(FIRST_CHAIN_ID, persister)).thenReturn(loadedKey);
+        when(session.generateEntityKey(SECOND_CHAIN_ID, persister)).thenReturn(otherKey);
+        when(session.getPersistenceContextInternal().getEntity(loadedKey)).thenReturn(loadedChain);
+    }
+}
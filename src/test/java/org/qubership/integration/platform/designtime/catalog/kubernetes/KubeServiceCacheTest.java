@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.kubernetes;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.*;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.HttpURLConnection;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.core.Is.is;
+
+public class KubeServiceCacheTest {
+
+    private static final String NAMESPACE = "test-namespace";
+    private static final int PAGE_SIZE = 2;
+    private static final String CONSUMER = "discovery";
+
+    private RecordedKubeServiceClient client;
+    private KubeServiceCache cache;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        client = new RecordedKubeServiceClient();
+        cache = new KubeServiceCache(client, NAMESPACE, PAGE_SIZE, 1);
+    }
+
+    @DisplayName("Services are listed page by page on the first synchronization")
+    @Test
+    public void getServicesListsAllPagesTest() throws ApiException {
+        client.listed = List.of(service("a", "1"), service("b", "2"), service("c", "3"), service("d-v2", "4"));
+        client.listResourceVersion = "10";
+
+        List<KubeService> services = cache.getServices(CONSUMER);
+
+        assertThat(names(services), containsInAnyOrder("a", "b", "c"));
+        assertThat(client.listCalls, is(2));
+        assertThat(client.watchCalls, is(0));
+    }
+
+    @DisplayName("Only services added or modified since the previous run are returned as changed")
+    @Test
+    public void getChangedServicesAppliesWatchEventsTest() throws ApiException {
+        client.listed = List.of(service("a", "1"), service("b", "2"));
+        client.listResourceVersion = "10";
+        assertThat(names(cache.getChangedServices(CONSUMER)), containsInAnyOrder("a", "b"));
+
+        client.events = List.of(
+                new KubeServiceClient.ServiceEvent(KubeServiceClient.EVENT_MODIFIED, service("a", "11")),
+                new KubeServiceClient.ServiceEvent(KubeServiceClient.EVENT_ADDED, service("c", "12")),
+                new KubeServiceClient.ServiceEvent(KubeServiceClient.EVENT_DELETED, service("b", "13"))
+        );
+
+        assertThat(names(cache.getChangedServices(CONSUMER)), containsInAnyOrder("a", "c"));
+        assertThat(client.lastWatchResourceVersion, is("10"));
+
+        client.events = Collections.emptyList();
+        assertThat(cache.getChangedServices(CONSUMER), empty());
+        assertThat(client.lastWatchResourceVersion, is("13"));
+        assertThat(names(cache.getServices(CONSUMER)), containsInAnyOrder("a", "c"));
+    }
+
+    @DisplayName("Services are relisted and compared by resource version when the watch is expired")
+    @Test
+    public void getChangedServicesRelistsOnExpiredResourceVersionTest() throws ApiException {
+        client.listed = List.of(service("a", "1"), service("b", "2"));
+        client.listResourceVersion = "10";
+        cache.getServices(CONSUMER);
+
+        client.expired = true;
+        client.listed = List.of(service("a", "1"), service("b", "20"), service("c", "21"));
+        client.listResourceVersion = "30";
+
+        assertThat(names(cache.getChangedServices(CONSUMER)), containsInAnyOrder("b", "c"));
+
+        client.expired = false;
+        client.events = Collections.emptyList();
+        cache.getChangedServices(CONSUMER);
+        assertThat(client.lastWatchResourceVersion, is("30"));
+    }
+
+    @DisplayName("Reading changes by one consumer doesn't consume them for another one")
+    @Test
+    public void getChangedServicesPerConsumerTest() throws ApiException {
+        client.listed = List.of(service("a", "1"), service("b", "2"));
+        client.listResourceVersion = "10";
+        assertThat(names(cache.getServices(CONSUMER)), containsInAnyOrder("a", "b"));
+
+        client.events = List.of(new KubeServiceClient.ServiceEvent(KubeServiceClient.EVENT_MODIFIED, service("a", "11")));
+        assertThat(names(cache.getChangedServices("another")), containsInAnyOrder("a", "b"));
+
+        client.events = List.of(new KubeServiceClient.ServiceEvent(KubeServiceClient.EVENT_ADDED, service("c", "12")));
+        assertThat(names(cache.getChangedServices("another")), containsInAnyOrder("c"));
+
+        client.events = Collections.emptyList();
+        assertThat(names(cache.getChangedServices(CONSUMER)), containsInAnyOrder("a", "c"));
+        assertThat(cache.getChangedServices(CONSUMER), empty());
+        assertThat(cache.getChangedServices("another"), empty());
+    }
+
+    private static List<String> names(List<KubeService> services) {
+        return services.stream().map(KubeService::getName).toList();
+    }
+
+    private static V1Service service(String name, String resourceVersion) {
+        return new V1Service()
+                .metadata(new V1ObjectMeta().name(name).uid(name + "-uid").resourceVersion(resourceVersion))
+                .spec(new V1ServiceSpec().ports(List.of(new V1ServicePort().port(8080))));
+    }
+
+    private static class RecordedKubeServiceClient implements KubeServiceClient {
+        private List<V1Service> listed = Collections.emptyList();
+        private String listResourceVersion;
+        private List<ServiceEvent> events = Collections.emptyList();
+        private boolean expired;
+        private String lastWatchResourceVersion;
+        private int listCalls;
+        private int watchCalls;
+
+        @Override
+        public V1ServiceList listServices(String continueToken, int limit) {
+            listCalls++;
+            int from = continueToken == null ? 0 : Integer.parseInt(continueToken);
+            int to = Math.min(from + limit, listed.size());
+            return new V1ServiceList()
+                    .items(new ArrayList<>(listed.subList(from, to)))
+                    .metadata(new V1ListMeta()
+                            .resourceVersion(listResourceVersion)
+                            ._continue(to < listed.size() ? String.valueOf(to) : null));
+        }
+
+        @Override
+        public void watchServices(String resourceVersion, int timeoutSeconds, Consumer<ServiceEvent> consumer)
+                throws ApiException {
+            watchCalls++;
+            lastWatchResourceVersion = resourceVersion;
+            if (expired) {
+                throw new ApiException(HttpURLConnection.HTTP_GONE, "too old resource version");
+            }
+            events.forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.util.DistinctByKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ChainDiffTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("Adding and merging keep the order and duplicates handling of the list-based diff")
+    @Test
+    public void mergeMatchesListBasedDiffTest() throws Exception {
+        ChainElement first = element("first");
+        ChainElement second = element("second");
+        ChainElement third = element("third");
+        ChainElement fourth = element("fourth");
+        Dependency firstToSecond = dependency("first-second");
+        Dependency secondToThird = dependency("second-third");
+
+        ChainDiff chainDiff = new ChainDiff();
+        ListChainDiff expected = new ListChainDiff();
+        for (ChainElement element : List.of(first, second, first)) {
+            chainDiff.addCreatedElement(element);
+            chainDiff.addUpdatedElement(element);
+            chainDiff.addRemovedElement(element);
+            expected.created.add(element);
+            expected.updated.add(element);
+            expected.removed.add(element);
+        }
+        chainDiff.addCreatedDependency(firstToSecond);
+        expected.createdDependencies.add(firstToSecond);
+
+        for (List<ChainElement> elements : List.of(List.of(second, third), List.of(fourth, first))) {
+            ChainDiff delta = new ChainDiff();
+            delta.addCreatedElements(elements);
+            delta.addUpdatedElements(elements);
+            delta.addRemovedElements(elements);
+            delta.addCreatedDependencies(List.of(secondToThird, firstToSecond));
+            delta.addRemovedDependency(secondToThird);
+            chainDiff.merge(delta);
+            expected.merge(elements, List.of(secondToThird, firstToSecond), List.of(secondToThird));
+        }
+
+        assertThat(chainDiff.getCreatedElements(), contains(first, second, third, fourth));
+        assertThat(chainDiff.getUpdatedElements(), contains(expected.updated.toArray()));
+        assertThat(chainDiff.getRemovedElements(), contains(expected.removed.toArray()));
+        assertThat(chainDiff.getCreatedDependencies(), contains(firstToSecond, secondToThird));
+        assertThat(chainDiff.getRemovedDependencies(), contains(expected.removedDependencies.toArray()));
+        assertThat(toJson(chainDiff.getCreatedElements(), chainDiff.getUpdatedElements(), chainDiff.getRemovedElements(),
+                        chainDiff.getCreatedDependencies(), chainDiff.getRemovedDependencies()),
+                equalTo(toJson(expected.created.getValues(), expected.updated.getValues(), expected.removed.getValues(),
+                        expected.createdDependencies.getValues(), expected.removedDependencies.getValues())));
+    }
+
+    @DisplayName("The last update of an element wins and keeps the position of the first one")
+    @Test
+    public void lastUpdateWinsTest() {
+        ChainElement first = element("first");
+        ChainElement second = element("second");
+        ChainElement firstUpdated = element("first");
+        ChainDiff chainDiff = new ChainDiff();
+        chainDiff.addCreatedElements(List.of(first, second));
+        chainDiff.addUpdatedElements(List.of(first, second));
+
+        ChainDiff delta = new ChainDiff();
+        delta.addCreatedElement(firstUpdated);
+        delta.addUpdatedElement(firstUpdated);
+        chainDiff.merge(delta);
+
+        assertThat(chainDiff.getCreatedElements(), contains(first, second));
+        assertThat(chainDiff.getUpdatedElements(), contains(firstUpdated, second));
+    }
+
+    @DisplayName("Elements without id are not collapsed into one")
+    @Test
+    public void elementsWithoutIdTest() {
+        ChainElement first = element(null);
+        ChainElement second = element(null);
+        ChainDiff chainDiff = new ChainDiff();
+        chainDiff.addCreatedElements(List.of(first, second, first));
+
+        ChainDiff delta = new ChainDiff();
+        delta.addCreatedElement(second);
+        chainDiff.merge(delta);
+
+        assertThat(chainDiff.getCreatedElements(), contains(first, second));
+    }
+
+    @DisplayName("Getters return a read-only view instead of a copy")
+    @Test
+    public void gettersReturnViewTest() {
+        ChainDiff chainDiff = new ChainDiff();
+        List<ChainElement> updatedElements = chainDiff.getUpdatedElements();
+        ChainElement element = element("first");
+
+        chainDiff.addUpdatedElement(element);
+
+        assertThat(chainDiff.getUpdatedElements(), sameInstance(updatedElements));
+        assertThat(updatedElements, contains(element));
+        assertThrows(UnsupportedOperationException.class, () -> updatedElements.add(element));
+    }
+
+    private List<String> toJson(List<ChainElement> created, List<ChainElement> updated, List<ChainElement> removed,
+                                List<Dependency> createdDependencies, List<Dependency> removedDependencies) throws Exception {
+        List<String> json = new ArrayList<>();
+        for (List<ChainElement> elements : List.of(created, updated, removed)) {
+            json.add(objectMapper.writeValueAsString(elements.stream()
+                    .map(element -> Map.of("id", element.getId(), "name", element.getName()))
+                    .toList()));
+        }
+        for (List<Dependency> dependencies : List.of(createdDependencies, removedDependencies)) {
+            json.add(objectMapper.writeValueAsString(dependencies.stream().map(Dependency::getId).toList()));
+        }
+        return json;
+    }
+
+    private static ChainElement element(String id) {
+        return ChainElement.builder()
+                .id(id)
+                .type("script")
+                .name("Element " + id)
+                .build();
+    }
+
+    private static Dependency dependency(String id) {
+        Dependency dependency = new Dependency();
+        dependency.setId(id);
+        return dependency;
+    }
+
+    /**
+     * Former list-based diff: {@code List.contains} and a scan by id on add, distinct by id on merge.
+     */
+    private static class ListChainDiff {
+        private final EntityList<ChainElement> created = new EntityList<>(ChainElement::getId);
+        private final EntityList<ChainElement> updated = new EntityList<>(ChainElement::getId);
+        private final EntityList<ChainElement> removed = new EntityList<>(ChainElement::getId);
+        private final EntityList<Dependency> createdDependencies = new EntityList<>(Dependency::getId);
+        private final EntityList<Dependency> removedDependencies = new EntityList<>(Dependency::getId);
+
+        private void merge(List<ChainElement> elements, List<Dependency> created, List<Dependency> removed) {
+            this.created.merge(elements);
+            this.updated.merge(elements);
+            this.removed.merge(elements);
+            this.createdDependencies.merge(created);
+            this.removedDependencies.merge(removed);
+        }
+    }
+
+    private static class EntityList<T> {
+        private final Function<T, String> idExtractor;
+        private List<T> values = new ArrayList<>();
+
+        private EntityList(Function<T, String> idExtractor) {
+            this.idExtractor = idExtractor;
+        }
+
+        private List<T> getValues() {
+            return values;
+        }
+
+        private Object[] toArray() {
+            return values.toArray();
+        }
+
+        private void add(T entity) {
+            if (!values.contains(entity)
+                    || values.stream().noneMatch(it -> idExtractor.apply(it).equals(idExtractor.apply(entity)))) {
+                values.add(entity);
+            }
+        }
+
+        private void merge(List<T> delta) {
+            List<T> deduplicated = new ArrayList<>();
+            delta.forEach(entity -> {
+                if (!deduplicated.contains(entity)) {
+                    deduplicated.add(entity);
+                }
+            });
+            values = Stream.concat(values.stream(), deduplicated.stream())
+                    .filter(DistinctByKey.newInstance(idExtractor))
+                    .collect(Collectors.toList());
+        }
+    }
+}
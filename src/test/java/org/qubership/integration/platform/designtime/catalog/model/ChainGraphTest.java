@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class ChainGraphTest {
+
+    private static final String SCRIPT_TYPE = "script";
+    private static final String LOOP_TYPE = "loop-2";
+
+    @DisplayName("Diamond-shaped dependencies are ordered topologically and are not cyclic")
+    @Test
+    public void diamondIsAcyclicTest() {
+        ChainElement start = element("start");
+        ChainElement left = element("left");
+        ChainElement right = element("right");
+        ChainElement end = element("end");
+
+        ChainGraph graph = ChainGraph.of(
+                List.of(end, right, left, start),
+                List.of(dependency(start, left), dependency(start, right), dependency(left, end), dependency(right, end))
+        );
+
+        assertThat(graph.isAcyclic(), is(true));
+        int[] order = graph.getTopologicalOrder();
+        assertThat(order.length, is(4));
+        assertThat(graph.getElement(order[0]), is(start));
+        assertThat(graph.getElement(order[3]), is(end));
+        assertThat(graph.getInputs(graph.indexOf(end)).length, is(2));
+        assertThat(graph.anyUpstream(graph.indexOf(end), index -> graph.getElement(index) == start), is(true));
+    }
+
+    @DisplayName("Elements on dependency cycles are detected, elements depending on them are not ordered")
+    @Test
+    public void cycleIsDetectedTest() {
+        ChainElement start = element("start");
+        ChainElement first = element("first");
+        ChainElement second = element("second");
+        ChainElement after = element("after");
+
+        ChainGraph graph = ChainGraph.of(
+                List.of(start, first, second, after),
+                List.of(dependency(start, first), dependency(first, second), dependency(second, first), dependency(second, after))
+        );
+
+        assertThat(graph.isAcyclic(), is(false));
+        assertThat(graph.isOnCycle(graph.indexOf(start)), is(false));
+        assertThat(graph.isOnCycle(graph.indexOf(first)), is(true));
+        assertThat(graph.isOnCycle(graph.indexOf(second)), is(true));
+        assertThat(graph.isOnCycle(graph.indexOf(after)), is(false));
+        assertThat(graph.getTopologicalOrder().length, is(1));
+        assertThat(graph.anyUpstream(graph.indexOf(first), index -> graph.getElement(index) == after), is(false));
+    }
+
+    @DisplayName("Parent and child links and type ordinals are indexed")
+    @Test
+    public void hierarchyAndTypesTest() {
+        ContainerChainElement loop = ContainerChainElement.builder().id("loop").type(LOOP_TYPE).build();
+        ChainElement child = element("child");
+        child.setParent(loop);
+        ChainElement root = element("root");
+
+        ChainGraph graph = ChainGraph.of(List.of(loop, child, root), List.of());
+
+        int loopIndex = graph.indexOf("loop");
+        assertThat(graph.getParent(graph.indexOf(child)), is(loopIndex));
+        assertThat(graph.getParent(loopIndex), is(ChainGraph.NONE));
+        assertThat(graph.getChildren(loopIndex).length, is(1));
+        assertThat(graph.getTypeOrdinal(graph.indexOf(child)), is(graph.getTypeOrdinal(graph.indexOf(root))));
+        assertThat(graph.matchTypes(LOOP_TYPE::equals).get(graph.getTypeOrdinal(loopIndex)), is(true));
+        assertThat(graph.matchTypes(LOOP_TYPE::equals).cardinality(), is(1));
+    }
+
+    private static ChainElement element(String id) {
+        return ChainElement.builder().id(id).type(SCRIPT_TYPE).build();
+    }
+
+    private static Dependency dependency(ChainElement from, ChainElement to) {
+        Dependency dependency = new Dependency();
+        dependency.setElementFrom(from);
+        dependency.setElementTo(to);
+        return dependency;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.qubership.integration.platform.designtime.catalog.exception.GlobalExceptionHandler;
+import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainDiffResponse;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.BulkCreateElementsRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.ElementValidationErrorDTO;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ChainDiffMapper;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ElementMapper;
+import org.qubership.integration.platform.designtime.catalog.service.ActionLogWriter;
+import org.qubership.integration.platform.designtime.catalog.service.TransferableElementService;
+import org.qubership.integration.platform.designtime.catalog.service.UsedPropertiesAnalyzer;
+import org.qubership.integration.platform.designtime.catalog.service.codeview.ElementsCodeviewService;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Element controller test")
+@ExtendWith(MockitoExtension.class)
+public class ElementControllerTest {
+
+    private static final String CHAIN_ID = "071eeb14-f124-4384-9b92-7ffa8ae9c23b";
+    private static final String BULK_URL = "/v1/chains/" + CHAIN_ID + "/elements/bulk";
+    private static final String VALIDATION_URL = "/v1/chains/" + CHAIN_ID + "/elements/validation";
+
+    @Mock
+    TransferableElementService transferableElementService;
+    @Mock
+    ElementsCodeviewService elementsCodeviewService;
+    @Mock
+    UsedPropertiesAnalyzer usedPropertiesAnalyzer;
+    @Mock
+    ElementMapper elementMapper;
+    @Mock
+    ChainDiffMapper chainDiffMapper;
+    @Mock
+    ActionLogWriter actionLogWriter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        ElementController controller = new ElementController(elementsCodeviewService, elementMapper,
+                chainDiffMapper, actionLogWriter, transferableElementService, usedPropertiesAnalyzer);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @DisplayName("Creating elements in bulk")
+    @Test
+    public void createElementsTest() throws Exception {
+        ChainDiff chainDiff = new ChainDiff();
+        when(transferableElementService.createAll(eq(CHAIN_ID), any(BulkCreateElementsRequest.class))).thenReturn(chainDiff);
+        when(chainDiffMapper.asResponse(eq(chainDiff))).thenReturn(new ChainDiffResponse());
+
+        mockMvc.perform(post(BULK_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "elements": [{"ref": "sender", "type": "test-sender", "children": []}],
+                                  "dependencies": [{"from": "trigger", "to": "sender"}]
+                                }"""))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<BulkCreateElementsRequest> captor = ArgumentCaptor.forClass(BulkCreateElementsRequest.class);
+        verify(transferableElementService).createAll(eq(CHAIN_ID), captor.capture());
+        assertThat(captor.getValue().getElements(), hasSize(1));
+        assertThat(captor.getValue().getElements().get(0).getRef(), equalTo("sender"));
+        assertThat(captor.getValue().getDependencies(), hasSize(1));
+    }
+
+    @DisplayName("Creating elements in bulk with missing elements or dependencies")
+    @Test
+    public void createElementsWithNullListsTest() throws Exception {
+        mockMvc.perform(post(BULK_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"elements\": null, \"dependencies\": []}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post(BULK_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"elements\": [], \"dependencies\": null}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post(BULK_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"elements\": [null], \"dependencies\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(transferableElementService, never()).createAll(any(), any());
+    }
+
+    @DisplayName("Creating elements in bulk with an incomplete dependency")
+    @Test
+    public void createElementsWithIncompleteDependencyTest() throws Exception {
+        mockMvc.perform(post(BULK_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "elements": [{"ref": "sender", "type": "test-sender"}],
+                                  "dependencies": [{"to": "sender"}]
+                                }"""))
+                .andExpect(status().isBadRequest());
+
+        verify(transferableElementService, never()).createAll(any(), any());
+    }
+
+    @DisplayName("Validating elements of the chain")
+    @Test
+    public void validateElementsTest() throws Exception {
+        when(transferableElementService.validateChain(eq(CHAIN_ID))).thenReturn(List.of(ElementValidationErrorDTO.builder()
+                .elementId("04fd1014-e252-4e68-a5b0-abadbba5297b")
+                .elementName("Test case")
+                .elementType("test-case")
+                .message("Value not found for value")
+                .build()));
+
+        mockMvc.perform(get(VALIDATION_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].elementId").value("04fd1014-e252-4e68-a5b0-abadbba5297b"))
+                .andExpect(jsonPath("$[0].elementType").value("test-case"))
+                .andExpect(jsonPath("$[0].message").value("Value not found for value"));
+    }
+
+    @DisplayName("Validating elements of a valid chain")
+    @Test
+    public void validateValidElementsTest() throws Exception {
+        when(transferableElementService.validateChain(eq(CHAIN_ID))).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(get(VALIDATION_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+}
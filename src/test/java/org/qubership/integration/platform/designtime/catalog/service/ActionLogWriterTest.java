@@ -0,0 +1,255 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.User;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.catalog.service.ActionsLogService;
+import org.qubership.integration.platform.designtime.catalog.logging.constant.ContextHeaders;
+import org.qubership.integration.platform.designtime.catalog.service.ActionLogWriter.OverflowPolicy;
+import org.slf4j.MDC;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ActionLogWriterTest {
+
+    private static final String REQUEST_ID = "8f0c2b7e-1d44-4c5e-9a51-2f4b7e0d9c31";
+
+    private final List<String> writtenRequestIds = new CopyOnWriteArrayList<>();
+    private ActionsLogService actionsLogService;
+    private PlatformTransactionManager transactionManager;
+    private User user;
+    private SimpleMeterRegistry meterRegistry;
+    private Session session;
+    private ActionLogWriter writer;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        actionsLogService = mock(ActionsLogService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        user = mock(User.class);
+        meterRegistry = new SimpleMeterRegistry();
+        session = mock(Session.class);
+        doAnswer(i -> {
+            writtenRequestIds.add(MDC.get(ContextHeaders.REQUEST_ID));
+            return null;
+        }).when(actionsLogService).logAction(any(ActionLog.class));
+    }
+
+    @AfterEach
+    public void finalizeAfterEach() throws InterruptedException {
+        MDC.clear();
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    @DisplayName("Queued actions are written in one transaction per batch")
+    @Test
+    public void actionsAreWrittenInBatchesTest() {
+        writer = createWriter(3, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 3; i++) {
+            writer.logAction(ActionLog.builder().build());
+        }
+
+        verify(actionsLogService, timeout(1000).times(3)).logAction(any(ActionLog.class));
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @DisplayName("Queued actions are written on shutdown")
+    @Test
+    public void queuedActionsAreFlushedOnShutdownTest() throws InterruptedException {
+        writer = createWriter(100, Duration.ofMillis(200));
+
+        writer.logAction(ActionLog.builder().build());
+        writer.logAction(ActionLog.builder().build());
+        writer.destroy();
+
+        verify(actionsLogService, times(2)).logAction(any(ActionLog.class));
+
+        writer.logAction(ActionLog.builder().build());
+
+        verify(actionsLogService, times(3)).logAction(any(ActionLog.class));
+    }
+
+    @DisplayName("Caller context and user are captured and the context is restored on the writer thread")
+    @Test
+    public void callerContextIsRestoredTest() {
+        writer = createWriter(1, Duration.ofMillis(200));
+        MDC.put(ContextHeaders.REQUEST_ID, REQUEST_ID);
+        ActionLog action = ActionLog.builder().build();
+
+        writer.logAction(action);
+        MDC.clear();
+
+        verify(actionsLogService, timeout(1000)).logAction(action);
+        assertThat(writtenRequestIds, equalTo(List.of(REQUEST_ID)));
+        assertThat(action.getRequestId(), equalTo(REQUEST_ID));
+        assertThat(action.getUser(), sameInstance(user));
+    }
+
+    @DisplayName("Actions of a failed batch are written one by one and only the failing one is lost")
+    @Test
+    public void failedBatchIsWrittenOneByOneTest() {
+        writer = createWriter(3, Duration.ofSeconds(1));
+        ActionLog failingAction = ActionLog.builder().build();
+        doThrow(new IllegalStateException("Constraint violation"))
+                .when(actionsLogService).logAction(argThat(action -> action == failingAction));
+
+        writer.logAction(ActionLog.builder().build());
+        writer.logAction(failingAction);
+        writer.logAction(ActionLog.builder().build());
+
+        verify(actionsLogService, timeout(1000).times(5)).logAction(any(ActionLog.class));
+        verify(actionsLogService, times(2)).logAction(argThat(action -> action == failingAction));
+        verify(transactionManager, times(4)).getTransaction(any());
+        assertThat(meterRegistry.counter("qip.actions-log.writer.lost").count(), equalTo(1.0));
+    }
+
+    @DisplayName("Actions written by the caller on queue overflow are committed in a new transaction")
+    @Test
+    public void overflowAfterCommitIsCommittedTest() {
+        RowsTransactionManager rowsTransactionManager = new RowsTransactionManager();
+        doAnswer(i -> {
+            rowsTransactionManager.insert(i.getArgument(0));
+            return null;
+        }).when(actionsLogService).logAction(any(ActionLog.class));
+        writer = createWriter(rowsTransactionManager, 1, 1, Duration.ofSeconds(10));
+        List<ActionLog> actions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            actions.add(ActionLog.builder().build());
+        }
+
+        new TransactionTemplate(rowsTransactionManager).executeWithoutResult(status -> actions.forEach(writer::logAction));
+
+        // the writer thread takes at most two actions, one queued and one being written, the caller writes the rest
+        verify(actionsLogService, timeout(1000).times(5)).logAction(any(ActionLog.class));
+        verify(session, timeout(1000).atLeast(3)).setJdbcBatchSize(1);
+        assertThat(rowsTransactionManager.getCommittedRows().size(), equalTo(5));
+    }
+
+    private ActionLogWriter createWriter(int batchSize, Duration flushInterval) {
+        return createWriter(transactionManager, 100, batchSize, flushInterval);
+    }
+
+    private ActionLogWriter createWriter(PlatformTransactionManager transactionManager,
+                                         int queueCapacity,
+                                         int batchSize,
+                                         Duration flushInterval) {
+        AuditorAware<User> auditorAware = () -> Optional.of(user);
+        ActionLogWriter actionLogWriter = new ActionLogWriter(actionsLogService, Optional.of(auditorAware),
+                transactionManager, meterRegistry, queueCapacity, batchSize, flushInterval, OverflowPolicy.CALLER_WRITES);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        ReflectionTestUtils.setField(actionLogWriter, "entityManager", entityManager);
+        return actionLogWriter;
+    }
+
+    /**
+     * Keeps rows inserted within a transaction bound to the thread and makes them visible on commit,
+     * rows inserted into a transaction which is already committed are never visible.
+     */
+    private static class RowsTransactionManager extends AbstractPlatformTransactionManager {
+        private final List<ActionLog> committedRows = new CopyOnWriteArrayList<>();
+
+        private static class RowsTransaction {
+            private List<ActionLog> rows;
+        }
+
+        void insert(ActionLog row) {
+            @SuppressWarnings("unchecked")
+            List<ActionLog> rows = (List<ActionLog>) TransactionSynchronizationManager.getResource(this);
+            rows.add(row);
+        }
+
+        List<ActionLog> getCommittedRows() {
+            return committedRows;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            RowsTransaction transaction = new RowsTransaction();
+            @SuppressWarnings("unchecked")
+            List<ActionLog> rows = (List<ActionLog>) TransactionSynchronizationManager.getResource(this);
+            transaction.rows = rows;
+            return transaction;
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((RowsTransaction) transaction).rows != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            List<ActionLog> rows = new ArrayList<>();
+            ((RowsTransaction) transaction).rows = rows;
+            TransactionSynchronizationManager.bindResource(this, rows);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            ((RowsTransaction) transaction).rows = null;
+            return TransactionSynchronizationManager.unbindResource(this);
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            TransactionSynchronizationManager.bindResource(this, suspendedResources);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committedRows.addAll(((RowsTransaction) status.getTransaction()).rows);
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            TransactionSynchronizationManager.unbindResource(this);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ChainConcurrentModificationException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Lock;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ChainLocksTest {
+
+    private static final String CHAIN_ID = "a3d4a5e2-5b0f-4f9e-8d8e-0f3f6b1d2c11";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChainLocks chainLocks;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        chainLocks = new ChainLocks(16, Duration.ofMillis(50), meterRegistry);
+    }
+
+    @DisplayName("Chain lock is reentrant for the same thread")
+    @Test
+    public void acquireIsReentrantTest() {
+        Lock outer = chainLocks.acquire(CHAIN_ID);
+        Lock inner = chainLocks.acquire(CHAIN_ID);
+        inner.unlock();
+        outer.unlock();
+
+        assertThat(meterRegistry.counter("qip.chains.lock.contended").count(), is(0.0));
+    }
+
+    @DisplayName("Modification of a locked chain fails after timeout and is counted")
+    @Test
+    public void acquireTimesOutWhenChainIsLockedTest() {
+        Lock lock = chainLocks.acquire(CHAIN_ID);
+        try {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> CompletableFuture.runAsync(() -> chainLocks.acquire(CHAIN_ID)).get());
+
+            assertThat(exception.getCause(), instanceOf(ChainConcurrentModificationException.class));
+            assertThat(meterRegistry.counter("qip.chains.lock.contended").count(), is(1.0));
+            assertThat(meterRegistry.counter("qip.chains.lock.timeouts").count(), is(1.0));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -22,7 +22,6 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
 import org.qubership.integration.platform.designtime.catalog.testutils.TestUtils;
@@ -32,6 +31,7 @@ import org.qubership.integration.platform.designtime.catalog.testutils.mapper.Ch
 import org.qubership.integration.platform.designtime.catalog.testutils.mapper.ChainMapper;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
 import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
+import org.qubership.integration.platform.designtime.catalog.model.ChainGraph;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.DependencyValidationException;
 import org.qubership.integration.platform.designtime.catalog.utils.OldContainerUtils;
 import org.hamcrest.Matchers;
@@ -76,6 +76,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
         LibraryElementsService.class,
         OrderedElementService.class,
         ElementUtils.class,
+        ElementValidationRules.class,
         ElementService.class,
         OldContainerUtils.class,
         DependencyService.class,
@@ -120,13 +121,19 @@ public class DependencyServiceTest {
     @MockBean
     SwimlaneService swimlaneService;
     @MockBean
-    ActionsLogService actionsLogService;
+    ActionLogWriter actionLogWriter;
     @MockBean
     AuditingHandler jpaAuditingHandler;
     @MockBean
     DependencyRepository dependencyRepository;
     @MockBean
     EnvironmentService environmentService;
+    @MockBean
+    ElementHierarchyService elementHierarchyService;
+    @MockBean
+    ElementReferenceQueryService elementReferenceQueryService;
+    @MockBean
+    ChainGraphService chainGraphService;
 
     private final ChainMapper chainMapper;
     private final DependencyService dependencyService;
@@ -153,6 +160,10 @@ public class DependencyServiceTest {
     public void beforeEach() throws IOException {
         when(jpaAuditingHandler.markModified(any(ChainElement.class))).thenAnswer(i -> i.getArguments()[0]);
         when(dependencyRepository.save(any(Dependency.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(chainGraphService.getGraph(any())).thenAnswer(i -> ChainGraph.of(
+                elements.values(),
+                elements.values().stream().flatMap(element -> element.getInputDependencies().stream()).toList()
+        ));
         ChainImportDTO chainDTO = TestUtils.YAML_MAPPER.readValue(
                 TestUtils.getResourceFileContent("/testData/input/service/dependency/chain.yml"),
                 ChainImportDTO.class
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.integration.platform.catalog.model.system.OperationProtocol;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.system.IntegrationSystem;
+import org.qubership.integration.platform.catalog.service.ConfigParameterService;
+import org.qubership.integration.platform.catalog.service.exportimport.SpecificationImportService;
+import org.qubership.integration.platform.designtime.catalog.kubernetes.KubeOperator;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.DiscoveryServiceMapper;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class DiscoveryServiceTest {
+
+    private static final String BROKEN_SERVICE = "broken-service";
+
+    private SystemService systemService;
+    private PlatformTransactionManager transactionManager;
+    private EntityManager entityManager;
+    private RestTemplate restTemplate;
+    private NegativeProbeCache negativeProbeCache;
+    private SpecificationDownloader specificationDownloader;
+    private DiscoveryService discoveryService;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        systemService = mock(SystemService.class);
+        when(systemService.create(any(IntegrationSystem.class))).thenAnswer(i -> {
+            IntegrationSystem system = i.getArgument(0);
+            if (BROKEN_SERVICE.equals(system.getInternalServiceName())) {
+                throw new IllegalStateException("Duplicate key");
+            }
+            return system;
+        });
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(i -> new SimpleTransactionStatus());
+        DiscoveryLeaderElection leaderElection = mock(DiscoveryLeaderElection.class);
+        when(leaderElection.isLeader()).thenReturn(true);
+        restTemplate = mock(RestTemplate.class);
+        DiscoveryExecutor discoveryExecutor = mock(DiscoveryExecutor.class);
+        when(discoveryExecutor.probePort(any())).thenAnswer(i -> runProbe(i.getArgument(0)));
+        when(discoveryExecutor.probeUrl(any())).thenAnswer(i -> runProbe(i.getArgument(0)));
+        DiscoveryProbeMetrics probeMetrics = mock(DiscoveryProbeMetrics.class);
+        when(probeMetrics.record(any(), any())).thenAnswer(i -> i.<Supplier<?>>getArgument(1).get());
+        negativeProbeCache = mock(NegativeProbeCache.class);
+        when(negativeProbeCache.shouldProbe(any(), anyInt(), any())).thenReturn(true);
+        specificationDownloader = mock(SpecificationDownloader.class);
+
+        discoveryService = new DiscoveryService(
+                mock(KubeOperator.class),
+                systemService,
+                mock(EnvironmentService.class),
+                mock(SystemModelService.class),
+                mock(SpecificationImportService.class),
+                mock(SpecificationGroupService.class),
+                mock(YAMLMapper.class),
+                mock(ObjectMapper.class),
+                restTemplate,
+                mock(DiscoveryServiceMapper.class),
+                mock(ConfigParameterService.class),
+                mock(ActionLogWriter.class),
+                discoveryExecutor,
+                probeMetrics,
+                mock(SpecificationFingerprintService.class),
+                mock(DiscoveryProgressTracker.class),
+                transactionManager,
+                mock(SpecificationVersionExtractor.class),
+                negativeProbeCache,
+                leaderElection,
+                specificationDownloader);
+        entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        ReflectionTestUtils.setField(discoveryService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(discoveryService, "persistenceChunkSize", 2);
+        ReflectionTestUtils.setField(discoveryService, "serviceProbeDeadline", Duration.ofSeconds(5));
+    }
+
+    @DisplayName("Discovered services are saved in chunks, each in a new transaction")
+    @Test
+    public void persistInChunksTest() {
+        List<DiscoveryService.SpecificationDiscoveryErrorMsg> errorMessages = new ArrayList<>();
+
+        List<IntegrationSystem> systems = discoveryService.persistDiscoveredServices(
+                futures("first-service", "second-service", "third-service"), errorMessages);
+
+        assertThat(systems.stream().map(IntegrationSystem::getInternalServiceName).toList(),
+                containsInAnyOrder("first-service", "second-service", "third-service"));
+        assertThat(errorMessages.isEmpty(), is(true));
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues().stream().map(TransactionDefinition::getPropagationBehavior).toList(),
+                contains(TransactionDefinition.PROPAGATION_REQUIRES_NEW, TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(2)).commit(any());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @DisplayName("Services of a failed chunk are saved one by one in new transactions with a cleared session")
+    @Test
+    public void persistChunkFallbackTest() {
+        List<DiscoveryService.SpecificationDiscoveryErrorMsg> errorMessages = new ArrayList<>();
+
+        List<IntegrationSystem> systems = discoveryService.persistDiscoveredServices(
+                futures("first-service", BROKEN_SERVICE), errorMessages);
+
+        assertThat(systems.stream().map(IntegrationSystem::getInternalServiceName).toList(), contains("first-service"));
+        assertThat(errorMessages.stream().map(DiscoveryService.SpecificationDiscoveryErrorMsg::getServiceName).toList(),
+                contains(BROKEN_SERVICE));
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @DisplayName("Specification files of services which are not saved are deleted right away")
+    @Test
+    public void rejectedCandidateFilesAreDeletedTest() {
+        when(systemService.getByIdOrNull("existing-service")).thenReturn(new IntegrationSystem());
+        Path existingServiceFile = Path.of("existing-service.spec");
+        Path brokenServiceFile = Path.of("broken-service.spec");
+        List<CompletableFuture<List<DiscoveryService.DiscoveredSystemCandidate>>> futures = List.of(
+                CompletableFuture.completedFuture(List.of(candidate("existing-service", existingServiceFile))),
+                CompletableFuture.completedFuture(List.of(candidate(BROKEN_SERVICE, brokenServiceFile))));
+
+        List<IntegrationSystem> systems = discoveryService.persistDiscoveredServices(futures, new ArrayList<>());
+
+        assertThat(systems.isEmpty(), is(true));
+        verify(specificationDownloader, atLeastOnce()).delete(existingServiceFile);
+        verify(specificationDownloader).delete(brokenServiceFile);
+    }
+
+    @DisplayName("Port is skipped on next runs when it answers that it has no specifications")
+    @Test
+    public void emptyPortIsRecordedTest() {
+        HttpClientErrorException notFound = HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+        when(restTemplate.getForObject(anyString(), eq(String.class))).thenThrow(notFound);
+        KubeService service = KubeService.builder().name("empty-service").ports(List.of(8080)).build();
+
+        assertThat(discoveryService.runSpecificationDiscovery(service, OperationProtocol.HTTP), nullValue());
+
+        verify(negativeProbeCache).recordEmpty(service, 8080, OperationProtocol.HTTP);
+    }
+
+    @DisplayName("Port is probed again on the next run when it is not reachable")
+    @Test
+    public void unreachablePortIsNotRecordedTest() {
+        ResourceAccessException connectionRefused = new ResourceAccessException("Connection refused");
+        when(restTemplate.getForObject(anyString(), eq(String.class))).thenThrow(connectionRefused);
+        KubeService service = KubeService.builder().name("restarting-service").ports(List.of(8080)).build();
+
+        assertThat(discoveryService.runSpecificationDiscovery(service, OperationProtocol.HTTP), nullValue());
+
+        verify(negativeProbeCache, never()).recordEmpty(any(), anyInt(), any());
+    }
+
+    private static <T> CompletableFuture<T> runProbe(Supplier<T> probe) {
+        try {
+            return CompletableFuture.completedFuture(probe.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static DiscoveryService.DiscoveredSystemCandidate candidate(String serviceName, Path contentFile) {
+        KubeService service = KubeService.builder().name(serviceName).build();
+        DiscoveryService.SpecificationDiscoveryDTO specification = new DiscoveryService.SpecificationDiscoveryDTO(
+                "OpenAPI", "default", "/v3/api-docs", "application/json", contentFile, "1.0.0", "",
+                serviceName + ":8080/v3/api-docs", null, false);
+        DiscoveryService.SpecificationDiscoveryResult discoveryResult =
+                new DiscoveryService.SpecificationDiscoveryResult(serviceName + ":8080", List.of(specification));
+        return new DiscoveryService.DiscoveredSystemCandidate(service, OperationProtocol.HTTP, "", discoveryResult);
+    }
+
+    private static List<CompletableFuture<List<DiscoveryService.DiscoveredSystemCandidate>>> futures(String... serviceNames) {
+        List<CompletableFuture<List<DiscoveryService.DiscoveredSystemCandidate>>> futures = new ArrayList<>();
+        for (String serviceName : serviceNames) {
+            KubeService service = KubeService.builder().name(serviceName).build();
+            DiscoveryService.SpecificationDiscoveryResult discoveryResult =
+                    new DiscoveryService.SpecificationDiscoveryResult(serviceName + ":8080", Collections.emptyList());
+            futures.add(CompletableFuture.completedFuture(List.of(
+                    new DiscoveryService.DiscoveredSystemCandidate(service, OperationProtocol.HTTP, "", discoveryResult))));
+        }
+        return futures;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class ElementHierarchyServiceTest {
+
+    private static final String CHAIN_ID = "0d7a3f52-91c4-4b8e-a1f6-5c2e8d9b7a10";
+
+    private EntityManager entityManager;
+    private Query deleteQuery;
+    private ElementHierarchyService elementHierarchyService;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        entityManager = mock(EntityManager.class);
+        deleteQuery = mock(Query.class);
+        when(entityManager.createQuery(anyString())).thenReturn(deleteQuery);
+        when(deleteQuery.setParameter(anyString(), any())).thenReturn(deleteQuery);
+        when(entityManager.contains(any())).thenReturn(true);
+        elementHierarchyService = new ElementHierarchyService();
+        ReflectionTestUtils.setField(elementHierarchyService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(elementHierarchyService, "bulkBatchSize", 50);
+    }
+
+    @DisplayName("Persisting elements in bulk flushes them once under the bulk batch size")
+    @Test
+    public void persistAllFlushesInBatchesTest() {
+        AtomicReference<Integer> jdbcBatchSize = new AtomicReference<>(5);
+        Session session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getJdbcBatchSize()).thenAnswer(invocation -> jdbcBatchSize.get());
+        doAnswer(invocation -> {
+            jdbcBatchSize.set(invocation.getArgument(0));
+            return null;
+        }).when(session).setJdbcBatchSize(any());
+        List<Integer> batchSizesAtFlush = new ArrayList<>();
+        doAnswer(invocation -> batchSizesAtFlush.add(jdbcBatchSize.get())).when(entityManager).flush();
+        ContainerChainElement containerElement = ContainerChainElement.builder().id("container").build();
+        ChainElement senderElement = ChainElement.builder().id("sender").build();
+
+        elementHierarchyService.persistAll(List.of(containerElement, senderElement));
+
+        InOrder order = inOrder(entityManager);
+        order.verify(entityManager).persist(containerElement);
+        order.verify(entityManager).persist(senderElement);
+        order.verify(entityManager).flush();
+        verify(entityManager, never()).merge(any());
+        assertThat(batchSizesAtFlush, contains(50));
+        assertThat(jdbcBatchSize.get(), is(5));
+    }
+
+    @DisplayName("Deleting a subtree refreshes its chain and surviving parent after the bulk delete")
+    @Test
+    public void deleteSubtreeRefreshesOwnersTest() {
+        Chain chain = Chain.builder().id(CHAIN_ID).build();
+        ContainerChainElement switchElement = ContainerChainElement.builder().id("switch").chain(chain).build();
+        ContainerChainElement caseElement = ContainerChainElement.builder().id("case").chain(chain).build();
+        ChainElement senderElement = ChainElement.builder().id("sender").chain(chain).build();
+        caseElement.addChildrenElements(Collections.singletonList(senderElement));
+        switchElement.addChildrenElements(Collections.singletonList(caseElement));
+        chain.addElement(switchElement);
+        chain.addElement(caseElement);
+        chain.addElement(senderElement);
+
+        elementHierarchyService.deleteAll(List.of(caseElement, senderElement), Collections.emptyList());
+
+        InOrder order = inOrder(entityManager, deleteQuery);
+        order.verify(entityManager).flush();
+        order.verify(deleteQuery).executeUpdate();
+        order.verify(entityManager).detach(caseElement);
+        order.verify(entityManager).detach(senderElement);
+        order.verify(entityManager).refresh(chain);
+        order.verify(entityManager).refresh(switchElement);
+        verify(entityManager, never()).refresh(caseElement);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class ElementPropertyIndexInitializerTest {
+
+    private static final String SCHEMA = "catalog";
+    private static final String TABLE = "elements";
+    private static final String COLUMN = "properties";
+    private static final String TRY_LOCK_QUERY = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_QUERY = "SELECT pg_advisory_unlock(?)";
+    private static final String INDEX_VALID_QUERY = "SELECT indisvalid FROM pg_index WHERE indexrelid = to_regclass(?)";
+
+    private JdbcTemplate jdbcTemplate;
+    private Connection connection;
+    private ElementReferenceQueryService elementReferenceQueryService;
+    private ElementPropertyIndexInitializer indexInitializer;
+
+    private final Map<String, Boolean> lockResults = new HashMap<>();
+    private final Map<String, Boolean> validIndexes = new HashMap<>();
+    private final List<String> executed = new ArrayList<>();
+
+    @BeforeEach
+    public void initializeBeforeEach() throws SQLException {
+        AbstractEntityPersister persister = mock(AbstractEntityPersister.class);
+        when(persister.getTableName()).thenReturn(SCHEMA + "." + TABLE);
+        when(persister.getPropertyColumnNames("properties")).thenReturn(new String[] {COLUMN});
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class, RETURNS_DEEP_STUBS);
+        when(sessionFactory.getMappingMetamodel().getEntityDescriptor(ChainElement.class)).thenReturn(persister);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+
+        connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(false);
+        when(connection.prepareStatement(anyString())).thenAnswer(i -> prepareStatement(i.getArgument(0)));
+        Statement statement = mock(Statement.class);
+        when(statement.execute(anyString())).thenAnswer(i -> executed.add(i.getArgument(0)));
+        when(connection.createStatement()).thenReturn(statement);
+        lockResults.put(TRY_LOCK_QUERY, true);
+        lockResults.put(UNLOCK_QUERY, true);
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(i -> i.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+
+        elementReferenceQueryService = mock(ElementReferenceQueryService.class);
+        when(elementReferenceQueryService.getReferenceProperties()).thenReturn(List.of());
+        indexInitializer = new ElementPropertyIndexInitializer(jdbcTemplate, entityManagerFactory, elementReferenceQueryService);
+        ReflectionTestUtils.setField(indexInitializer, "enabled", true);
+    }
+
+    @DisplayName("Missing indexes are created, invalid ones are built again")
+    @Test
+    public void maintainIndexesTest() throws SQLException {
+        List<String> properties = ElementPropertyQueryService.INDEXED_PROPERTIES;
+        validIndexes.put(qualifiedIndexName(properties.get(0)), true);
+        validIndexes.put(qualifiedIndexName(properties.get(1)), false);
+
+        indexInitializer.createIndexes(null);
+
+        List<String> expected = new ArrayList<>();
+        expected.add(dropIndex(properties.get(1)));
+        for (String property : properties.subList(1, properties.size())) {
+            expected.add(createIndex(property));
+        }
+        assertThat(executed, contains(expected.toArray()));
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setAutoCommit(true);
+        inOrder.verify(connection).prepareStatement(TRY_LOCK_QUERY);
+        inOrder.verify(connection).prepareStatement(UNLOCK_QUERY);
+        inOrder.verify(connection).setAutoCommit(false);
+    }
+
+    @DisplayName("Reference properties of element descriptors are indexed once if their names are identifiers")
+    @Test
+    public void referencePropertiesTest() {
+        List<String> properties = ElementPropertyQueryService.INDEXED_PROPERTIES;
+        properties.forEach(property -> validIndexes.put(qualifiedIndexName(property), true));
+        when(elementReferenceQueryService.getReferenceProperties())
+                .thenReturn(List.of("elementId", properties.get(0), "x') OR true; --"));
+
+        indexInitializer.createIndexes(null);
+
+        assertThat(executed, contains(createIndex("elementId")));
+    }
+
+    @DisplayName("Indexes are skipped without unlocking while another replica holds the lock")
+    @Test
+    public void lockedByAnotherReplicaTest() throws SQLException {
+        lockResults.put(TRY_LOCK_QUERY, false);
+
+        indexInitializer.createIndexes(null);
+
+        assertThat(executed, empty());
+        verify(connection, never()).prepareStatement(UNLOCK_QUERY);
+        verify(connection).setAutoCommit(false);
+    }
+
+    @DisplayName("Lock is released when maintaining indexes fails")
+    @Test
+    public void unlockOnFailureTest() throws SQLException {
+        when(connection.createStatement()).thenThrow(new IllegalStateException("Connection is broken"));
+
+        assertThrows(IllegalStateException.class, () -> indexInitializer.createIndexes(null));
+
+        verify(connection).prepareStatement(UNLOCK_QUERY);
+        verify(connection).setAutoCommit(false);
+    }
+
+    @DisplayName("Connection is evicted from the pool when releasing the lock fails")
+    @Test
+    public void evictOnUnlockFailureTest() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        HikariDataSource hikariDataSource = mock(HikariDataSource.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikariDataSource);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        when(connection.prepareStatement(UNLOCK_QUERY)).thenThrow(new SQLException("Connection is broken"));
+
+        indexInitializer.createIndexes(null);
+
+        verify(hikariDataSource).evictConnection(connection);
+    }
+
+    private PreparedStatement prepareStatement(String query) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        AtomicReference<String> parameter = new AtomicReference<>();
+        doAnswer(i -> {
+            parameter.set(i.getArgument(1));
+            return null;
+        }).when(statement).setString(eq(1), anyString());
+        when(statement.executeQuery()).thenAnswer(i -> resultSet(INDEX_VALID_QUERY.equals(query)
+                ? validIndexes.get(parameter.get())
+                : lockResults.get(query)));
+        return statement;
+    }
+
+    private static ResultSet resultSet(Boolean value) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(value != null);
+        when(resultSet.getBoolean(1)).thenReturn(Boolean.TRUE.equals(value));
+        return resultSet;
+    }
+
+    private static String createIndex(String property) {
+        return "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indexName(property) + " ON " + SCHEMA + "." + TABLE
+                + " (jsonb_extract_path_text(" + COLUMN + ", '" + property + "'))";
+    }
+
+    private static String dropIndex(String property) {
+        return "DROP INDEX CONCURRENTLY IF EXISTS " + qualifiedIndexName(property);
+    }
+
+    private static String qualifiedIndexName(String property) {
+        return SCHEMA + "." + indexName(property);
+    }
+
+    private static String indexName(String property) {
+        return ("idx_" + TABLE + "_prop_" + property).toLowerCase(Locale.ROOT);
+    }
+}
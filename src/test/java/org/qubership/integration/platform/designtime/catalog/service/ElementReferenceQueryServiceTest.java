@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.library.ElementDescriptor;
+import org.qubership.integration.platform.catalog.model.library.ElementProperty;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ElementReferenceQueryServiceTest {
+
+    private static final String CHAIN_ID = "071eeb14-f124-4384-9b92-7ffa8ae9c23b";
+    private static final String REFERENCING_TYPE = "test-referencing";
+    private static final String REFERENCE_PROPERTY = "elementId";
+    private static final String ANOTHER_REFERENCING_TYPE = "test-another-referencing";
+    private static final String ANOTHER_REFERENCE_PROPERTY = "reuseElementId";
+    private static final String REFERENCED_ID = "08fe12e5-691c-4cdb-9ebb-a2cf0cc1515f";
+
+    private EntityManager entityManager;
+    private LibraryElementsService libraryService;
+    private ElementReferenceQueryService queryService;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        ElementProperty referenceProperty = mock(ElementProperty.class);
+        when(referenceProperty.getName()).thenReturn(REFERENCE_PROPERTY);
+        ElementDescriptor descriptor = mock(ElementDescriptor.class);
+        when(descriptor.getReferenceProperties()).thenReturn(Collections.singletonList(referenceProperty));
+
+        libraryService = mock(LibraryElementsService.class);
+        when(libraryService.getElementsWithReferenceProperties()).thenReturn(Map.of(REFERENCING_TYPE, descriptor));
+        entityManager = mock(EntityManager.class);
+        queryService = new ElementReferenceQueryService(libraryService);
+        ReflectionTestUtils.setField(queryService, "entityManager", entityManager);
+    }
+
+    @DisplayName("Referencing elements are filtered by reference property values in the query")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void findReferencingElementsTest() {
+        ChainElement element = ChainElement.builder().id("e1").type(REFERENCING_TYPE).build();
+        TypedQuery<ChainElement> query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(ChainElement.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(Collections.singletonList(element));
+
+        List<ChainElement> elements = queryService.findReferencingElements(CHAIN_ID, Set.of(REFERENCED_ID));
+
+        assertThat(elements, hasSize(1));
+        verify(entityManager).createQuery(
+                argThat((String text) -> text.contains("element.properties, :property0) in :ids")
+                        && !text.contains(REFERENCE_PROPERTY)),
+                eq(ChainElement.class));
+        verify(query).setParameter("property0", REFERENCE_PROPERTY);
+        verify(query).setParameter("chainId", CHAIN_ID);
+        verify(query).setParameter("types", Set.of(REFERENCING_TYPE));
+        verify(query).setParameter("ids", Set.of(REFERENCED_ID));
+    }
+
+    @DisplayName("Each reference property is matched with its own bound parameter")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void findReferencingElementsByManyPropertiesTest() {
+        ElementProperty referenceProperty = mock(ElementProperty.class);
+        when(referenceProperty.getName()).thenReturn(REFERENCE_PROPERTY);
+        ElementProperty anotherReferenceProperty = mock(ElementProperty.class);
+        when(anotherReferenceProperty.getName()).thenReturn(ANOTHER_REFERENCE_PROPERTY);
+        ElementDescriptor descriptor = mock(ElementDescriptor.class);
+        when(descriptor.getReferenceProperties()).thenReturn(List.of(referenceProperty));
+        ElementDescriptor anotherDescriptor = mock(ElementDescriptor.class);
+        when(anotherDescriptor.getReferenceProperties()).thenReturn(List.of(referenceProperty, anotherReferenceProperty));
+        Map<String, ElementDescriptor> descriptors = new LinkedHashMap<>();
+        descriptors.put(REFERENCING_TYPE, descriptor);
+        descriptors.put(ANOTHER_REFERENCING_TYPE, anotherDescriptor);
+        when(libraryService.getElementsWithReferenceProperties()).thenReturn(descriptors);
+        TypedQuery<ChainElement> query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(ChainElement.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(Collections.emptyList());
+
+        queryService.findReferencingElements(CHAIN_ID, Set.of(REFERENCED_ID));
+
+        verify(entityManager).createQuery(
+                argThat((String text) -> text.contains(":property0) in :ids or ")
+                        && text.contains(":property1) in :ids")
+                        && !text.contains(":property2")),
+                eq(ChainElement.class));
+        verify(query).setParameter("property0", REFERENCE_PROPERTY);
+        verify(query).setParameter("property1", ANOTHER_REFERENCE_PROPERTY);
+        verify(query).setParameter("types", descriptors.keySet());
+    }
+
+    @DisplayName("No query is executed without referenced elements")
+    @Test
+    public void findReferencingElementsWithoutIdsTest() {
+        assertThat(queryService.findReferencingElements(CHAIN_ID, Collections.emptySet()), empty());
+        verifyNoInteractions(entityManager);
+    }
+
+    @DisplayName("Only references to the given elements are returned")
+    @Test
+    public void getReferencesTest() {
+        ChainElement element = ChainElement.builder()
+                .id("e1")
+                .type(REFERENCING_TYPE)
+                .properties(new HashMap<>(Map.of(REFERENCE_PROPERTY, REFERENCED_ID)))
+                .build();
+
+        List<ElementReferenceQueryService.ElementReference> references =
+                queryService.getReferences(element, Set.of(REFERENCED_ID));
+
+        assertThat(references, hasSize(1));
+        assertThat(references.get(0).property(), equalTo(REFERENCE_PROPERTY));
+        assertThat(queryService.getReferences(element, Set.of("another")), empty());
+    }
+}
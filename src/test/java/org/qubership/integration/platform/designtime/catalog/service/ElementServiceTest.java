@@ -25,7 +25,6 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
@@ -81,6 +80,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
                 AuditingHandler.class,
                 OrderedElementService.class,
                 ElementUtils.class,
+                ElementValidationRules.class,
                 SwimlaneService.class,
                 ElementService.class
         }
@@ -98,11 +98,15 @@ public class ElementServiceTest {
     @MockBean
     ChainService chainService;
     @MockBean
-    ActionsLogService actionsLogService;
+    ActionLogWriter actionLogWriter;
     @MockBean
     AuditingHandler jpaAuditingHandler;
     @MockBean
     EnvironmentService environmentService;
+    @MockBean
+    ElementHierarchyService elementHierarchyService;
+    @MockBean
+    ElementReferenceQueryService elementReferenceQueryService;
 
     @Autowired
     private LibraryElementsService libraryService;
@@ -469,6 +473,93 @@ public class ElementServiceTest {
         assertThrows(ElementValidationException.class, () -> elementService.deleteByIdAndUpdateUnsaved(id));
     }
 
+    @DisplayName("Deleting selected subtrees")
+    @Test
+    public void deleteAllByIdsSubtreeTest() {
+        ChainElement senderElement1 = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_1_ID);
+        ChainElement senderElement2 = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_2_ID);
+        ContainerChainElement caseElement = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_1_ID);
+        ContainerChainElement switchElement = createContainerElement(TestElementUtils.TEST_SWITCH_TYPE, TestElementUtils.SWITCH_1_ID);
+        caseElement.addChildrenElements(Collections.singletonList(senderElement1));
+        switchElement.addChildrenElements(Collections.singletonList(caseElement));
+        Dependency sender2ToSwitchDependency = Dependency.of(senderElement2, switchElement);
+        sender2ToSwitchDependency.setId("bd042300-9402-4b6e-8110-62f2e4e09bc1");
+        List<ChainElement> subtree = Arrays.asList(switchElement, caseElement, senderElement1);
+        when(elementRepository.findAllById(eq(Collections.singletonList(switchElement.getId()))))
+                .thenReturn(Collections.singletonList(switchElement));
+        when(elementHierarchyService.findSubtrees(eq(Collections.singleton(switchElement.getId())))).thenReturn(subtree);
+        when(elementHierarchyService.findDependencies(any())).thenReturn(Collections.singletonList(sender2ToSwitchDependency));
+
+        ChainDiff chainDiff = elementService.deleteAllByIdsAndUpdateUnsaved(Collections.singletonList(switchElement.getId()));
+
+        assertThat(chainDiff.getRemovedElements(), hasSize(3));
+        assertThat(chainDiff.getRemovedElements(), hasItems(switchElement, caseElement, senderElement1));
+        assertThat(chainDiff.getRemovedDependencies(), hasSize(1));
+        assertThat(chainDiff.getRemovedDependencies(), hasItem(sender2ToSwitchDependency));
+        assertThat(chainDiff.getUpdatedElements(), empty());
+        assertThat(chainDiff.getCreatedElements(), empty());
+        verify(elementHierarchyService, times(1))
+                .deleteAll(eq(subtree), eq(Collections.singletonList(sender2ToSwitchDependency)));
+        verify(elementRepository, never()).deleteAll(any());
+    }
+
+    @DisplayName("Deleting selected children updates their parent")
+    @Test
+    public void deleteAllByIdsWithParentTest() {
+        ContainerChainElement containerElement = createContainerElement(TestElementUtils.TEST_CONTAINER_TYPE, TestElementUtils.CONTAINER_ID);
+        ContainerChainElement case1Element = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_1_ID);
+        ContainerChainElement case2Element = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_2_ID);
+        ContainerChainElement case3Element = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_3_ID);
+        String priorityProperty = libraryService.getElementDescriptor(TestElementUtils.TEST_CASE_TYPE).getPriorityProperty();
+        case1Element.getProperties().put(priorityProperty, 0);
+        case2Element.getProperties().put(priorityProperty, 1);
+        case3Element.getProperties().put(priorityProperty, 2);
+        containerElement.addChildrenElements(Arrays.asList(case1Element, case2Element, case3Element,
+                createContainerElement(TestElementUtils.TEST_DEFAULT_TYPE, TestElementUtils.DEFAULT_ID),
+                createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_1_ID)));
+        when(elementRepository.findAllById(eq(Collections.singletonList(case1Element.getId()))))
+                .thenReturn(Collections.singletonList(case1Element));
+        when(elementHierarchyService.findSubtrees(eq(Collections.singleton(case1Element.getId()))))
+                .thenReturn(Collections.singletonList(case1Element));
+        when(jpaAuditingHandler.markModified(any())).thenAnswer(i -> i.getArguments()[0]);
+        when(elementRepository.save(eq(containerElement))).thenAnswer(i -> i.getArguments()[0]);
+        when(elementRepository.saveAll(any())).thenAnswer(i -> i.getArguments()[0]);
+
+        ChainDiff chainDiff = elementService.deleteAllByIdsAndUpdateUnsaved(Collections.singletonList(case1Element.getId()));
+
+        assertThat(chainDiff.getRemovedElements(), hasSize(1));
+        assertThat(chainDiff.getRemovedElements(), hasItem(case1Element));
+        assertThat(chainDiff.getUpdatedElements(), hasItems(containerElement, case2Element, case3Element));
+        assertThat(containerElement.getElements(), not(hasItem(case1Element)));
+        assertThat(containerElement.getElements(), hasSize(4));
+        assertThat(case2Element.getProperty(priorityProperty), equalTo(0));
+        assertThat(case3Element.getProperty(priorityProperty), equalTo(1));
+        verify(elementHierarchyService, times(1)).deleteAll(eq(Collections.singletonList(case1Element)), any());
+    }
+
+    @DisplayName("Deleting selected children below the allowed quantity")
+    @Test
+    public void deleteAllByIdsBelowAllowedQuantityTest() {
+        ContainerChainElement containerElement = createContainerElement(TestElementUtils.TEST_CONTAINER_TYPE, TestElementUtils.CONTAINER_ID);
+        ContainerChainElement case1Element = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_1_ID);
+        ContainerChainElement case2Element = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_2_ID);
+        ContainerChainElement case3Element = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_3_ID);
+        String priorityProperty = libraryService.getElementDescriptor(TestElementUtils.TEST_CASE_TYPE).getPriorityProperty();
+        case1Element.getProperties().put(priorityProperty, 0);
+        case2Element.getProperties().put(priorityProperty, 1);
+        case3Element.getProperties().put(priorityProperty, 2);
+        containerElement.addChildrenElements(Arrays.asList(case1Element, case2Element, case3Element));
+        List<String> ids = Arrays.asList(case1Element.getId(), case2Element.getId());
+        when(elementRepository.findAllById(eq(ids))).thenReturn(Arrays.asList(case1Element, case2Element));
+        when(elementHierarchyService.findSubtrees(eq(new HashSet<>(ids)))).thenReturn(Arrays.asList(case1Element, case2Element));
+        when(jpaAuditingHandler.markModified(any())).thenAnswer(i -> i.getArguments()[0]);
+        when(elementRepository.save(eq(containerElement))).thenAnswer(i -> i.getArguments()[0]);
+        when(elementRepository.saveAll(any())).thenAnswer(i -> i.getArguments()[0]);
+
+        assertThrows(ElementValidationException.class, () -> elementService.deleteAllByIdsAndUpdateUnsaved(ids));
+        verify(elementHierarchyService, never()).deleteAll(any(), any());
+    }
+
     @DisplayName("Changing parent")
     @Test
     public void changeParentTest() {
@@ -24,7 +24,6 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
 import org.qubership.integration.platform.designtime.catalog.testutils.TestElementUtils;
@@ -34,7 +33,12 @@ import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementCreationException;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementTransferException;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementValidationException;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.BulkCreateElementsRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.BulkDependencyRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.BulkElementRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.CloneElementRequest;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.CreateElementRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.ElementValidationErrorDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.TransferElementRequest;
 import org.qubership.integration.platform.designtime.catalog.utils.OldContainerUtils;
 import org.hamcrest.Matchers;
@@ -60,9 +64,12 @@ import static org.mockito.Mockito.*;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 
+import java.sql.Timestamp;
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -77,6 +84,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
                 AuditingHandler.class,
                 OrderedElementService.class,
                 ElementUtils.class,
+                ElementValidationRules.class,
                 OldContainerUtils.class,
                 ElementService.class,
                 DependencyService.class,
@@ -99,11 +107,17 @@ public class TransferableElementServiceTest {
     @MockBean
     ChainService chainService;
     @MockBean
-    ActionsLogService actionsLogService;
+    ActionLogWriter actionLogWriter;
     @MockBean
     AuditingHandler jpaAuditingHandler;
     @MockBean
     EnvironmentService environmentService;
+    @MockBean
+    ElementHierarchyService elementHierarchyService;
+    @MockBean
+    ElementReferenceQueryService elementReferenceQueryService;
+    @MockBean
+    ChainGraphService chainGraphService;
 
     @Autowired
     private LibraryElementsService libraryService;
@@ -445,6 +459,166 @@ public class TransferableElementServiceTest {
         assertThrows(ElementTransferException.class, () -> transferableElementService.transfer(TestElementUtils.CHAIN_ID, request));
     }
 
+    @DisplayName("Creating chain elements in bulk with a dependency on an existing element")
+    @Test
+    public void createAllElementsAndDependencyTest() {
+        ChainElement triggerElement = createChainElement(TestElementUtils.TEST_TRIGGER_TYPE, TestElementUtils.TRIGGER_ID);
+        when(chainService.findById(eq(TestElementUtils.CHAIN_ID))).thenReturn(testChain);
+        when(elementRepository.findByIdAndChainId(eq(TestElementUtils.TRIGGER_ID), eq(TestElementUtils.CHAIN_ID))).thenReturn(triggerElement);
+        when(dependencyRepository.saveEntity(any(Dependency.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        BulkCreateElementsRequest request = BulkCreateElementsRequest.builder()
+                .elements(List.of(BulkElementRequest.builder()
+                        .ref("sender")
+                        .type(TestElementUtils.TEST_SENDER_TYPE)
+                        .name("Bulk sender")
+                        .build()))
+                .dependencies(List.of(BulkDependencyRequest.builder()
+                        .from(TestElementUtils.TRIGGER_ID)
+                        .to("sender")
+                        .build()))
+                .build();
+        ChainDiff chainDiff = transferableElementService.createAll(TestElementUtils.CHAIN_ID, request);
+
+        assertThat(chainDiff.getCreatedElements(), hasSize(1));
+        assertThat(chainDiff.getCreatedDependencies(), hasSize(1));
+        assertThat(chainDiff.getRemovedElements(), empty());
+
+        ChainElement actualElement = chainDiff.getCreatedElements().get(0);
+        Dependency actualDependency = chainDiff.getCreatedDependencies().get(0);
+
+        assertThat(actualElement.getType(), equalTo(TestElementUtils.TEST_SENDER_TYPE));
+        assertThat(actualElement.getName(), equalTo("Bulk sender"));
+        assertThat(actualElement.getChain(), equalTo(testChain));
+        assertThat(actualDependency.getElementFrom(), equalTo(triggerElement));
+        assertThat(actualDependency.getElementTo(), equalTo(actualElement));
+        verify(elementHierarchyService, times(1)).persistAll(eq(List.of(actualElement)));
+    }
+
+    @DisplayName("Creating chain elements in bulk persists nothing if any element is invalid")
+    @Test
+    public void createAllWithInvalidElementTest() {
+        when(chainService.findById(eq(TestElementUtils.CHAIN_ID))).thenReturn(testChain);
+
+        BulkCreateElementsRequest request = BulkCreateElementsRequest.builder()
+                .elements(List.of(
+                        BulkElementRequest.builder()
+                                .ref("sender")
+                                .type(TestElementUtils.TEST_SENDER_TYPE)
+                                .build(),
+                        BulkElementRequest.builder()
+                                .type(TestElementUtils.TEST_SENDER_TYPE)
+                                .children(List.of(BulkElementRequest.builder()
+                                        .type(TestElementUtils.TEST_SENDER_TYPE)
+                                        .build()))
+                                .build()))
+                .dependencies(List.of(BulkDependencyRequest.builder()
+                        .from(TestElementUtils.TRIGGER_ID)
+                        .to("sender")
+                        .build()))
+                .build();
+
+        assertThrows(ElementCreationException.class, () -> transferableElementService.createAll(TestElementUtils.CHAIN_ID, request));
+        verify(elementHierarchyService, never()).persistAll(any());
+        verify(dependencyRepository, never()).saveEntity(any(Dependency.class));
+    }
+
+    @DisplayName("Cloning a container with its children")
+    @Test
+    public void cloneAllSubtreeTest() {
+        ContainerChainElement containerElement = createContainerElement(TestElementUtils.TEST_CONTAINER_TYPE, TestElementUtils.CONTAINER_ID);
+        ChainElement senderElement1 = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_1_ID);
+        ChainElement senderElement2 = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_2_ID);
+        containerElement.addChildElement(senderElement1);
+        containerElement.addChildElement(senderElement2);
+        Dependency dependency = new Dependency();
+        dependency.setElementFrom(senderElement1);
+        dependency.setElementTo(senderElement2);
+        senderElement1.addOutputDependency(dependency);
+        senderElement2.addInputDependency(dependency);
+        List.of(containerElement, senderElement1, senderElement2).forEach(this::setTimestamps);
+        when(chainService.findById(eq(TestElementUtils.CHAIN_ID))).thenReturn(testChain);
+        when(elementHierarchyService.findSubtrees(eq(Set.of(TestElementUtils.CONTAINER_ID))))
+                .thenReturn(List.of(containerElement, senderElement1, senderElement2));
+
+        List<CloneElementRequest> requests = List.of(CloneElementRequest.builder().id(TestElementUtils.CONTAINER_ID).build());
+        List<ChainElement> copies = transferableElementService.cloneAll(TestElementUtils.CHAIN_ID, requests);
+
+        assertThat(copies, hasSize(1));
+        ChainElement copy = copies.get(0);
+        assertThat(copy, instanceOf(ContainerChainElement.class));
+        assertThat(copy.getId(), not(equalTo(TestElementUtils.CONTAINER_ID)));
+        assertThat(copy.getType(), equalTo(TestElementUtils.TEST_CONTAINER_TYPE));
+        List<ChainElement> copiedChildren = ((ContainerChainElement) copy).getElements();
+        assertThat(copiedChildren, hasSize(2));
+        assertThat(copiedChildren, everyItem(hasProperty("type", equalTo(TestElementUtils.TEST_SENDER_TYPE))));
+        assertThat(copiedChildren, everyItem(hasProperty("parent", sameInstance(copy))));
+        verify(elementHierarchyService, times(1)).persistAll(eq(List.of(copy, copiedChildren.get(0), copiedChildren.get(1))));
+        verify(elementRepository, never()).saveEntity(any(ChainElement.class));
+        verify(dependencyRepository, never()).saveEntity(any(Dependency.class));
+    }
+
+    @DisplayName("Cloning an element into a container of the chain")
+    @Test
+    public void cloneAllIntoContainerTest() {
+        ContainerChainElement caseElement = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_1_ID);
+        ChainElement senderElement = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_1_ID);
+        setTimestamps(senderElement);
+        when(chainService.findById(eq(TestElementUtils.CHAIN_ID))).thenReturn(testChain);
+        when(elementHierarchyService.findSubtrees(eq(Set.of(TestElementUtils.SENDER_1_ID)))).thenReturn(List.of(senderElement));
+        when(elementRepository.findById(eq(TestElementUtils.CASE_1_ID))).thenReturn(Optional.of(caseElement));
+
+        List<CloneElementRequest> requests = List.of(CloneElementRequest.builder()
+                .id(TestElementUtils.SENDER_1_ID)
+                .parent(TestElementUtils.CASE_1_ID)
+                .build());
+        List<ChainElement> copies = transferableElementService.cloneAll(TestElementUtils.CHAIN_ID, requests);
+
+        assertThat(copies, hasSize(1));
+        ChainElement copy = copies.get(0);
+        assertThat(copy.getParent(), equalTo(caseElement));
+        assertThat(caseElement.getElements(), hasItem(copy));
+        verify(jpaAuditingHandler, times(1)).markModified(eq(caseElement));
+        verify(elementHierarchyService, times(1)).persistAll(eq(List.of(copy)));
+    }
+
+    @DisplayName("Cloning a missing element")
+    @Test
+    public void cloneAllMissingElementTest() {
+        when(chainService.findById(eq(TestElementUtils.CHAIN_ID))).thenReturn(testChain);
+        when(elementHierarchyService.findSubtrees(any())).thenReturn(Collections.emptyList());
+
+        List<CloneElementRequest> requests = List.of(CloneElementRequest.builder().id(TestElementUtils.SENDER_1_ID).build());
+        assertThrows(ElementCreationException.class, () -> transferableElementService.cloneAll(TestElementUtils.CHAIN_ID, requests));
+        verify(elementHierarchyService, never()).persistAll(any());
+    }
+
+    @DisplayName("Validating all elements of a chain")
+    @Test
+    public void validateChainTest() {
+        ContainerChainElement switchElement = createContainerElement(TestElementUtils.TEST_SWITCH_TYPE, TestElementUtils.SWITCH_1_ID);
+        ContainerChainElement caseElement = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_1_ID);
+        ChainElement senderElement = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_1_ID);
+        senderElement.setProperties(new HashMap<>(Map.of("retryCount", 0)));
+        Chain chain = Chain.builder()
+                .id(TestElementUtils.CHAIN_ID)
+                .elements(List.of(switchElement, caseElement, senderElement))
+                .build();
+        when(chainService.findById(eq(TestElementUtils.CHAIN_ID))).thenReturn(chain);
+
+        List<ElementValidationErrorDTO> errors = transferableElementService.validateChain(TestElementUtils.CHAIN_ID);
+
+        Map<String, List<String>> messages = errors.stream().collect(Collectors.groupingBy(
+                ElementValidationErrorDTO::getElementId,
+                Collectors.mapping(ElementValidationErrorDTO::getMessage, Collectors.toList())));
+        assertThat(messages.keySet(), equalTo(Set.of(TestElementUtils.SWITCH_1_ID, TestElementUtils.CASE_1_ID)));
+        assertThat(messages.get(TestElementUtils.SWITCH_1_ID), equalTo(List.of(
+                "Number of test-case elements inside parent test-switch element is out of limits")));
+        assertThat(messages.get(TestElementUtils.CASE_1_ID), hasItems(
+                "Value not found for value",
+                "Element test-case should be only inside parent element: test-switch, test-container"));
+    }
+
     private static Stream<Arguments> transferElementsWithInvalidParentRestrictionsTestData() {
         return Stream.of(
                 Arguments.of(
@@ -513,6 +687,12 @@ public class TransferableElementServiceTest {
                 .build();
     }
 
+    private void setTimestamps(ChainElement element) {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        element.setCreatedWhen(timestamp);
+        element.setModifiedWhen(timestamp);
+    }
+
     private ChainElement createChainElement(String type, String id) {
         ElementDescriptor descriptor = libraryService.getElementDescriptor(type);
         return ChainElement.builder()
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.dto.system.UsedSystem;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class UsedSystemServiceTest {
+
+    private CriteriaQuery<Tuple> query;
+    private Expression<String> systemId;
+    private TypedQuery<Tuple> typedQuery;
+    private UsedSystemService usedSystemService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void initializeBeforeEach() {
+        EntityManager entityManager = mock(EntityManager.class);
+        CriteriaBuilder builder = mock(CriteriaBuilder.class);
+        query = mock(CriteriaQuery.class, RETURNS_SELF);
+        Root<ChainElement> root = mock(Root.class, RETURNS_DEEP_STUBS);
+        systemId = mock(Expression.class);
+        Expression<String> specificationId = mock(Expression.class);
+        typedQuery = mock(TypedQuery.class);
+        when(entityManager.getCriteriaBuilder()).thenReturn(builder);
+        when(builder.createTupleQuery()).thenReturn(query);
+        when(query.from(ChainElement.class)).thenReturn(root);
+        when(builder.function(eq("jsonb_extract_path_text"), eq(String.class), any(), any()))
+                .thenReturn(systemId, specificationId);
+        when(entityManager.createQuery(query)).thenReturn(typedQuery);
+        usedSystemService = new UsedSystemService();
+        ReflectionTestUtils.setField(usedSystemService, "entityManager", entityManager);
+    }
+
+    @DisplayName("Services are filtered by the requested ids in the query")
+    @Test
+    public void systemIdsFilterTest() {
+        List<String> systemIds = List.of("first-system");
+        when(typedQuery.getResultList()).thenReturn(List.of(row("first-system", "first-specification")));
+
+        List<UsedSystem> usedSystems = usedSystemService.getUsedSystems(null, systemIds);
+
+        verify(systemId).in(systemIds);
+        verify(query).distinct(true);
+        assertThat(usedSystems.size(), is(1));
+        assertThat(usedSystems.get(0).getSystemId(), is("first-system"));
+        assertThat(usedSystems.get(0).getUsedSystemModelIds(), contains("first-specification"));
+    }
+
+    @DisplayName("Without service ids all used services are selected")
+    @Test
+    public void noSystemIdsFilterTest() {
+        when(typedQuery.getResultList()).thenReturn(List.of());
+
+        List<UsedSystem> usedSystems = usedSystemService.getUsedSystems(List.of(), List.of());
+
+        verify(systemId, never()).in(anyCollection());
+        assertThat(usedSystems, empty());
+    }
+
+    @DisplayName("Distinct rows are grouped by service, missing properties are skipped")
+    @Test
+    public void groupRowsTest() {
+        when(typedQuery.getResultList()).thenReturn(new ArrayList<>(Arrays.asList(
+                row("first-system", "first-specification"),
+                row("first-system", "second-specification"),
+                row("second-system", null),
+                row(null, "third-specification"),
+                row(" ", "fourth-specification"),
+                row("third-system", "")
+        )));
+
+        List<UsedSystem> usedSystems = usedSystemService.getUsedSystems(List.of("chain"), null);
+
+        assertThat(usedSystems.stream().map(UsedSystem::getSystemId).toList(),
+                contains("first-system", "second-system", "third-system"));
+        assertThat(usedSystems.get(0).getUsedSystemModelIds(), contains("first-specification", "second-specification"));
+        assertThat(usedSystems.get(1).getUsedSystemModelIds(), empty());
+        assertThat(usedSystems.get(2).getUsedSystemModelIds(), empty());
+    }
+
+    private static Tuple row(String systemId, String specificationId) {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get(0, String.class)).thenReturn(systemId);
+        when(tuple.get(1, String.class)).thenReturn(specificationId);
+        return tuple;
+    }
+}
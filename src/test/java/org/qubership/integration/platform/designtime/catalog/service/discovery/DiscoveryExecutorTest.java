@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class DiscoveryExecutorTest {
+
+    private DiscoveryExecutor discoveryExecutor;
+
+    @AfterEach
+    public void finalizeAfterEach() {
+        discoveryExecutor.destroy();
+    }
+
+    @DisplayName("Cancelled probe is interrupted")
+    @ParameterizedTest(name = "#{index} => virtual threads: {0}")
+    @ValueSource(booleans = {true, false})
+    public void cancelInterruptsProbeTest(boolean virtualThreads) throws InterruptedException {
+        discoveryExecutor = new DiscoveryExecutor(virtualThreads, 2, 1, new SimpleMeterRegistry());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Future<Object> probe = discoveryExecutor.probePort(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+        probe.cancel(true);
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @DisplayName("Port probes waiting for URL probes don't exhaust URL probe threads")
+    @ParameterizedTest(name = "#{index} => virtual threads: {0}")
+    @ValueSource(booleans = {true, false})
+    public void nestedProbesCompleteTest(boolean virtualThreads) throws Exception {
+        discoveryExecutor = new DiscoveryExecutor(virtualThreads, 2, 1, new SimpleMeterRegistry());
+
+        Future<String> first = discoveryExecutor.probePort(() -> join(discoveryExecutor.probeUrl(() -> "first")));
+        Future<String> second = discoveryExecutor.probePort(() -> join(discoveryExecutor.probeUrl(() -> "second")));
+
+        assertThat(first.get(5, TimeUnit.SECONDS), is("first"));
+        assertThat(second.get(5, TimeUnit.SECONDS), is("second"));
+    }
+
+    @DisplayName("Probes running at once are limited by max probe threads")
+    @ParameterizedTest(name = "#{index} => virtual threads: {0}")
+    @ValueSource(booleans = {true, false})
+    public void probesAreBoundedTest(boolean virtualThreads) throws Exception {
+        discoveryExecutor = new DiscoveryExecutor(virtualThreads, 2, 2, new SimpleMeterRegistry());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Object>> probes = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            probes.add(discoveryExecutor.probeUrl(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return null;
+            }));
+        }
+        Thread.sleep(200);
+        assertThat(running.get(), is(2));
+        release.countDown();
+        for (Future<Object> probe : probes) {
+            probe.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(maxRunning.get(), is(2));
+    }
+
+    private static String join(Future<String> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
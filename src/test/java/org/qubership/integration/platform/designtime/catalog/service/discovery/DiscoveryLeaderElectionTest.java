@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class DiscoveryLeaderElectionTest {
+
+    private Connection connection;
+    private PreparedStatement tryLockStatement;
+    private PreparedStatement unlockStatement;
+    private DiscoveryLeaderElection leaderElection;
+
+    @BeforeEach
+    public void initializeBeforeEach() throws SQLException {
+        connection = mock(Connection.class);
+        tryLockStatement = statementReturning(true);
+        unlockStatement = statementReturning(true);
+        when(connection.prepareStatement(DiscoveryLeaderElection.TRY_LOCK_QUERY)).thenReturn(tryLockStatement);
+        when(connection.prepareStatement(DiscoveryLeaderElection.UNLOCK_QUERY)).thenReturn(unlockStatement);
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        leaderElection = new DiscoveryLeaderElection(jdbcTemplate, "designtime-catalog-0");
+    }
+
+    @DisplayName("Replica acquiring the lock becomes the leader and keeps the connection")
+    @Test
+    public void acquireTest() throws SQLException {
+        assertThat(leaderElection.tryAcquire(), is(true));
+        assertThat(leaderElection.isLeader(), is(true));
+        assertThat(leaderElection.tryAcquire(), is(false));
+
+        verify(connection).setAutoCommit(true);
+        verify(connection, never()).close();
+    }
+
+    @DisplayName("Replica not acquiring the lock returns the connection and does not take the lock over")
+    @Test
+    public void failToAcquireTest() throws SQLException {
+        PreparedStatement busyStatement = statementReturning(false);
+        when(connection.prepareStatement(DiscoveryLeaderElection.TRY_LOCK_QUERY)).thenReturn(busyStatement);
+
+        assertThat(leaderElection.tryAcquire(), is(false));
+        assertThat(leaderElection.isLeader(), is(false));
+
+        verify(connection).close();
+        verify(connection, never()).prepareStatement(DiscoveryLeaderElection.UNLOCK_QUERY);
+    }
+
+    @DisplayName("Connection is returned if the lock query fails")
+    @Test
+    public void lockQueryFailureTest() throws SQLException {
+        when(tryLockStatement.executeQuery()).thenThrow(new SQLException("connection reset"));
+
+        assertThat(leaderElection.tryAcquire(), is(false));
+        assertThat(leaderElection.isLeader(), is(false));
+
+        verify(connection).close();
+    }
+
+    @DisplayName("Leadership is kept while the lock connection is valid and lost once it is broken")
+    @Test
+    public void heartbeatTest() throws SQLException {
+        when(connection.isValid(anyInt())).thenReturn(true, false);
+        leaderElection.tryAcquire();
+
+        leaderElection.heartbeat();
+        assertThat(leaderElection.isLeader(), is(true));
+
+        leaderElection.heartbeat();
+        assertThat(leaderElection.isLeader(), is(false));
+        verify(unlockStatement, never()).executeQuery();
+    }
+
+    @DisplayName("Released leadership unlocks and returns the connection")
+    @Test
+    public void releaseTest() throws SQLException {
+        leaderElection.tryAcquire();
+
+        leaderElection.release();
+
+        assertThat(leaderElection.isLeader(), is(false));
+        InOrder order = inOrder(unlockStatement, connection);
+        order.verify(unlockStatement).executeQuery();
+        order.verify(connection).close();
+    }
+
+    private static PreparedStatement statementReturning(boolean value) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(value);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        return statement;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.integration.platform.catalog.service.ConfigParameterService;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class DiscoveryProgressTrackerTest {
+
+    private DiscoveryProgressTracker progressTracker;
+    private SseEmitter emitter;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        progressTracker = spy(new DiscoveryProgressTracker(mock(ConfigParameterService.class)));
+        emitter = mock(SseEmitter.class);
+        doReturn(emitter).when(progressTracker).createEmitter();
+        executor = Executors.newFixedThreadPool(8);
+        progressTracker.start();
+        progressTracker.setTotal(100);
+    }
+
+    @AfterEach
+    public void finalizeAfterEach() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("Events sent from several threads are written to an emitter one at a time")
+    @Test
+    public void sendsAreSerializedTest() throws Exception {
+        AtomicInteger writing = new AtomicInteger();
+        AtomicInteger maxWriting = new AtomicInteger();
+        doAnswer(i -> {
+            maxWriting.accumulateAndGet(writing.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            writing.decrementAndGet();
+            return null;
+        }).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        progressTracker.subscribe();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(executor.submit(() -> progressTracker.serviceProcessed("service")));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(maxWriting.get(), is(1));
+        verify(emitter, times(101)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @DisplayName("Timed out emitter is completed and receives no more events")
+    @Test
+    public void timeoutRemovesEmitterTest() throws Exception {
+        ArgumentCaptor<Runnable> onTimeout = ArgumentCaptor.forClass(Runnable.class);
+        progressTracker.subscribe();
+        verify(emitter).onTimeout(onTimeout.capture());
+
+        onTimeout.getValue().run();
+        progressTracker.serviceProcessed("service");
+
+        verify(emitter).complete();
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @DisplayName("Completed emitter receives no more events")
+    @Test
+    public void completionRemovesEmitterTest() throws Exception {
+        ArgumentCaptor<Runnable> onCompletion = ArgumentCaptor.forClass(Runnable.class);
+        progressTracker.subscribe();
+        verify(emitter).onCompletion(onCompletion.capture());
+
+        onCompletion.getValue().run();
+        progressTracker.serviceProcessed("service");
+
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @DisplayName("Completing discovery completes and drops subscribed emitters")
+    @Test
+    public void completeDropsEmittersTest() throws Exception {
+        progressTracker.subscribe();
+
+        progressTracker.complete();
+        progressTracker.serviceProcessed("service");
+
+        verify(emitter, times(1)).complete();
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.system.OperationProtocol;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.ConfigParameter;
+import org.qubership.integration.platform.catalog.service.ConfigParameterService;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class NegativeProbeCacheTest {
+
+    private static final int PORT = 5432;
+    private static final KubeService SERVICE = KubeService.builder()
+            .id("4c5e2a1b-8f0e-4b57-9a43-1f3c9d2e7a10")
+            .name("postgres")
+            .resourceVersion("1")
+            .ports(List.of(PORT))
+            .build();
+
+    private final AtomicReference<ConfigParameter> stored = new AtomicReference<>();
+    private ConfigParameterService configParameterService;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        configParameterService = mock(ConfigParameterService.class);
+        when(configParameterService.findByName(anyString(), anyString())).thenAnswer(i -> stored.get());
+        doAnswer(i -> {
+            stored.set(i.getArgument(0));
+            return null;
+        }).when(configParameterService).update(any(ConfigParameter.class));
+    }
+
+    @DisplayName("Empty port is skipped for 1, 2, 4 runs after consecutive failures")
+    @Test
+    public void backoffSkipsRunsTest() {
+        NegativeProbeCache cache = createCache();
+
+        List<Integer> probedRuns = new ArrayList<>();
+        for (int run = 1; run <= 11; run++) {
+            cache.startRun();
+            if (cache.shouldProbe(SERVICE, PORT, OperationProtocol.HTTP)) {
+                probedRuns.add(run);
+                cache.recordEmpty(SERVICE, PORT, OperationProtocol.HTTP);
+            }
+            cache.finishRun();
+        }
+
+        assertThat(probedRuns, equalTo(List.of(1, 3, 6, 11)));
+    }
+
+    @DisplayName("Clearing on another instance works with the last saved entries")
+    @Test
+    public void clearReloadsSavedEntriesTest() {
+        NegativeProbeCache replica = createCache();
+        replica.getEntries();
+
+        NegativeProbeCache leader = createCache();
+        leader.startRun();
+        leader.recordEmpty(SERVICE, PORT, OperationProtocol.HTTP);
+        leader.finishRun();
+
+        assertThat(replica.clear(SERVICE.getName()), equalTo(1));
+        assertThat(createCache().getEntries(), empty());
+    }
+
+    private NegativeProbeCache createCache() {
+        NegativeProbeCache cache = new NegativeProbeCache(configParameterService, new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxBackoffRuns", 32);
+        return cache;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.SpecificationDiscoveryException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SpecificationDownloaderTest {
+
+    private static final String SPECIFICATION = "{\"openapi\": \"3.0.1\"}";
+    private static final int MAX_SPEC_SIZE = 1024;
+
+    private HttpServer server;
+    private final RestTemplate restTemplate = new RestTemplate();
+    private SpecificationDownloader downloader;
+
+    @BeforeEach
+    public void initializeBeforeEach() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/spec", exchange -> {
+            byte[] body = SPECIFICATION.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.getResponseHeaders().add(HttpHeaders.ETAG, "\"v1\"");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.createContext("/large", exchange -> {
+            // chunked response without content length, the size is only known while streaming
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(new byte[MAX_SPEC_SIZE * 4]);
+            } catch (IOException e) {
+                // the client stops reading once the limit is exceeded
+            }
+        });
+        server.createContext("/not-modified", exchange -> {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+        });
+        server.start();
+
+        downloader = new SpecificationDownloader();
+        ReflectionTestUtils.setField(downloader, "maxSpecSize", DataSize.ofBytes(MAX_SPEC_SIZE));
+    }
+
+    @AfterEach
+    public void finalizeAfterEach() {
+        downloader.finishRun();
+        server.stop(0);
+    }
+
+    @DisplayName("Specification is streamed into a file of the run and hashed")
+    @Test
+    public void downloadTest() throws Exception {
+        downloader.startRun();
+
+        SpecificationDownloader.DownloadedSpecification specification =
+                downloader.download(restTemplate, url("/spec"), new HttpHeaders());
+
+        assertThat(specification.notModified(), is(false));
+        assertThat(specification.size(), is((long) SPECIFICATION.length()));
+        assertThat(specification.etag(), is("\"v1\""));
+        assertThat(specification.contentHash(), is(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(SPECIFICATION.getBytes(StandardCharsets.UTF_8)))));
+        assertThat(specification.contentFile().getParent(), is(getRunDirectory()));
+        assertThat(downloader.readContent(specification.contentFile(), specification.contentType()), is(SPECIFICATION));
+
+        downloader.finishRun();
+
+        assertThat(Files.exists(specification.contentFile()), is(false));
+    }
+
+    @DisplayName("Specification exceeding the max size is rejected and its file is deleted")
+    @Test
+    public void tooLargeTest() throws IOException {
+        downloader.startRun();
+        Path runDirectory = getRunDirectory();
+
+        assertThrows(SpecificationDiscoveryException.class,
+                () -> downloader.download(restTemplate, url("/large"), new HttpHeaders()));
+
+        try (Stream<Path> files = Files.list(runDirectory)) {
+            assertThat(files.count(), is(0L));
+        }
+    }
+
+    @DisplayName("Not modified response produces no file")
+    @Test
+    public void notModifiedTest() {
+        downloader.startRun();
+
+        SpecificationDownloader.DownloadedSpecification specification =
+                downloader.download(restTemplate, url("/not-modified"), new HttpHeaders());
+
+        assertThat(specification.notModified(), is(true));
+        assertThat(specification.contentFile(), nullValue());
+    }
+
+    @DisplayName("Downloads outside of a discovery run fail")
+    @Test
+    public void downloadOutsideOfRunTest() {
+        assertThrows(SpecificationDiscoveryException.class,
+                () -> downloader.download(restTemplate, url("/spec"), new HttpHeaders()));
+    }
+
+    private Path getRunDirectory() {
+        return (Path) ReflectionTestUtils.getField(downloader, "runDirectory");
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.ConfigParameter;
+import org.qubership.integration.platform.catalog.service.ConfigParameterService;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationFingerprintService.SpecificationFingerprint;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class SpecificationFingerprintServiceTest {
+
+    private static final String ADDRESS = "http://orders:8080/v3/api-docs";
+    private static final String REMOVED_ADDRESS = "http://removed:8080/v3/api-docs";
+
+    private final AtomicReference<ConfigParameter> stored = new AtomicReference<>();
+    private ConfigParameterService configParameterService;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        configParameterService = mock(ConfigParameterService.class);
+        when(configParameterService.findByName(anyString(), anyString())).thenAnswer(i -> stored.get());
+        doAnswer(i -> {
+            stored.set(i.getArgument(0));
+            return null;
+        }).when(configParameterService).update(any(ConfigParameter.class));
+    }
+
+    @DisplayName("Fingerprints are loaded once per run and saved at its end")
+    @Test
+    public void fingerprintsAreSavedPerRunTest() {
+        SpecificationFingerprintService service = createService();
+        service.startRun();
+        service.save(ADDRESS, fingerprint(System.currentTimeMillis()));
+        service.finishRun(true);
+
+        service.startRun();
+        assertThat(service.get(ADDRESS), notNullValue());
+        assertThat(service.get(ADDRESS), notNullValue());
+        service.finishRun(false);
+
+        verify(configParameterService, times(2)).findByName(anyString(), anyString());
+        verify(configParameterService, times(2)).update(any(ConfigParameter.class));
+    }
+
+    @DisplayName("Run over all services drops fingerprints it has not verified")
+    @Test
+    public void unverifiedFingerprintsAreDroppedTest() {
+        SpecificationFingerprintService service = createService();
+        service.startRun();
+        service.save(ADDRESS, fingerprint(System.currentTimeMillis()));
+        service.save(REMOVED_ADDRESS, fingerprint(System.currentTimeMillis()));
+        service.finishRun(true);
+
+        service.startRun();
+        service.save(ADDRESS, service.get(ADDRESS).reverified(null, null));
+        service.finishRun(false);
+
+        service.startRun();
+        assertThat(service.get(REMOVED_ADDRESS), notNullValue());
+        service.save(ADDRESS, service.get(ADDRESS).reverified(null, null));
+        service.finishRun(true);
+
+        service.startRun();
+        assertThat(service.get(ADDRESS), notNullValue());
+        assertThat(service.get(REMOVED_ADDRESS), nullValue());
+    }
+
+    @DisplayName("Reverified fingerprint is not expired and keeps previous validators")
+    @Test
+    public void reverifiedFingerprintIsNotExpiredTest() {
+        SpecificationFingerprintService service = createService();
+        service.startRun();
+        service.save(ADDRESS, fingerprint(System.currentTimeMillis() - Duration.ofDays(2).toMillis()));
+        assertThat(service.get(ADDRESS), nullValue());
+
+        SpecificationFingerprint expired = fingerprint(System.currentTimeMillis() - Duration.ofDays(2).toMillis());
+        service.save(ADDRESS, expired.reverified("\"v2\"", null));
+
+        SpecificationFingerprint actual = service.get(ADDRESS);
+        assertThat(actual, notNullValue());
+        assertThat(actual.etag(), equalTo("\"v2\""));
+        assertThat(actual.lastModified(), equalTo(expired.lastModified()));
+        assertThat(actual.contentHash(), equalTo(expired.contentHash()));
+    }
+
+    private static SpecificationFingerprint fingerprint(long verifiedWhen) {
+        return new SpecificationFingerprint("\"v1\"", "Wed, 14 Oct 2026 10:00:00 GMT", "3f2a", "1.0.0", verifiedWhen);
+    }
+
+    private SpecificationFingerprintService createService() {
+        SpecificationFingerprintService service = new SpecificationFingerprintService(configParameterService, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "fingerprintTtl", Duration.ofHours(24));
+        return service;
+    }
+}
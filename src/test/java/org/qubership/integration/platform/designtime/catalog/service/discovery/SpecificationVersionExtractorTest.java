@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class SpecificationVersionExtractorTest {
+
+    private final SpecificationVersionExtractor extractor =
+            new SpecificationVersionExtractor(new ObjectMapper(), new YAMLMapper());
+
+    private static Stream<Arguments> extractVersionTestData() {
+        return Stream.of(
+                Arguments.of(
+                        "JSON with info first",
+                        "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"t\",\"version\":\"1.2.3\"},\"paths\":{}}",
+                        null,
+                        "1.2.3"
+                ),
+                Arguments.of(
+                        "JSON with info after nested paths",
+                        "{\"paths\":{\"/a\":{\"get\":{\"info\":{\"version\":\"wrong\"}}}},\"info\":{\"version\":\"2.0\"}}",
+                        "application/json",
+                        "2.0"
+                ),
+                Arguments.of(
+                        "YAML with string version",
+                        "asyncapi: 2.0.0\ninfo:\n  title: t\n  version: '1.0.0'\nchannels: {}\n",
+                        null,
+                        "1.0.0"
+                ),
+                Arguments.of(
+                        "YAML with numeric version",
+                        "openapi: 3.0.1\ninfo:\n  version: 1.5\n",
+                        "application/yaml",
+                        "1.5"
+                ),
+                Arguments.of(
+                        "YAML served as JSON",
+                        "openapi: 3.0.1\ninfo:\n  version: 3\n",
+                        "application/json",
+                        "3"
+                ),
+                Arguments.of(
+                        "Document without version",
+                        "{\"info\":{\"title\":\"t\"}}",
+                        null,
+                        null
+                ),
+                Arguments.of(
+                        "Object version",
+                        "{\"info\":{\"version\":{\"major\":1}}}",
+                        null,
+                        ""
+                )
+        );
+    }
+
+    @DisplayName("Extracting info.version from a specification")
+    @ParameterizedTest(name = "#{index} => {0}")
+    @MethodSource("extractVersionTestData")
+    public void extractVersionTest(String scenario, String content, String contentType, String expected) throws IOException {
+        assertThat(extractor.extractVersion(content, contentType), equalTo(expected));
+    }
+}
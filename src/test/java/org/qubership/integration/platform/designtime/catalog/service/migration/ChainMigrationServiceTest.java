@@ -24,9 +24,9 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.cha
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
+import org.qubership.integration.platform.designtime.catalog.service.ActionLogWriter;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.ElementMigration;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.MigrationContext;
 import org.qubership.integration.platform.designtime.catalog.testutils.TestUtils;
@@ -101,7 +101,7 @@ public class ChainMigrationServiceTest {
     @MockBean
     private DependencyRepository dependencyRepository;
     @MockBean
-    private ActionsLogService actionsLogService;
+    private ActionLogWriter actionLogWriter;
     @MockBean
     private AuditingHandler jpaAuditingHandler;
     @Autowired